@@ -0,0 +1,87 @@
+package com.github.eikecochu.sqlbuilder.benchmarks;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.eikecochu.sqlbuilder.BindBuffer;
+import com.github.eikecochu.sqlbuilder.CompiledQuery;
+import com.github.eikecochu.sqlbuilder.SQLBuilder;
+
+/**
+ * Measures binding values to a statement of a compiled query. The stub
+ * statement stores the values only, so the results show the cost on the
+ * library side plus the type resolution that drivers do for setObject. Run
+ * with -prof gc to report the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindBenchmark {
+
+	private CompiledQuery compiled;
+	private BindBuffer bindings;
+	private PreparedStatement stmt;
+	private int id = 100000;
+
+	@Setup
+	public void setup() {
+		compiled = SQLBuilder.Select("*")
+				.from("ORDERS")
+				.where()
+				.col("CUSTOMER_ID", 0L)
+				.col("STATUS", "")
+				.col("AMOUNT")
+				.ge(0.0)
+				.col("ITEMS")
+				.le(0)
+				.col("ACTIVE", true)
+				.query()
+				.compile();
+		bindings = compiled.bindings();
+		stmt = new StubStatement();
+	}
+
+	/**
+	 * Binds every value with setObject, as done before the BindBuffer
+	 */
+	@Benchmark
+	public PreparedStatement setObject() throws SQLException {
+		final int i = id++;
+		final Object[] values = { (long) i, "OPEN", i * 0.5, i & 0xFF, (i & 1) == 0 };
+		for (int index = 0; index < values.length; index++)
+			stmt.setObject(index + 1, values[index]);
+		return stmt;
+	}
+
+	@Benchmark
+	public PreparedStatement objects() throws SQLException {
+		final int i = id++;
+		return compiled.bind(stmt, (long) i, "OPEN", i * 0.5, i & 0xFF, (i & 1) == 0);
+	}
+
+	@Benchmark
+	public PreparedStatement buffer() throws SQLException {
+		final int i = id++;
+		return compiled.bind(stmt, bindings.setLong(1, i)
+				.setString(2, "OPEN")
+				.setDouble(3, i * 0.5)
+				.setInt(4, i & 0xFF)
+				.setBoolean(5, (i & 1) == 0));
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.github.eikecochu.sqlbuilder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.eikecochu.sqlbuilder.Query;
+import com.github.eikecochu.sqlbuilder.QueryOptions;
+import com.github.eikecochu.sqlbuilder.SQLBuilder;
+
+/**
+ * Measures rendering of a single query and options instance shared by all
+ * benchmark threads. The throughput per thread should stay flat when the
+ * thread count grows, run for example with -t 1, -t 4 and -t max to compare.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+
+	@Param({ "true", "false" })
+	public boolean prepare;
+
+	private QueryOptions options;
+	private Query query;
+
+	@Setup
+	public void setup() {
+		options = new QueryOptions().ignoreNull(false);
+
+		query = SQLBuilder.With("Recents")
+				.as(SQLBuilder.Select("ITEM_ID", "MAX(TIME_CREATED) TIME_CREATED")
+						.from("RECENT_HISTORY")
+						.where()
+						.exists(SQLBuilder.Select("1")
+								.from("USERS")
+								.where()
+								.col("USERS.NAME")
+								.eqCol("RECENT_HISTORY.USER_NAME"))
+						.groupBy("ITEM_ID"))
+				.select()
+				.from("Recents")
+				.where()
+				.col("ITEM_ID")
+				.in(1, 2, 3, 4)
+				.col("DELETED")
+				.eq(null)
+				.col("TIME_CREATED")
+				.ge()
+				.all(SQLBuilder.Select("TIME_CREATED")
+						.from("ARCHIVE"))
+				.query();
+	}
+
+	@Benchmark
+	public Object shared() {
+		return prepare ? query.compile(options) : query.string(options);
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.github.eikecochu.sqlbuilder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.eikecochu.sqlbuilder.Name;
+
+/**
+ * Compares the keyword index behind Name.isKeyword with the previous lookup,
+ * which converted every name to uppercase before looking it up in
+ * Name.KEYWORDS.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordBenchmark {
+
+	private final String[] names = { "USER_ID", "user_name", "Select", "CREATED_AT", "t", "ORDER", "amount",
+			"ORDER_LINES", "rank", "DESCRIPTION" };
+
+	@Benchmark
+	public void hashSet(final Blackhole bh) {
+		for (final String name : names)
+			bh.consume(Name.KEYWORDS.contains(name.toUpperCase()));
+	}
+
+	@Benchmark
+	public void keywordIndex(final Blackhole bh) {
+		for (final String name : names)
+			bh.consume(Name.isKeyword(name));
+	}
+
+}
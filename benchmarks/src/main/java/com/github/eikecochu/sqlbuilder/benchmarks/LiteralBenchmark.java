@@ -0,0 +1,57 @@
+package com.github.eikecochu.sqlbuilder.benchmarks;
+
+import java.sql.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.eikecochu.sqlbuilder.Insert;
+import com.github.eikecochu.sqlbuilder.InsertValue;
+import com.github.eikecochu.sqlbuilder.QueryOptions;
+import com.github.eikecochu.sqlbuilder.SQLBuilder;
+
+/**
+ * Measures rendering of a multi-row INSERT with literal values, as used by
+ * export jobs that do not prepare their statements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LiteralBenchmark {
+
+	private QueryOptions options;
+	private Insert insert;
+
+	@Setup
+	public void setup() {
+		options = new QueryOptions().pretty(false);
+
+		insert = SQLBuilder.Insert("EXPORT");
+		final InsertValue id = insert.column("ID");
+		final InsertValue name = insert.column("NAME");
+		final InsertValue created = insert.column("CREATED");
+		for (int i = 0; i < 100; i++) {
+			id.value(i);
+			name.value(i % 10 == 0 ? "O'Brien " + i : "Name " + i);
+			created.value(new Date(1580000000000L + i * 86400000L));
+		}
+	}
+
+	@Benchmark
+	public String insert() {
+		return insert.string(options);
+	}
+
+}
@@ -0,0 +1,188 @@
+package com.github.eikecochu.sqlbuilder.benchmarks;
+
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.eikecochu.sqlbuilder.Condition;
+import com.github.eikecochu.sqlbuilder.Expression;
+import com.github.eikecochu.sqlbuilder.Insert;
+import com.github.eikecochu.sqlbuilder.Query;
+import com.github.eikecochu.sqlbuilder.QueryOptions;
+import com.github.eikecochu.sqlbuilder.RenderContext;
+import com.github.eikecochu.sqlbuilder.SQLBuilder;
+import com.github.eikecochu.sqlbuilder.Update;
+
+/**
+ * Measures rendering the typical statement shapes, pretty printed and compact,
+ * with literal values and with placeholders for prepared statements. The
+ * results in baseline.txt were recorded with -prof gc, which reports the
+ * allocation rate per operation as gc.alloc.rate.norm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBenchmark {
+
+	private static final int INSERT_ROWS = 100;
+	private static final int INSERT_COLUMNS = 10;
+	private static final int UPDATE_COLUMNS = 30;
+
+	@Param({ "true", "false" })
+	public boolean pretty;
+
+	@Param({ "true", "false" })
+	public boolean prepared;
+
+	private QueryOptions options;
+	private Query select;
+	private Query insert;
+	private Query update;
+	private Query nested;
+	private Query expression;
+	private Query call;
+
+	@Setup
+	public void setup() {
+		options = new QueryOptions().pretty(pretty);
+
+		select = SQLBuilder.Select("o.ORDER_ID", "o.CREATED", "c.NAME", "SUM(p.AMOUNT) AS PAID")
+				.from("ORDERS o")
+				.innerJoin("CUSTOMERS c")
+				.on()
+				.col("c.CUSTOMER_ID")
+				.eqCol("o.CUSTOMER_ID")
+				.leftJoin("PAYMENTS p")
+				.on()
+				.col("p.ORDER_ID")
+				.eqCol("o.ORDER_ID")
+				.col("p.STATUS", "BOOKED")
+				.where()
+				.col("o.STATUS")
+				.in("OPEN", "SHIPPED", "INVOICED")
+				.col("o.CREATED")
+				.ge("2020-01-01")
+				.group(new Condition().col("c.COUNTRY", "DE")
+						.or()
+						.col("c.COUNTRY", "AT"))
+				.col("c.NAME")
+				.like("A%")
+				.groupBy("o.ORDER_ID", "o.CREATED", "c.NAME")
+				.orderBy("o.CREATED DESC")
+				.query();
+
+		final Insert rows = SQLBuilder.Insert("ORDER_ITEMS");
+		for (int c = 0; c < INSERT_COLUMNS; c++) {
+			final Object[] values = new Object[INSERT_ROWS];
+			for (int r = 0; r < INSERT_ROWS; r++)
+				values[r] = c % 2 == 0 ? (Object) (r * INSERT_COLUMNS + c) : "value " + r;
+			rows.column("COL" + c)
+					.values(values);
+		}
+		insert = rows.query();
+
+		Update set = SQLBuilder.Update("CUSTOMERS");
+		for (int c = 0; c < UPDATE_COLUMNS; c++)
+			set = set.set("COL" + c, c % 2 == 0 ? (Object) c : "value " + c);
+		update = set.where()
+				.col("CUSTOMER_ID", 42)
+				.col("VERSION", 7)
+				.query();
+
+		nested = SQLBuilder.With("Recents")
+				.columns("ITEM_ID", "TIME_CREATED")
+				.as(SQLBuilder.Select("ITEM_ID", "MAX(TIME_CREATED) TIME_CREATED")
+						.from("RECENT_HISTORY")
+						.where()
+						.exists(SQLBuilder.Select("1")
+								.from("USERS")
+								.where()
+								.col("USERS.NAME")
+								.eqCol("RECENT_HISTORY.USER_NAME"))
+						.groupBy("ITEM_ID"))
+				.select("ITEM_ID")
+				.from("Recents")
+				.where()
+				.col("TIME_CREATED")
+				.ge()
+				.all(SQLBuilder.Select("TIME_CREATED")
+						.from("ARCHIVE")
+						.where()
+						.col("TYPE", 1))
+				.unionAll()
+				.select("ITEM_ID")
+				.from("FAVORITES")
+				.where()
+				.exists(SQLBuilder.Select("1")
+						.from("USERS")
+						.where()
+						.col("USERS.NAME")
+						.eqCol("FAVORITES.USER_NAME")
+						.col("USERS.ACTIVE", true))
+				.query();
+
+		expression = SQLBuilder.Select("ITEM_ID", "NAME")
+				.from("ITEMS")
+				.where()
+				.col("PRICE")
+				.eqExpr(new Expression("PRICING.NET_PRICE", 100, "EUR", 19))
+				.col("CATEGORY")
+				.eqExpr(new Expression("CATALOG.CATEGORY_OF", "SHOES"))
+				.col("NAME")
+				.eqExpr("UPPER(?)", "sneaker")
+				.query();
+
+		call = new Expression("PACKAGE.PROCEDURE", 1, "A", 2.5, 42L).returnType(Types.INTEGER)
+				.query();
+	}
+
+	private String render(final Query query) {
+		// a prepared rendering collects the values to bind in its context
+		return query.string(new RenderContext(options, prepared), null);
+	}
+
+	@Benchmark
+	public String select() {
+		return render(select);
+	}
+
+	@Benchmark
+	public String insert() {
+		return render(insert);
+	}
+
+	@Benchmark
+	public String update() {
+		return render(update);
+	}
+
+	@Benchmark
+	public String nested() {
+		return render(nested);
+	}
+
+	@Benchmark
+	public String expression() {
+		return render(expression);
+	}
+
+	@Benchmark
+	public String call() {
+		return render(call);
+	}
+
+}
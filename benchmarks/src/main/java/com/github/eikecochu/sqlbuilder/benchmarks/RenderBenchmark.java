@@ -0,0 +1,152 @@
+package com.github.eikecochu.sqlbuilder.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.eikecochu.sqlbuilder.Condition;
+import com.github.eikecochu.sqlbuilder.Query;
+import com.github.eikecochu.sqlbuilder.QueryOptions;
+import com.github.eikecochu.sqlbuilder.SQLBuilder;
+
+/**
+ * Measures the cost of rendering built queries into SQL strings. Run with
+ * -prof gc to report the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+
+	@Param({ "true", "false" })
+	public boolean pretty;
+
+	private QueryOptions options;
+	private Query simple;
+	private Query joined;
+	private Query nested;
+	private Query deep;
+
+	@Setup
+	public void setup() {
+		options = new QueryOptions().pretty(pretty);
+
+		simple = SQLBuilder.Select("COL1", "COL2")
+				.from("TEST")
+				.where()
+				.col("COL1", 1)
+				.or()
+				.col("COL2", "value")
+				.orderBy("COL1")
+				.query();
+
+		joined = SQLBuilder.Select("rh.TYPE", "rh.ITEM_ID", "dt.SCRIPT_NAME", "kw.NAME AS KEYWORD_NAME",
+				"cd.CLASS_NAME")
+				.from("RECENT_HISTORY rh")
+				.leftJoin("DOCTOOL_SCRIPTS dt")
+				.on()
+				.col("rh.TYPE", 1)
+				.col("rh.ITEM_ID")
+				.eqCol("dt.SCRIPT_ID")
+				.leftJoin("KEYWORDS kw")
+				.on()
+				.col("rh.TYPE")
+				.in(3, 4, 5, 6)
+				.col("rh.ITEM_ID")
+				.eqCol("kw.KEYWORD_ID")
+				.leftJoin("CLASS_DEFINITION cd")
+				.on()
+				.group(new Condition().col("rh.TYPE", 2)
+						.col("rh.ITEM_ID")
+						.eqCol("cd.CLASS_ID"))
+				.or()
+				.group(new Condition().col("rh.TYPE", 1)
+						.col("dt.CLASS_ID")
+						.eqCol("cd.CLASS_ID"))
+				.where()
+				.col("rh.TYPE")
+				.in(1, 2, 3, 4, 5, 6)
+				.col("UPPER(rh.USER_NAME)", "JOE")
+				.orderBy("rh.TIME_CREATED DESC")
+				.query();
+
+		nested = SQLBuilder.With("Recents")
+				.columns("ITEM_ID", "TIME_CREATED")
+				.as(SQLBuilder.Select("ITEM_ID", "MAX(TIME_CREATED) TIME_CREATED")
+						.from("RECENT_HISTORY")
+						.where()
+						.exists(SQLBuilder.Select("1")
+								.from("USERS")
+								.where()
+								.col("USERS.NAME")
+								.eqCol("RECENT_HISTORY.USER_NAME"))
+						.groupBy("ITEM_ID"))
+				.select()
+				.from("Recents")
+				.where()
+				.col("TIME_CREATED")
+				.ge()
+				.all(SQLBuilder.Select("TIME_CREATED")
+						.from("ARCHIVE"))
+				.query();
+
+		// every level adds an indented subquery when pretty printing
+		deep = SQLBuilder.With("Levels")
+				.as(SQLBuilder.Select("ID")
+						.from("LEVEL1")
+						.where()
+						.exists(SQLBuilder.Select("1")
+								.from("LEVEL2")
+								.where()
+								.col("LEVEL2.ID")
+								.eq()
+								.any(SQLBuilder.Select("ID")
+										.from("LEVEL3")
+										.where()
+										.exists(SQLBuilder.Select("1")
+												.from("LEVEL4")
+												.where()
+												.col("LEVEL4.VALUE")
+												.ge()
+												.all(SQLBuilder.Select("VALUE")
+														.from("LEVEL5")))))
+						.col("LEVEL1.NAME", "A"))
+				.select()
+				.from("Levels")
+				.query();
+	}
+
+	@Benchmark
+	public String simple() {
+		return simple.string(options);
+	}
+
+	@Benchmark
+	public String joined() {
+		return joined.string(options);
+	}
+
+	@Benchmark
+	public String nested() {
+		return nested.string(options);
+	}
+
+	@Benchmark
+	public String deep() {
+		return deep.string(options);
+	}
+
+}
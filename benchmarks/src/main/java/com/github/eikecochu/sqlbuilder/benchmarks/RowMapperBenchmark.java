@@ -0,0 +1,148 @@
+package com.github.eikecochu.sqlbuilder.benchmarks;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.eikecochu.sqlbuilder.RowMapper;
+import com.github.eikecochu.sqlbuilder.RowMappers;
+import com.github.eikecochu.sqlbuilder.Values;
+
+/**
+ * Measures mapping a row of a stub ResultSet to a bean, comparing the compiled
+ * mapper of RowMappers to hand-written mappers reading the columns by index
+ * and by label. Run with -prof gc to report the allocation rate per
+ * operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMapperBenchmark {
+
+	public static class Order {
+
+		private long id;
+		private long customerId;
+		private String status;
+		private double amount;
+		private int items;
+		private boolean active;
+		private String comment;
+		private Timestamp created;
+
+		public void setId(final long id) {
+			this.id = id;
+		}
+
+		public void setCustomerId(final long customerId) {
+			this.customerId = customerId;
+		}
+
+		public void setStatus(final String status) {
+			this.status = status;
+		}
+
+		public void setAmount(final double amount) {
+			this.amount = amount;
+		}
+
+		public void setItems(final int items) {
+			this.items = items;
+		}
+
+		public void setActive(final boolean active) {
+			this.active = active;
+		}
+
+		public void setComment(final String comment) {
+			this.comment = comment;
+		}
+
+		public void setCreated(final Timestamp created) {
+			this.created = created;
+		}
+
+		@Override
+		public String toString() {
+			return id + " " + customerId + " " + status + " " + amount + " " + items + " " + active + " " + comment
+					+ " " + created;
+		}
+
+	}
+
+	private static final String[] LABELS = { "ID", "CUSTOMER_ID", "STATUS", "AMOUNT", "ITEMS", "ACTIVE", "COMMENT",
+			"CREATED" };
+
+	private ResultSet rs;
+	private RowMapper<Order> compiled;
+	private RowMapper<Values> values;
+
+	@Setup
+	public void setup() {
+		final Object[][] rows = new Object[64][];
+		for (int i = 0; i < rows.length; i++)
+			rows[i] = new Object[] { (long) i, i * 7L, (i & 1) == 0 ? "OPEN" : "CLOSED", i * 0.5, i & 0xF,
+					(i & 2) == 0, (i & 3) == 0 ? null : "comment " + i, new Timestamp(1_500_000_000_000L + i) };
+		rs = new StubResultSet(LABELS, rows);
+		compiled = RowMappers.of(Order.class);
+		values = RowMappers.values();
+	}
+
+	@Benchmark
+	public Order byIndex() throws SQLException {
+		rs.next();
+		final Order order = new Order();
+		order.setId(rs.getLong(1));
+		order.setCustomerId(rs.getLong(2));
+		order.setStatus(rs.getString(3));
+		order.setAmount(rs.getDouble(4));
+		order.setItems(rs.getInt(5));
+		order.setActive(rs.getBoolean(6));
+		order.setComment(rs.getString(7));
+		order.setCreated(rs.getTimestamp(8));
+		return order;
+	}
+
+	@Benchmark
+	public Order byLabel() throws SQLException {
+		rs.next();
+		final Order order = new Order();
+		order.setId(rs.getLong("ID"));
+		order.setCustomerId(rs.getLong("CUSTOMER_ID"));
+		order.setStatus(rs.getString("STATUS"));
+		order.setAmount(rs.getDouble("AMOUNT"));
+		order.setItems(rs.getInt("ITEMS"));
+		order.setActive(rs.getBoolean("ACTIVE"));
+		order.setComment(rs.getString("COMMENT"));
+		order.setCreated(rs.getTimestamp("CREATED"));
+		return order;
+	}
+
+	@Benchmark
+	public Order compiled() throws SQLException {
+		rs.next();
+		return compiled.map(rs, 0);
+	}
+
+	@Benchmark
+	public Values values() throws SQLException {
+		rs.next();
+		return values.map(rs, 0);
+	}
+
+}
@@ -0,0 +1,129 @@
+package com.github.eikecochu.sqlbuilder.benchmarks;
+
+/**
+ * The metadata of a StubResultSet, which only knows the column labels. All
+ * other methods throw UnsupportedOperationException.
+ */
+public class StubMetaData implements java.sql.ResultSetMetaData {
+
+	private final String[] labels;
+
+	public StubMetaData(final String[] labels) {
+		this.labels = labels;
+	}
+
+	@Override
+	public String getCatalogName(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getColumnClassName(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getColumnCount() {
+		return labels.length;
+	}
+
+	@Override
+	public int getColumnDisplaySize(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getColumnLabel(final int p0) {
+		return labels[p0 - 1];
+	}
+
+	@Override
+	public String getColumnName(final int p0) {
+		return labels[p0 - 1];
+	}
+
+	@Override
+	public int getColumnType(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getColumnTypeName(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getPrecision(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getScale(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getSchemaName(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getTableName(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isAutoIncrement(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isCaseSensitive(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isCurrency(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isDefinitelyWritable(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int isNullable(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isReadOnly(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isSearchable(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isSigned(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isWrapperFor(final Class<?> p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isWritable(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public <T> T unwrap(final Class<T> p0) {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,995 @@
+package com.github.eikecochu.sqlbuilder.benchmarks;
+
+/**
+ * A forward-only ResultSet over a fixed set of rows, used to measure the cost
+ * of mapping rows without a database. The cursor wraps around after the last
+ * row, so next() always returns true. Values are read by index from an array;
+ * reading by label looks up the column index first, like drivers do. All
+ * other methods throw UnsupportedOperationException.
+ */
+public class StubResultSet implements java.sql.ResultSet {
+
+	private final String[] labels;
+	private final Object[][] rows;
+	private final java.sql.ResultSetMetaData meta;
+	private Object[] row;
+	private int cursor = -1;
+	private boolean wasNull;
+
+	public StubResultSet(final String[] labels, final Object[][] rows) {
+		this.labels = labels;
+		this.rows = rows;
+		meta = new StubMetaData(labels);
+	}
+
+	private Object value(final int index) {
+		final Object value = row[index - 1];
+		wasNull = value == null;
+		return value;
+	}
+
+	@Override
+	public boolean absolute(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void afterLast() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void beforeFirst() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void cancelRowUpdates() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void clearWarnings() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void close() {
+		// nothing to release
+	}
+
+	@Override
+	public void deleteRow() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int findColumn(final String p0) {
+		for (int i = 0; i < labels.length; i++)
+			if (labels[i].equalsIgnoreCase(p0))
+				return i + 1;
+		throw new IllegalArgumentException(p0);
+	}
+
+	@Override
+	public boolean first() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Array getArray(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Array getArray(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.io.InputStream getAsciiStream(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.io.InputStream getAsciiStream(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.math.BigDecimal getBigDecimal(final String p0, final int p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.math.BigDecimal getBigDecimal(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.math.BigDecimal getBigDecimal(final int p0, final int p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.math.BigDecimal getBigDecimal(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.io.InputStream getBinaryStream(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.io.InputStream getBinaryStream(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Blob getBlob(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Blob getBlob(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean getBoolean(final String p0) {
+		return getBoolean(findColumn(p0));
+	}
+
+	@Override
+	public boolean getBoolean(final int p0) {
+		final Object value = value(p0);
+		return value != null && (Boolean) value;
+	}
+
+	@Override
+	public byte getByte(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public byte getByte(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public byte[] getBytes(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public byte[] getBytes(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.io.Reader getCharacterStream(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.io.Reader getCharacterStream(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Clob getClob(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Clob getClob(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getConcurrency() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getCursorName() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Date getDate(final String p0, final java.util.Calendar p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Date getDate(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Date getDate(final int p0, final java.util.Calendar p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Date getDate(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public double getDouble(final String p0) {
+		return getDouble(findColumn(p0));
+	}
+
+	@Override
+	public double getDouble(final int p0) {
+		final Object value = value(p0);
+		return value == null ? 0 : ((Number) value).doubleValue();
+	}
+
+	@Override
+	public int getFetchDirection() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getFetchSize() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public float getFloat(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public float getFloat(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getHoldability() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getInt(final String p0) {
+		return getInt(findColumn(p0));
+	}
+
+	@Override
+	public int getInt(final int p0) {
+		final Object value = value(p0);
+		return value == null ? 0 : ((Number) value).intValue();
+	}
+
+	@Override
+	public long getLong(final String p0) {
+		return getLong(findColumn(p0));
+	}
+
+	@Override
+	public long getLong(final int p0) {
+		final Object value = value(p0);
+		return value == null ? 0 : ((Number) value).longValue();
+	}
+
+	@Override
+	public java.sql.ResultSetMetaData getMetaData() {
+		return meta;
+	}
+
+	@Override
+	public java.io.Reader getNCharacterStream(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.io.Reader getNCharacterStream(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.NClob getNClob(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.NClob getNClob(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getNString(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getNString(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public <T> T getObject(final String p0, final Class<T> p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Object getObject(final String p0, final java.util.Map<String, Class<?>> p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Object getObject(final String p0) {
+		return getObject(findColumn(p0));
+	}
+
+	@Override
+	public <T> T getObject(final int p0, final Class<T> p1) {
+		return p1.cast(value(p0));
+	}
+
+	@Override
+	public Object getObject(final int p0, final java.util.Map<String, Class<?>> p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Object getObject(final int p0) {
+		return value(p0);
+	}
+
+	@Override
+	public java.sql.Ref getRef(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Ref getRef(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getRow() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.RowId getRowId(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.RowId getRowId(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.SQLXML getSQLXML(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.SQLXML getSQLXML(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public short getShort(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public short getShort(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Statement getStatement() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getString(final String p0) {
+		return getString(findColumn(p0));
+	}
+
+	@Override
+	public String getString(final int p0) {
+		final Object value = value(p0);
+		return value == null ? null : value.toString();
+	}
+
+	@Override
+	public java.sql.Time getTime(final String p0, final java.util.Calendar p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Time getTime(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Time getTime(final int p0, final java.util.Calendar p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Time getTime(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Timestamp getTimestamp(final String p0, final java.util.Calendar p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Timestamp getTimestamp(final String p0) {
+		return getTimestamp(findColumn(p0));
+	}
+
+	@Override
+	public java.sql.Timestamp getTimestamp(final int p0, final java.util.Calendar p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Timestamp getTimestamp(final int p0) {
+		return (java.sql.Timestamp) value(p0);
+	}
+
+	@Override
+	public int getType() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.net.URL getURL(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.net.URL getURL(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.io.InputStream getUnicodeStream(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.io.InputStream getUnicodeStream(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.SQLWarning getWarnings() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void insertRow() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isAfterLast() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isBeforeFirst() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isClosed() {
+		return false;
+	}
+
+	@Override
+	public boolean isFirst() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isLast() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isWrapperFor(final Class<?> p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean last() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void moveToCurrentRow() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void moveToInsertRow() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean next() {
+		cursor = (cursor + 1) % rows.length;
+		row = rows[cursor];
+		return true;
+	}
+
+	@Override
+	public boolean previous() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void refreshRow() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean relative(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean rowDeleted() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean rowInserted() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean rowUpdated() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setFetchDirection(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setFetchSize(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public <T> T unwrap(final Class<T> p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateArray(final String p0, final java.sql.Array p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateArray(final int p0, final java.sql.Array p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateAsciiStream(final String p0, final java.io.InputStream p1, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateAsciiStream(final String p0, final java.io.InputStream p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateAsciiStream(final String p0, final java.io.InputStream p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateAsciiStream(final int p0, final java.io.InputStream p1, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateAsciiStream(final int p0, final java.io.InputStream p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateAsciiStream(final int p0, final java.io.InputStream p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBigDecimal(final String p0, final java.math.BigDecimal p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBigDecimal(final int p0, final java.math.BigDecimal p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBinaryStream(final String p0, final java.io.InputStream p1, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBinaryStream(final String p0, final java.io.InputStream p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBinaryStream(final String p0, final java.io.InputStream p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBinaryStream(final int p0, final java.io.InputStream p1, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBinaryStream(final int p0, final java.io.InputStream p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBinaryStream(final int p0, final java.io.InputStream p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBlob(final String p0, final java.io.InputStream p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBlob(final String p0, final java.io.InputStream p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBlob(final String p0, final java.sql.Blob p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBlob(final int p0, final java.io.InputStream p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBlob(final int p0, final java.io.InputStream p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBlob(final int p0, final java.sql.Blob p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBoolean(final String p0, final boolean p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBoolean(final int p0, final boolean p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateByte(final String p0, final byte p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateByte(final int p0, final byte p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBytes(final String p0, final byte[] p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateBytes(final int p0, final byte[] p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateCharacterStream(final String p0, final java.io.Reader p1, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateCharacterStream(final String p0, final java.io.Reader p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateCharacterStream(final String p0, final java.io.Reader p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateCharacterStream(final int p0, final java.io.Reader p1, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateCharacterStream(final int p0, final java.io.Reader p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateCharacterStream(final int p0, final java.io.Reader p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateClob(final String p0, final java.io.Reader p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateClob(final String p0, final java.io.Reader p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateClob(final String p0, final java.sql.Clob p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateClob(final int p0, final java.io.Reader p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateClob(final int p0, final java.io.Reader p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateClob(final int p0, final java.sql.Clob p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateDate(final String p0, final java.sql.Date p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateDate(final int p0, final java.sql.Date p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateDouble(final String p0, final double p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateDouble(final int p0, final double p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateFloat(final String p0, final float p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateFloat(final int p0, final float p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateInt(final String p0, final int p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateInt(final int p0, final int p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateLong(final String p0, final long p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateLong(final int p0, final long p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNCharacterStream(final String p0, final java.io.Reader p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNCharacterStream(final String p0, final java.io.Reader p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNCharacterStream(final int p0, final java.io.Reader p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNCharacterStream(final int p0, final java.io.Reader p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNClob(final String p0, final java.io.Reader p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNClob(final String p0, final java.io.Reader p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNClob(final String p0, final java.sql.NClob p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNClob(final int p0, final java.io.Reader p1, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNClob(final int p0, final java.io.Reader p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNClob(final int p0, final java.sql.NClob p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNString(final String p0, final String p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNString(final int p0, final String p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNull(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateNull(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateObject(final String p0, final Object p1, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateObject(final String p0, final Object p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateObject(final int p0, final Object p1, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateObject(final int p0, final Object p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateRef(final String p0, final java.sql.Ref p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateRef(final int p0, final java.sql.Ref p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateRow() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateRowId(final String p0, final java.sql.RowId p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateRowId(final int p0, final java.sql.RowId p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateSQLXML(final String p0, final java.sql.SQLXML p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateSQLXML(final int p0, final java.sql.SQLXML p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateShort(final String p0, final short p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateShort(final int p0, final short p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateString(final String p0, final String p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateString(final int p0, final String p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateTime(final String p0, final java.sql.Time p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateTime(final int p0, final java.sql.Time p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateTimestamp(final String p0, final java.sql.Timestamp p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void updateTimestamp(final int p0, final java.sql.Timestamp p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean wasNull() {
+		return wasNull;
+	}
+}
@@ -0,0 +1,524 @@
+package com.github.eikecochu.sqlbuilder.benchmarks;
+
+/**
+ * A PreparedStatement that only stores bound parameters, used to measure the
+ * cost of binding without a database. Like real drivers, setObject resolves
+ * the type of the value before storing it. All other methods throw
+ * UnsupportedOperationException.
+ */
+public class StubStatement implements java.sql.PreparedStatement {
+
+	private final long[] longs = new long[64];
+	private final double[] doubles = new double[64];
+	private final Object[] objects = new Object[64];
+
+@Override
+	public void addBatch() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void addBatch(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void cancel() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void clearBatch() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void clearParameters() {
+		java.util.Arrays.fill(objects, null);
+	}
+
+	@Override
+	public void clearWarnings() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public void closeOnCompletion() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean execute() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean execute(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean execute(final String p0, final String[] p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean execute(final String p0, final int p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean execute(final String p0, final int[] p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int[] executeBatch() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.ResultSet executeQuery() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.ResultSet executeQuery(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int executeUpdate() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int executeUpdate(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int executeUpdate(final String p0, final String[] p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int executeUpdate(final String p0, final int p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int executeUpdate(final String p0, final int[] p1) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.Connection getConnection() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getFetchDirection() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getFetchSize() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.ResultSet getGeneratedKeys() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getMaxFieldSize() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getMaxRows() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.ResultSetMetaData getMetaData() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean getMoreResults() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean getMoreResults(final int p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.ParameterMetaData getParameterMetaData() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getQueryTimeout() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.ResultSet getResultSet() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getResultSetConcurrency() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getResultSetHoldability() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getResultSetType() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public int getUpdateCount() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public java.sql.SQLWarning getWarnings() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isCloseOnCompletion() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isClosed() {
+		return false;
+	}
+
+	@Override
+	public boolean isPoolable() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean isWrapperFor(final Class<?> p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setArray(final int index, final java.sql.Array value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setAsciiStream(final int index, final java.io.InputStream value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setAsciiStream(final int index, final java.io.InputStream value, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setAsciiStream(final int index, final java.io.InputStream value, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setBigDecimal(final int index, final java.math.BigDecimal value) {
+		objects[index] = value;
+	}
+
+	@Override
+	public void setBinaryStream(final int index, final java.io.InputStream value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setBinaryStream(final int index, final java.io.InputStream value, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setBinaryStream(final int index, final java.io.InputStream value, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setBlob(final int index, final java.io.InputStream value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setBlob(final int index, final java.io.InputStream value, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setBlob(final int index, final java.sql.Blob value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setBoolean(final int index, final boolean value) {
+		longs[index] = value ? 1 : 0;
+	}
+
+	@Override
+	public void setByte(final int index, final byte value) {
+		longs[index] = value;
+	}
+
+	@Override
+	public void setBytes(final int index, final byte[] value) {
+		objects[index] = value;
+	}
+
+	@Override
+	public void setCharacterStream(final int index, final java.io.Reader value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setCharacterStream(final int index, final java.io.Reader value, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setCharacterStream(final int index, final java.io.Reader value, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setClob(final int index, final java.io.Reader value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setClob(final int index, final java.io.Reader value, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setClob(final int index, final java.sql.Clob value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setCursorName(final String p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setDate(final int index, final java.sql.Date value) {
+		objects[index] = value;
+	}
+
+	@Override
+	public void setDate(final int index, final java.sql.Date value, final java.util.Calendar p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setDouble(final int index, final double value) {
+		doubles[index] = value;
+	}
+
+	@Override
+	public void setEscapeProcessing(final boolean p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setFetchDirection(final int index) {
+	}
+
+	@Override
+	public void setFetchSize(final int index) {
+	}
+
+	@Override
+	public void setFloat(final int index, final float value) {
+		doubles[index] = value;
+	}
+
+	@Override
+	public void setInt(final int index, final int value) {
+		longs[index] = value;
+	}
+
+	@Override
+	public void setLong(final int index, final long value) {
+		longs[index] = value;
+	}
+
+	@Override
+	public void setMaxFieldSize(final int index) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setMaxRows(final int index) {
+	}
+
+	@Override
+	public void setNCharacterStream(final int index, final java.io.Reader value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setNCharacterStream(final int index, final java.io.Reader value, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setNClob(final int index, final java.io.Reader value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setNClob(final int index, final java.io.Reader value, final long p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setNClob(final int index, final java.sql.NClob value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setNString(final int index, final String value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setNull(final int index, final int value) {
+		objects[index] = null;
+	}
+
+	@Override
+	public void setNull(final int index, final int value, final String p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setObject(final int index, final Object value) {
+		// resolves the type of the value, like drivers do for setObject
+		if (value == null)
+			setNull(index, java.sql.Types.NULL);
+		else if (value instanceof String)
+			setString(index, (String) value);
+		else if (value instanceof Integer)
+			setInt(index, (Integer) value);
+		else if (value instanceof Long)
+			setLong(index, (Long) value);
+		else if (value instanceof Double)
+			setDouble(index, (Double) value);
+		else if (value instanceof Boolean)
+			setBoolean(index, (Boolean) value);
+		else if (value instanceof java.math.BigDecimal)
+			setBigDecimal(index, (java.math.BigDecimal) value);
+		else if (value instanceof java.sql.Timestamp)
+			setTimestamp(index, (java.sql.Timestamp) value);
+		else
+			objects[index] = value;
+	}
+
+	@Override
+	public void setObject(final int index, final Object value, final int p2) {
+		setObject(index, value);
+	}
+
+	@Override
+	public void setObject(final int index, final Object value, final int p2, final int p3) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setPoolable(final boolean p0) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setQueryTimeout(final int index) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setRef(final int index, final java.sql.Ref value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setRowId(final int index, final java.sql.RowId value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setSQLXML(final int index, final java.sql.SQLXML value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setShort(final int index, final short value) {
+		longs[index] = value;
+	}
+
+	@Override
+	public void setString(final int index, final String value) {
+		objects[index] = value;
+	}
+
+	@Override
+	public void setTime(final int index, final java.sql.Time value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setTime(final int index, final java.sql.Time value, final java.util.Calendar p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setTimestamp(final int index, final java.sql.Timestamp value) {
+		objects[index] = value;
+	}
+
+	@Override
+	public void setTimestamp(final int index, final java.sql.Timestamp value, final java.util.Calendar p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setURL(final int index, final java.net.URL value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void setUnicodeStream(final int index, final java.io.InputStream value, final int p2) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public <T> T unwrap(final Class<T> p0) {
+		throw new UnsupportedOperationException();
+	}
+
+}
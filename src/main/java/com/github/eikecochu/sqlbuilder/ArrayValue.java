@@ -0,0 +1,54 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * The ArrayValue class is a prepared value that is bound as an SQL array,
+ * created with Connection.createArrayOf() from the connection of the statement.
+ */
+@ToString
+@Getter
+@Accessors(fluent = true)
+public final class ArrayValue implements BindValue {
+
+	/**
+	 * The SQL type name of the elements
+	 */
+	private final String typeName;
+
+	@Getter(AccessLevel.NONE)
+	private final Object[] elements;
+
+	/**
+	 * Create a new ArrayValue
+	 *
+	 * @param typeName The SQL type name of the elements
+	 * @param elements The elements
+	 */
+	public ArrayValue(final String typeName, final Object[] elements) {
+		this.typeName = typeName;
+		this.elements = elements.clone();
+	}
+
+	/**
+	 * Returns the elements of the array
+	 *
+	 * @return A new array containing the elements
+	 */
+	public Object[] elements() {
+		return elements.clone();
+	}
+
+	@Override
+	public void bind(final PreparedStatement stmt, final int index) throws SQLException {
+		stmt.setArray(index, stmt.getConnection()
+				.createArrayOf(typeName, elements));
+	}
+
+}
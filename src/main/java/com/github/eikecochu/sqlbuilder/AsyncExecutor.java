@@ -0,0 +1,258 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.sql.DataSource;
+
+/**
+ * The AsyncExecutor class runs database tasks asynchronously on an executor,
+ * limiting the number of concurrently running tasks per DataSource. Tasks that
+ * exceed the limit are queued without blocking a thread and started when a
+ * running task of the same DataSource completes.
+ *
+ * The default instance uses a fixed pool of daemon threads on Java 8 to 20. On
+ * Java 21 and later, every task runs on its own virtual thread.
+ */
+public final class AsyncExecutor {
+
+	/**
+	 * A task using a connection of a DataSource
+	 *
+	 * @param <T> The type of the result
+	 */
+	@FunctionalInterface
+	public interface Task<T> {
+
+		/**
+		 * Runs the task
+		 *
+		 * @param connection The database connection, closed after the task completes
+		 * @return The result
+		 * @throws SQLException if the task fails
+		 */
+		T run(Connection connection) throws SQLException;
+
+	}
+
+	/**
+	 * The default maximum number of concurrently running tasks per DataSource
+	 */
+	public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+	private static volatile AsyncExecutor defaultExecutor;
+
+	private static final class Job implements Runnable {
+
+		private final Runnable body;
+		private final CompletableFuture<?> future;
+
+		private Job(final Runnable body, final CompletableFuture<?> future) {
+			this.body = body;
+			this.future = future;
+		}
+
+		@Override
+		public void run() {
+			body.run();
+		}
+
+	}
+
+	private final class Limiter {
+
+		private final Queue<Job> queue = new ArrayDeque<>();
+		private int maxConcurrency;
+		private int running;
+
+		private Limiter(final int maxConcurrency) {
+			this.maxConcurrency = maxConcurrency;
+		}
+
+		private void submit(final Job job) {
+			synchronized (this) {
+				if (running >= maxConcurrency) {
+					queue.add(job);
+					return;
+				}
+				running++;
+			}
+			try {
+				executor.execute(job);
+			} catch (final RejectedExecutionException e) {
+				job.future.completeExceptionally(e);
+				release();
+			}
+		}
+
+		private void release() {
+			while (true) {
+				final Job next;
+				synchronized (this) {
+					next = running <= maxConcurrency ? queue.poll() : null;
+					if (next == null) {
+						running--;
+						return;
+					}
+				}
+				try {
+					executor.execute(next);
+					return;
+				} catch (final RejectedExecutionException e) {
+					// the slot stays taken and is passed on to the next queued job
+					next.future.completeExceptionally(e);
+				}
+			}
+		}
+
+	}
+
+	private final Executor executor;
+	private final int maxConcurrency;
+	private final Map<DataSource, Limiter> limiters = new WeakHashMap<>();
+
+	/**
+	 * Create a new AsyncExecutor
+	 *
+	 * @param executor       The executor running the tasks
+	 * @param maxConcurrency The default maximum number of concurrently running
+	 *                       tasks per DataSource
+	 */
+	public AsyncExecutor(final Executor executor, final int maxConcurrency) {
+		if (executor == null)
+			throw new IllegalArgumentException("executor must not be null");
+		if (maxConcurrency < 1)
+			throw new IllegalArgumentException("maxConcurrency must be at least 1");
+		this.executor = executor;
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	/**
+	 * Returns the default AsyncExecutor, which is created on first use
+	 *
+	 * @return The default AsyncExecutor
+	 */
+	public static AsyncExecutor getDefault() {
+		AsyncExecutor executor = defaultExecutor;
+		if (executor == null)
+			synchronized (AsyncExecutor.class) {
+				executor = defaultExecutor;
+				if (executor == null)
+					defaultExecutor = executor = new AsyncExecutor(DefaultExecutor.create(), DEFAULT_MAX_CONCURRENCY);
+			}
+		return executor;
+	}
+
+	/**
+	 * Sets the default AsyncExecutor
+	 *
+	 * @param executor The new default AsyncExecutor, or null to create a new
+	 *                 default instance on next use
+	 */
+	public static void setDefault(final AsyncExecutor executor) {
+		defaultExecutor = executor;
+	}
+
+	/**
+	 * Returns true if the default executor runs tasks on virtual threads
+	 *
+	 * @return True on Java 21 and later
+	 */
+	public static boolean virtualThreads() {
+		return DefaultExecutor.virtualThreads();
+	}
+
+	/**
+	 * Sets the maximum number of concurrently running tasks of a DataSource
+	 *
+	 * @param dataSource     The DataSource
+	 * @param maxConcurrency The maximum number of concurrently running tasks
+	 * @return This instance
+	 */
+	public AsyncExecutor maxConcurrency(final DataSource dataSource, final int maxConcurrency) {
+		if (maxConcurrency < 1)
+			throw new IllegalArgumentException("maxConcurrency must be at least 1");
+		final Limiter limiter = limiter(dataSource);
+		synchronized (limiter) {
+			limiter.maxConcurrency = maxConcurrency;
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the number of currently running tasks of a DataSource
+	 *
+	 * @param dataSource The DataSource
+	 * @return The number of running tasks
+	 */
+	public int running(final DataSource dataSource) {
+		final Limiter limiter = limiter(dataSource);
+		synchronized (limiter) {
+			return limiter.running;
+		}
+	}
+
+	/**
+	 * Returns the number of tasks of a DataSource waiting to be started
+	 *
+	 * @param dataSource The DataSource
+	 * @return The number of queued tasks
+	 */
+	public int queued(final DataSource dataSource) {
+		final Limiter limiter = limiter(dataSource);
+		synchronized (limiter) {
+			return limiter.queue.size();
+		}
+	}
+
+	/**
+	 * Runs a task with a connection of the DataSource. The connection is closed
+	 * after the task completes.
+	 *
+	 * @param <T>        The type of the result
+	 * @param dataSource The DataSource
+	 * @param task       The task
+	 * @return The future result of the task
+	 */
+	public <T> CompletableFuture<T> submit(final DataSource dataSource, final Task<T> task) {
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		final Limiter limiter = limiter(dataSource);
+
+		limiter.submit(new Job(() -> run(dataSource, task, future, limiter), future));
+		return future;
+	}
+
+	private <T> void run(final DataSource dataSource, final Task<T> task, final CompletableFuture<T> future,
+			final Limiter limiter) {
+		T result = null;
+		Throwable failure = null;
+		try (Connection connection = dataSource.getConnection()) {
+			result = task.run(connection);
+		} catch (final Throwable e) {
+			failure = e;
+		} finally {
+			// the slot is released first, so dependent tasks can start right away
+			limiter.release();
+		}
+
+		if (failure != null)
+			future.completeExceptionally(failure);
+		else
+			future.complete(result);
+	}
+
+	private synchronized Limiter limiter(final DataSource dataSource) {
+		Limiter limiter = limiters.get(dataSource);
+		if (limiter == null)
+			limiters.put(dataSource, limiter = new Limiter(maxConcurrency));
+		return limiter;
+	}
+
+}
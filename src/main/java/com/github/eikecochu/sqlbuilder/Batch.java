@@ -0,0 +1,259 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * The Batch class executes a compiled query with many sets of values using a
+ * single PreparedStatement and JDBC batches. Each added row is bound to the
+ * statement and added to the current batch, which is executed every time the
+ * batch size is reached. The query is rendered only once.
+ *
+ * A Batch is not thread-safe. It must be completed with execute() or closed,
+ * which will release the statement.
+ */
+@ToString
+@Accessors(fluent = true)
+public final class Batch implements AutoCloseable {
+
+	/**
+	 * The Result class holds the aggregated results of all executed batches.
+	 */
+	@ToString
+	@Getter
+	@Accessors(fluent = true)
+	@AllArgsConstructor(access = AccessLevel.PACKAGE)
+	public static final class Result {
+
+		/**
+		 * The update counts of all rows in the order they were added. May contain
+		 * Statement.SUCCESS_NO_INFO if the driver does not report counts.
+		 */
+		@Getter(AccessLevel.NONE)
+		private final int[] updateCounts;
+
+		/**
+		 * The generated keys of all rows, if returnGeneratedKeys is enabled
+		 */
+		private final List<Object> generatedKeys;
+
+		/**
+		 * Returns the update counts of all rows in the order they were added
+		 *
+		 * @return A new array containing the update counts
+		 */
+		public int[] updateCounts() {
+			return updateCounts.clone();
+		}
+
+		/**
+		 * Returns the sum of all known update counts
+		 *
+		 * @return The total update count
+		 */
+		public long updateCount() {
+			long total = 0;
+			for (final int count : updateCounts)
+				if (count > 0)
+					total += count;
+			return total;
+		}
+
+		/**
+		 * Returns the number of executed rows
+		 *
+		 * @return The number of rows
+		 */
+		public int rows() {
+			return updateCounts.length;
+		}
+
+	}
+
+	/**
+	 * The default number of rows executed in a single batch
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	private final CompiledQuery query;
+	private final QueryOptions options;
+	@ToString.Exclude
+	private final Connection connection;
+	@ToString.Exclude
+	private PreparedStatement stmt;
+
+	/**
+	 * The number of rows after which the current batch is executed
+	 */
+	@Getter
+	private int batchSize;
+
+	private int pending;
+	private boolean closed;
+	@ToString.Exclude
+	private int[] updateCounts = new int[16];
+	private int rows;
+	@ToString.Exclude
+	private final List<Object> generatedKeys = new ArrayList<>();
+
+	Batch(final CompiledQuery query, final QueryOptions options, final Connection connection) {
+		this.query = query;
+		this.options = options;
+		this.connection = connection;
+		this.batchSize = options.batchSize();
+	}
+
+	/**
+	 * Sets the number of rows after which the current batch is executed
+	 *
+	 * @param batchSize The batch size, at least 1
+	 * @return This instance
+	 */
+	public Batch batchSize(final int batchSize) {
+		if (batchSize < 1)
+			throw new IllegalArgumentException("batchSize must be at least 1");
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Adds a row using the values of a ValueHolder, in the order of the bind slots
+	 *
+	 * @param values The ValueHolder of the values to bind
+	 * @return This instance
+	 * @throws SQLException if binding or executing fails
+	 */
+	public Batch add(final ValueHolder values) throws SQLException {
+		final Object[] row = new Object[query.parameterCount()];
+		int i = 0;
+		final Iterator<Entry<String, Object>> it = values.iterator();
+		while (it != null && it.hasNext()) {
+			final Object value = it.next()
+					.getValue();
+			if (i < row.length)
+				row[i] = value;
+			i++;
+		}
+		if (i != row.length)
+			throw new IllegalArgumentException("expected " + row.length + " values to bind, but got " + i);
+		return add(row);
+	}
+
+	/**
+	 * Adds a row using the passed values, in the order of the bind slots
+	 *
+	 * @param values The values to bind
+	 * @return This instance
+	 * @throws SQLException if binding or executing fails
+	 */
+	public Batch add(final Object... values) throws SQLException {
+		query.bind(statement(), values);
+		return added();
+	}
+
+	/**
+	 * Adds a row using the values of a BindBuffer
+	 *
+	 * @param bindings The values to bind
+	 * @return This instance
+	 * @throws SQLException if binding or executing fails
+	 */
+	public Batch add(final BindBuffer bindings) throws SQLException {
+		query.bind(statement(), bindings);
+		return added();
+	}
+
+	/**
+	 * Executes the current batch, if any rows were added since the last execution
+	 *
+	 * @return This instance
+	 * @throws SQLException if executing fails
+	 */
+	public Batch flush() throws SQLException {
+		if (pending == 0)
+			return this;
+
+		final int[] counts = stmt.executeBatch();
+		if (counts != null) {
+			if (rows + counts.length > updateCounts.length)
+				updateCounts = Arrays.copyOf(updateCounts, Math.max(updateCounts.length * 2, rows + counts.length));
+			System.arraycopy(counts, 0, updateCounts, rows, counts.length);
+			rows += counts.length;
+		}
+		pending = 0;
+
+		if (options.returnGeneratedKeys())
+			try (ResultSet keys = stmt.getGeneratedKeys()) {
+				while (keys != null && keys.next())
+					generatedKeys.add(keys.getObject(1));
+			}
+
+		return this;
+	}
+
+	/**
+	 * Executes the remaining rows and releases the statement
+	 *
+	 * @return The aggregated results of all executed batches
+	 * @throws SQLException if executing fails
+	 */
+	public Result execute() throws SQLException {
+		try {
+			flush();
+		} finally {
+			close();
+		}
+		return new Result(Arrays.copyOf(updateCounts, rows), Collections.unmodifiableList(generatedKeys));
+	}
+
+	/**
+	 * Releases the statement without executing the remaining rows. If the options
+	 * have a StatementCache, the statement is returned to it.
+	 *
+	 * @throws SQLException if closing the statement fails
+	 */
+	@Override
+	public void close() throws SQLException {
+		closed = true;
+		if (stmt == null)
+			return;
+
+		final PreparedStatement stmt = this.stmt;
+		this.stmt = null;
+		if (pending > 0) {
+			pending = 0;
+			stmt.clearBatch();
+		}
+		options.releaseStatement(stmt);
+	}
+
+	private PreparedStatement statement() throws SQLException {
+		if (closed)
+			throw new IllegalStateException("the batch is already closed");
+		if (stmt == null)
+			stmt = options.prepareStatement(connection, query.sql());
+		return stmt;
+	}
+
+	private Batch added() throws SQLException {
+		stmt.addBatch();
+		if (++pending >= batchSize)
+			flush();
+		return this;
+	}
+
+}
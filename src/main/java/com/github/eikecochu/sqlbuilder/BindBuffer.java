@@ -0,0 +1,510 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The BindBuffer class holds the values bound to the parameters of a prepared
+ * statement. Every slot has a type tag, and numeric and boolean values are
+ * stored in primitive lanes instead of being boxed. Values are bound with the
+ * typed setter of their type, such as setInt or setString, so the JDBC driver
+ * does not have to discover the type of every parameter. Slots with an SQL
+ * type are bound with setObject and setNull using that type instead.
+ *
+ * A BindBuffer can be reused for any number of executions: set new values
+ * with the typed setters and bind the buffer again. Parameter indexes are
+ * 1-based, like in JDBC. Instances are not thread-safe.
+ */
+public final class BindBuffer {
+
+	/**
+	 * The type of a bind slot, which determines the setter used for binding
+	 */
+	public enum Type {
+		NULL, INT, LONG, SHORT, BYTE, DOUBLE, FLOAT, BOOLEAN, STRING, BIG_DECIMAL, DATE, TIMESTAMP, BYTES, OBJECT
+	}
+
+	private Type[] types;
+	private long[] longs;
+	private double[] doubles;
+	private Object[] objects;
+	private int[] sqlTypes;
+	private int size;
+
+	/**
+	 * Create a new, empty BindBuffer
+	 */
+	public BindBuffer() {
+		this(8);
+	}
+
+	/**
+	 * Create a new BindBuffer with a pre-sized capacity
+	 *
+	 * @param capacity The initial capacity
+	 */
+	public BindBuffer(final int capacity) {
+		final int length = Math.max(1, capacity);
+		types = new Type[length];
+		longs = new long[length];
+		doubles = new double[length];
+		objects = new Object[length];
+		sqlTypes = new int[length];
+	}
+
+	/**
+	 * Creates a copy of this buffer, for example to bind the same values from
+	 * another thread
+	 *
+	 * @return The copy
+	 */
+	public BindBuffer copy() {
+		final BindBuffer copy = new BindBuffer(size);
+		System.arraycopy(types, 0, copy.types, 0, size);
+		System.arraycopy(longs, 0, copy.longs, 0, size);
+		System.arraycopy(doubles, 0, copy.doubles, 0, size);
+		System.arraycopy(objects, 0, copy.objects, 0, size);
+		System.arraycopy(sqlTypes, 0, copy.sqlTypes, 0, size);
+		copy.size = size;
+		return copy;
+	}
+
+	/**
+	 * Returns the number of slots
+	 *
+	 * @return The number of slots
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Appends a new slot holding the passed value. Boxed numbers and booleans
+	 * are unboxed into the primitive lanes.
+	 *
+	 * @param value The value
+	 * @return This instance
+	 */
+	public BindBuffer add(final Object value) {
+		return add(value, 0);
+	}
+
+	/**
+	 * Appends a new slot holding the passed value, bound with the passed SQL type
+	 *
+	 * @param value   The value
+	 * @param sqlType The SQL type from java.sql.Types, or 0 to use the typed
+	 *                setter of the value
+	 * @return This instance
+	 */
+	public BindBuffer add(final Object value, final int sqlType) {
+		if (size == types.length) {
+			final int length = size * 2;
+			types = Arrays.copyOf(types, length);
+			longs = Arrays.copyOf(longs, length);
+			doubles = Arrays.copyOf(doubles, length);
+			objects = Arrays.copyOf(objects, length);
+			sqlTypes = Arrays.copyOf(sqlTypes, length);
+		}
+		sqlTypes[size] = sqlType;
+		return set(++size, value);
+	}
+
+	/**
+	 * Returns the SQL type of a slot
+	 *
+	 * @param index The 1-based index of the slot
+	 * @return The SQL type from java.sql.Types, or 0 if the slot has none
+	 */
+	public int sqlType(final int index) {
+		return sqlTypes[slot(index)];
+	}
+
+	/**
+	 * Sets all slots to null, keeping the number of slots and their SQL types
+	 *
+	 * @return This instance
+	 */
+	public BindBuffer clear() {
+		Arrays.fill(types, 0, size, Type.NULL);
+		Arrays.fill(objects, 0, size, null);
+		return this;
+	}
+
+	/**
+	 * Returns the type of a slot
+	 *
+	 * @param index The 1-based index of the slot
+	 * @return The type of the slot
+	 */
+	public Type type(final int index) {
+		return types[slot(index)];
+	}
+
+	/**
+	 * Sets the value of a slot. The type of the slot is determined by the class
+	 * of the value.
+	 *
+	 * @param index The 1-based index of the slot
+	 * @param value The value
+	 * @return This instance
+	 */
+	public BindBuffer set(final int index, final Object value) {
+		final int slot = slot(index);
+		final Type type = typeOf(value);
+		switch (type) {
+		case INT:
+		case LONG:
+		case SHORT:
+		case BYTE:
+			return setLong(slot, type, ((Number) value).longValue());
+		case BOOLEAN:
+			return setLong(slot, type, (Boolean) value ? 1 : 0);
+		case DOUBLE:
+		case FLOAT:
+			return setDouble(slot, type, ((Number) value).doubleValue());
+		default:
+			return put(slot, type, value);
+		}
+	}
+
+	/**
+	 * Returns the type used to bind the passed value
+	 *
+	 * @param value The value
+	 * @return The type of the value
+	 */
+	public static Type typeOf(final Object value) {
+		if (value == null)
+			return Type.NULL;
+		final Class<?> type = value.getClass();
+		if (type == Integer.class)
+			return Type.INT;
+		if (type == Long.class)
+			return Type.LONG;
+		if (type == String.class)
+			return Type.STRING;
+		if (type == Double.class)
+			return Type.DOUBLE;
+		if (type == Boolean.class)
+			return Type.BOOLEAN;
+		if (type == BigDecimal.class)
+			return Type.BIG_DECIMAL;
+		if (type == Timestamp.class)
+			return Type.TIMESTAMP;
+		if (type == Date.class)
+			return Type.DATE;
+		if (type == Short.class)
+			return Type.SHORT;
+		if (type == Byte.class)
+			return Type.BYTE;
+		if (type == Float.class)
+			return Type.FLOAT;
+		if (type == byte[].class)
+			return Type.BYTES;
+		return Type.OBJECT;
+	}
+
+	/**
+	 * Binds a single value to a parameter of a statement, using the typed setter
+	 * of the type of the value
+	 *
+	 * @param stmt  The statement
+	 * @param index The 1-based parameter index
+	 * @param value The value
+	 * @throws SQLException if binding fails
+	 */
+	public static void bind(final PreparedStatement stmt, final int index, final Object value) throws SQLException {
+		switch (typeOf(value)) {
+		case INT:
+			stmt.setInt(index, (Integer) value);
+			break;
+		case LONG:
+			stmt.setLong(index, (Long) value);
+			break;
+		case SHORT:
+			stmt.setShort(index, (Short) value);
+			break;
+		case BYTE:
+			stmt.setByte(index, (Byte) value);
+			break;
+		case BOOLEAN:
+			stmt.setBoolean(index, (Boolean) value);
+			break;
+		case DOUBLE:
+			stmt.setDouble(index, (Double) value);
+			break;
+		case FLOAT:
+			stmt.setFloat(index, (Float) value);
+			break;
+		case STRING:
+			stmt.setString(index, (String) value);
+			break;
+		case BIG_DECIMAL:
+			stmt.setBigDecimal(index, (BigDecimal) value);
+			break;
+		case DATE:
+			stmt.setDate(index, (Date) value);
+			break;
+		case TIMESTAMP:
+			stmt.setTimestamp(index, (Timestamp) value);
+			break;
+		case BYTES:
+			stmt.setBytes(index, (byte[]) value);
+			break;
+		default:
+			bindObject(stmt, index, value);
+			break;
+		}
+	}
+
+	/**
+	 * Sets an int value
+	 *
+	 * @param index The 1-based index of the slot
+	 * @param value The value
+	 * @return This instance
+	 */
+	public BindBuffer setInt(final int index, final int value) {
+		return setLong(slot(index), Type.INT, value);
+	}
+
+	/**
+	 * Sets a long value
+	 *
+	 * @param index The 1-based index of the slot
+	 * @param value The value
+	 * @return This instance
+	 */
+	public BindBuffer setLong(final int index, final long value) {
+		return setLong(slot(index), Type.LONG, value);
+	}
+
+	/**
+	 * Sets a double value
+	 *
+	 * @param index The 1-based index of the slot
+	 * @param value The value
+	 * @return This instance
+	 */
+	public BindBuffer setDouble(final int index, final double value) {
+		return setDouble(slot(index), Type.DOUBLE, value);
+	}
+
+	/**
+	 * Sets a boolean value
+	 *
+	 * @param index The 1-based index of the slot
+	 * @param value The value
+	 * @return This instance
+	 */
+	public BindBuffer setBoolean(final int index, final boolean value) {
+		return setLong(slot(index), Type.BOOLEAN, value ? 1 : 0);
+	}
+
+	/**
+	 * Sets a string value
+	 *
+	 * @param index The 1-based index of the slot
+	 * @param value The value
+	 * @return This instance
+	 */
+	public BindBuffer setString(final int index, final String value) {
+		return put(slot(index), value == null ? Type.NULL : Type.STRING, value);
+	}
+
+	/**
+	 * Sets a timestamp value
+	 *
+	 * @param index The 1-based index of the slot
+	 * @param value The value
+	 * @return This instance
+	 */
+	public BindBuffer setTimestamp(final int index, final Timestamp value) {
+		return put(slot(index), value == null ? Type.NULL : Type.TIMESTAMP, value);
+	}
+
+	/**
+	 * Returns the value of a slot, boxing primitive values
+	 *
+	 * @param index The 1-based index of the slot
+	 * @return The value
+	 */
+	public Object get(final int index) {
+		final int slot = slot(index);
+		switch (types[slot]) {
+		case INT:
+			return (int) longs[slot];
+		case LONG:
+			return longs[slot];
+		case SHORT:
+			return (short) longs[slot];
+		case BYTE:
+			return (byte) longs[slot];
+		case BOOLEAN:
+			return longs[slot] != 0;
+		case DOUBLE:
+			return doubles[slot];
+		case FLOAT:
+			return (float) doubles[slot];
+		default:
+			return objects[slot];
+		}
+	}
+
+	/**
+	 * Returns a live list view of the values of this buffer
+	 *
+	 * @return The values
+	 */
+	public List<Object> values() {
+		return new AbstractList<Object>() {
+
+			@Override
+			public Object get(final int index) {
+				return BindBuffer.this.get(index + 1);
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+		};
+	}
+
+	/**
+	 * Binds all slots to the parameters of a statement, starting at parameter 1
+	 *
+	 * @param stmt The statement
+	 * @throws SQLException if binding fails
+	 */
+	public void bind(final PreparedStatement stmt) throws SQLException {
+		bind(stmt, 1);
+	}
+
+	/**
+	 * Binds all slots to the parameters of a statement
+	 *
+	 * @param stmt  The statement
+	 * @param first The index of the parameter to bind the first slot to
+	 * @throws SQLException if binding fails
+	 */
+	public void bind(final PreparedStatement stmt, final int first) throws SQLException {
+		for (int slot = 0; slot < size; slot++) {
+			final int index = first + slot;
+			if (sqlTypes[slot] != 0) {
+				bind(stmt, index, get(slot + 1), sqlTypes[slot]);
+				continue;
+			}
+			switch (types[slot]) {
+			case INT:
+				stmt.setInt(index, (int) longs[slot]);
+				break;
+			case LONG:
+				stmt.setLong(index, longs[slot]);
+				break;
+			case SHORT:
+				stmt.setShort(index, (short) longs[slot]);
+				break;
+			case BYTE:
+				stmt.setByte(index, (byte) longs[slot]);
+				break;
+			case BOOLEAN:
+				stmt.setBoolean(index, longs[slot] != 0);
+				break;
+			case DOUBLE:
+				stmt.setDouble(index, doubles[slot]);
+				break;
+			case FLOAT:
+				stmt.setFloat(index, (float) doubles[slot]);
+				break;
+			case STRING:
+				stmt.setString(index, (String) objects[slot]);
+				break;
+			case BIG_DECIMAL:
+				stmt.setBigDecimal(index, (BigDecimal) objects[slot]);
+				break;
+			case DATE:
+				stmt.setDate(index, (Date) objects[slot]);
+				break;
+			case TIMESTAMP:
+				stmt.setTimestamp(index, (Timestamp) objects[slot]);
+				break;
+			case BYTES:
+				stmt.setBytes(index, (byte[]) objects[slot]);
+				break;
+			default:
+				bindObject(stmt, index, objects[slot]);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Binds a single value to a parameter of a statement with an SQL type. Null
+	 * values are bound with setNull.
+	 *
+	 * @param stmt    The statement
+	 * @param index   The 1-based parameter index
+	 * @param value   The value
+	 * @param sqlType The SQL type from java.sql.Types, or 0 to use the typed
+	 *                setter of the value
+	 * @throws SQLException if binding fails
+	 */
+	public static void bind(final PreparedStatement stmt, final int index, final Object value, final int sqlType)
+			throws SQLException {
+		if (sqlType == 0 || value instanceof BindValue)
+			bind(stmt, index, value);
+		else if (value == null)
+			stmt.setNull(index, sqlType);
+		else
+			stmt.setObject(index, value, sqlType);
+	}
+
+	private static void bindObject(final PreparedStatement stmt, final int index, final Object value)
+			throws SQLException {
+		if (value instanceof BindValue)
+			((BindValue) value).bind(stmt, index);
+		else
+			stmt.setObject(index, value);
+	}
+
+	private int slot(final int index) {
+		if (index < 1 || index > size)
+			throw new IndexOutOfBoundsException("parameter index " + index + " out of range 1.." + size);
+		return index - 1;
+	}
+
+	private BindBuffer setLong(final int slot, final Type type, final long value) {
+		types[slot] = type;
+		longs[slot] = value;
+		objects[slot] = null;
+		return this;
+	}
+
+	private BindBuffer setDouble(final int slot, final Type type, final double value) {
+		types[slot] = type;
+		doubles[slot] = value;
+		objects[slot] = null;
+		return this;
+	}
+
+	private BindBuffer put(final int slot, final Type type, final Object value) {
+		types[slot] = type;
+		objects[slot] = value;
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return values().toString();
+	}
+
+}
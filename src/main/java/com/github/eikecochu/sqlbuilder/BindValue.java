@@ -0,0 +1,23 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * The BindValue interface is implemented by prepared values that bind
+ * themselves to a statement, for example values that need the connection of the
+ * statement to create an SQL array.
+ */
+@FunctionalInterface
+public interface BindValue {
+
+	/**
+	 * Binds this value to a parameter of the statement
+	 *
+	 * @param stmt  The statement
+	 * @param index The 1-based parameter index
+	 * @throws SQLException if binding fails
+	 */
+	void bind(PreparedStatement stmt, int index) throws SQLException;
+
+}
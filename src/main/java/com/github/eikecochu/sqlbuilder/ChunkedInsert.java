@@ -0,0 +1,187 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * The ChunkedInsert class splits the rows of a multi-row INSERT statement into
+ * chunks that stay within the parameter limit of the dialect. Chunks only use a
+ * few canonical row counts, 1, 8, 64 and the maximum number of rows per
+ * statement, so at most four distinct SQL strings are created regardless of
+ * the number of rows. This keeps statement caches and the plan cache of the
+ * database small.
+ *
+ * Each distinct chunk is rendered only once. The chunks are executed one after
+ * another, or in JDBC batches per chunk size.
+ */
+@ToString
+@Getter
+@Setter
+@Accessors(fluent = true)
+public final class ChunkedInsert {
+
+	private static final int[] CANONICAL_ROWS = { 64, 8, 1 };
+
+	@ToString.Exclude
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final Insert insert;
+
+	/**
+	 * Enable to execute the chunks of the same size in a JDBC batch. If disabled,
+	 * every chunk is executed on its own.
+	 */
+	private boolean batch = false;
+
+	ChunkedInsert(final Insert insert) {
+		this.insert = insert;
+	}
+
+	/**
+	 * Returns the row counts of the chunks the INSERT statement is split into, in
+	 * the order they are executed
+	 *
+	 * @param options The QueryOptions to use
+	 * @return The row counts of all chunks
+	 */
+	public int[] chunkRows(final QueryOptions options) {
+		final int[] sizes = chunkSizes(maxRows(options));
+		final List<Integer> rows = new ArrayList<>();
+		int remaining = insert.rowCount();
+		for (final int size : sizes)
+			for (; remaining >= size; remaining -= size)
+				rows.add(size);
+
+		final int[] result = new int[rows.size()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = rows.get(i);
+		return result;
+	}
+
+	/**
+	 * Returns the INSERT statements of all chunks, in the order they are executed
+	 *
+	 * @param options The QueryOptions to use
+	 * @return The chunk statements
+	 */
+	public List<Insert> chunks(final QueryOptions options) {
+		final List<Insert> chunks = new ArrayList<>();
+		int from = 0;
+		for (final int rows : chunkRows(options)) {
+			chunks.add(insert.chunk(from, rows));
+			from += rows;
+		}
+		return chunks;
+	}
+
+	/**
+	 * Executes all chunks using the default options
+	 *
+	 * @param connection The database connection
+	 * @return The combined results, with one update count per chunk
+	 * @throws SQLException if executing fails
+	 */
+	public Batch.Result execute(final Connection connection) throws SQLException {
+		return execute(connection, null);
+	}
+
+	/**
+	 * Executes all chunks
+	 *
+	 * @param connection The database connection
+	 * @param options    The QueryOptions to use
+	 * @return The combined results, with one update count per chunk
+	 * @throws SQLException if executing fails
+	 */
+	public Batch.Result execute(final Connection connection, QueryOptions options) throws SQLException {
+		if (options == null)
+			options = QueryOptions.defaults();
+
+		final int[] chunkRows = chunkRows(options);
+		final int columns = insert.columnCount();
+		final int[] counts = new int[chunkRows.length];
+		final List<Object> generatedKeys = new ArrayList<>();
+
+		int chunk = 0;
+		int from = 0;
+		while (chunk < chunkRows.length) {
+			// chunks are ordered by size, so all chunks of one size follow each other
+			final int rows = chunkRows[chunk];
+			final CompiledQuery compiled = insert.chunk(from, rows)
+					.query()
+					.compile(options);
+			final Object[] values = compiled.values();
+			final int offset = values.length - rows * columns;
+
+			if (batch) {
+				final int first = chunk;
+				try (Batch chunkBatch = compiled.batch(connection)) {
+					for (; chunk < chunkRows.length && chunkRows[chunk] == rows; chunk++, from += rows)
+						chunkBatch.add(values(values, offset, from, rows));
+					final Batch.Result result = chunkBatch.execute();
+					System.arraycopy(result.updateCounts(), 0, counts, first, result.rows());
+					generatedKeys.addAll(result.generatedKeys());
+				}
+			} else
+				for (; chunk < chunkRows.length && chunkRows[chunk] == rows; chunk++, from += rows) {
+					final PreparedStatement stmt = compiled.prepare(connection, values(values, offset, from, rows));
+					try {
+						counts[chunk] = stmt.executeUpdate();
+						if (options.returnGeneratedKeys())
+							try (ResultSet keys = stmt.getGeneratedKeys()) {
+								while (keys != null && keys.next())
+									generatedKeys.add(keys.getObject(1));
+							}
+					} finally {
+						options.releaseStatement(stmt);
+					}
+				}
+		}
+
+		return new Batch.Result(counts, Collections.unmodifiableList(generatedKeys));
+	}
+
+	private Object[] values(final Object[] values, final int offset, final int from, final int rows) {
+		// the values of the parent, for example a WITH clause, stay the same
+		final Object[] result = Arrays.copyOf(values, values.length);
+		final int columns = insert.columnCount();
+		for (int row = 0; row < rows; row++)
+			for (int column = 0; column < columns; column++)
+				result[offset + row * columns + column] = insert.rowValue(column, from + row);
+		return result;
+	}
+
+	private int maxRows(final QueryOptions options) {
+		final Dialect dialect = options.dialect();
+		final int columns = Math.max(1, insert.columnCount());
+		return Math.max(1, Math.min(dialect.maxInsertRows(), dialect.maxParameters() / columns));
+	}
+
+	static int[] chunkSizes(final int maxRows) {
+		int count = 1;
+		for (final int rows : CANONICAL_ROWS)
+			if (rows < maxRows)
+				count++;
+
+		final int[] sizes = new int[count];
+		sizes[0] = maxRows;
+		int i = 1;
+		for (final int rows : CANONICAL_ROWS)
+			if (rows < maxRows)
+				sizes[i++] = rows;
+		return sizes;
+	}
+
+}
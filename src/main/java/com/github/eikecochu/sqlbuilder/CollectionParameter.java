@@ -0,0 +1,33 @@
+package com.github.eikecochu.sqlbuilder;
+
+/**
+ * The CollectionParameter interface describes how a dialect passes all values
+ * of an IN list as a single parameter, for example as an SQL array. The
+ * rendered SQL is the same for any number of values, so large IN lists neither
+ * create new SQL strings nor need one placeholder per value.
+ */
+public interface CollectionParameter {
+
+	/**
+	 * Renders the comparison with the collection parameter, following the column
+	 * name, for example "= ANY(?)"
+	 *
+	 * @param writer  The QueryWriter to append to
+	 * @param options The QueryOptions to apply
+	 * @param values  The values of the IN list
+	 * @param sqlType The SQL type of the values from java.sql.Types, or 0 if the
+	 *                type should be derived from the class of the values
+	 */
+	void render(QueryWriter writer, QueryOptions options, Object[] values, int sqlType);
+
+	/**
+	 * Creates the value bound to the collection parameter
+	 *
+	 * @param values  The values of the IN list
+	 * @param sqlType The SQL type of the values from java.sql.Types, or 0 if the
+	 *                type should be derived from the class of the values
+	 * @return The value to bind
+	 */
+	Object value(Object[] values, int sqlType);
+
+}
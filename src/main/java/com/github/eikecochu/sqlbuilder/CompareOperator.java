@@ -74,7 +74,7 @@ public enum CompareOperator implements QueryPart {
 
 	@Override
 	public String string(final QueryOptions options) {
-		return options.cased(string);
+		return options.keyword(string);
 	}
 
 	/**
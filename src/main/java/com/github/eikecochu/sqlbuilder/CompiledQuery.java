@@ -0,0 +1,217 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * The CompiledQuery class is an immutable, rendered form of a Query. It holds
+ * the final SQL string and an ordered list of bind slots, so statements of the
+ * same shape can be prepared many times with different values without
+ * rendering the query again. Instances are safe to share between threads.
+ *
+ * The shape of the SQL string is fixed at compile time. Values that change the
+ * shape of a query, such as null values with ignoreNull enabled or lists passed
+ * to IN, must have the same shape when they are bound again.
+ */
+@ToString
+@Getter
+@Accessors(fluent = true)
+public final class CompiledQuery {
+
+	/**
+	 * The BindSlot class describes a single parameter placeholder of a compiled
+	 * query.
+	 */
+	@ToString
+	@Getter
+	@Accessors(fluent = true)
+	@AllArgsConstructor(access = AccessLevel.PACKAGE)
+	public static final class BindSlot {
+
+		/**
+		 * The 1-based parameter index of this slot in the statement
+		 */
+		private final int index;
+
+		/**
+		 * The class of the value bound at compile time, or null if the value was null
+		 */
+		private final Class<?> type;
+
+		/**
+		 * The SQL type used to bind the value, or 0 if the value is bound by its class
+		 */
+		private final int sqlType;
+
+		/**
+		 * The value bound at compile time
+		 */
+		@Getter(AccessLevel.NONE)
+		private final Object value;
+
+	}
+
+	private final String sql;
+	private final List<BindSlot> slots;
+
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	private final QueryOptions options;
+
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	private final BindBuffer bindings;
+
+	CompiledQuery(final String sql, final BindBuffer bindings, final QueryOptions options) {
+		this.sql = sql;
+		final List<BindSlot> slots = new ArrayList<>(bindings.size());
+		for (int index = 1; index <= bindings.size(); index++) {
+			final Object value = bindings.get(index);
+			slots.add(new BindSlot(index, value == null ? null : value.getClass(), bindings.sqlType(index), value));
+		}
+		this.slots = Collections.unmodifiableList(slots);
+		this.bindings = bindings.copy();
+		this.options = options;
+	}
+
+	/**
+	 * Returns the number of parameters of the compiled statement
+	 *
+	 * @return The number of bind slots
+	 */
+	public int parameterCount() {
+		return slots.size();
+	}
+
+	/**
+	 * Returns the values that were bound when the query was compiled
+	 *
+	 * @return A new array containing the compile time values
+	 */
+	public Object[] values() {
+		final Object[] values = new Object[slots.size()];
+		for (int i = 0; i < values.length; i++)
+			values[i] = slots.get(i).value;
+		return values;
+	}
+
+	/**
+	 * Prepares the statement using the values that were bound when the query was
+	 * compiled
+	 *
+	 * @param connection The database connection
+	 * @return The PreparedStatement
+	 * @throws SQLException if preparing fails
+	 */
+	public PreparedStatement prepare(final Connection connection) throws SQLException {
+		return prepare(connection, bindings);
+	}
+
+	/**
+	 * Returns a new BindBuffer holding the values and SQL types that were bound
+	 * when the query was compiled. The buffer can be filled with new values using its typed
+	 * setters and reused for any number of executions.
+	 *
+	 * @return A new BindBuffer for this query
+	 */
+	public BindBuffer bindings() {
+		return bindings.copy();
+	}
+
+	/**
+	 * Prepares the statement and binds the passed values in the order of the bind
+	 * slots
+	 *
+	 * @param connection The database connection
+	 * @param values     The values to bind
+	 * @return The PreparedStatement
+	 * @throws SQLException if preparing fails
+	 */
+	public PreparedStatement prepare(final Connection connection, final Object... values) throws SQLException {
+		checkValues(values);
+		return bind(createStatement(connection), values);
+	}
+
+	/**
+	 * Prepares the statement and binds the values of the passed BindBuffer
+	 *
+	 * @param connection The database connection
+	 * @param bindings   The values to bind
+	 * @return The PreparedStatement
+	 * @throws SQLException if preparing fails
+	 */
+	public PreparedStatement prepare(final Connection connection, final BindBuffer bindings) throws SQLException {
+		checkValues(bindings);
+		return bind(createStatement(connection), bindings);
+	}
+
+	/**
+	 * Creates a Batch to execute this query with many sets of values
+	 *
+	 * @param connection The database connection
+	 * @return The Batch
+	 */
+	public Batch batch(final Connection connection) {
+		return new Batch(this, options, connection);
+	}
+
+	private PreparedStatement createStatement(final Connection connection) throws SQLException {
+		return options.prepareStatement(connection, sql);
+	}
+
+	/**
+	 * Binds the passed values to an already prepared statement of this query, for
+	 * example to execute it again with different values
+	 *
+	 * @param stmt   The PreparedStatement created for this query
+	 * @param values The values to bind
+	 * @return The passed PreparedStatement
+	 * @throws SQLException if binding fails
+	 */
+	public PreparedStatement bind(final PreparedStatement stmt, final Object... values) throws SQLException {
+		checkValues(values);
+		for (int i = 0; i < values.length; i++)
+			BindBuffer.bind(stmt, i + 1, values[i], slots.get(i).sqlType);
+		return stmt;
+	}
+
+	/**
+	 * Binds the values of the passed BindBuffer to an already prepared statement
+	 * of this query. Values are bound with the typed setters of their types.
+	 *
+	 * @param stmt     The PreparedStatement created for this query
+	 * @param bindings The values to bind
+	 * @return The passed PreparedStatement
+	 * @throws SQLException if binding fails
+	 */
+	public PreparedStatement bind(final PreparedStatement stmt, final BindBuffer bindings) throws SQLException {
+		checkValues(bindings);
+		bindings.bind(stmt);
+		return stmt;
+	}
+
+	private void checkValues(final Object[] values) {
+		checkCount(values == null ? 0 : values.length);
+	}
+
+	private void checkValues(final BindBuffer bindings) {
+		checkCount(bindings.size());
+	}
+
+	private void checkCount(final int count) {
+		if (count != slots.size())
+			throw new IllegalArgumentException(
+					"expected " + slots.size() + " values to bind, but got " + count);
+	}
+
+}
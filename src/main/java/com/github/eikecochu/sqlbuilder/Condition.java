@@ -12,14 +12,17 @@ import lombok.ToString;
 public class Condition extends Conditionable<Condition> {
 
 	@Override
-	public String string(final QueryOptions options) {
-		String condition = super.string(options);
-		if (condition == null)
-			return null;
-		condition = condition.trim();
-		if (condition.isEmpty())
-			return null;
-		return "(" + condition + ")";
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final int mark = writer.mark();
+		writer.append('(');
+
+		final int condition = writer.markTrimmed();
+		super.render(writer, context);
+
+		if (writer.trim(condition))
+			writer.append(')');
+		else
+			writer.reset(mark);
 	}
 
 }
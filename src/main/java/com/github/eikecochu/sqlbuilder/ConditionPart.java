@@ -23,6 +23,8 @@ public class ConditionPart<T extends Conditionable<T>> implements QueryPart {
 	private CompareOperator operator;
 	private boolean not;
 	private ConditionValueType type;
+	private int sqlType;
+	private boolean collection;
 
 	protected ConditionPart(final Conditionable<T> conditionable, final String name) {
 		this.conditionable = conditionable;
@@ -58,6 +60,18 @@ public class ConditionPart<T extends Conditionable<T>> implements QueryPart {
 		return condition(CompareOperator.EQUALS, ConditionValueType.VALUE, value);
 	}
 
+	/**
+	 * The EQUALS operator with an SQL type for the prepared value
+	 *
+	 * @param value   The value to compare to
+	 * @param sqlType The SQL type of the value, from java.sql.Types
+	 * @return The previous instance
+	 */
+	public T eq(final Object value, final int sqlType) {
+		this.sqlType = sqlType;
+		return eq(value);
+	}
+
 	/**
 	 * Set a column to be constrained
 	 *
@@ -233,6 +247,54 @@ public class ConditionPart<T extends Conditionable<T>> implements QueryPart {
 		return in().values(values);
 	}
 
+	/**
+	 * The IN operator with an SQL type for the prepared values
+	 *
+	 * @param values  The values to compare to
+	 * @param sqlType The SQL type of the values, from java.sql.Types
+	 * @return The previous instance
+	 */
+	public T in(final Object[] values, final int sqlType) {
+		this.sqlType = sqlType;
+		return in(values);
+	}
+
+	/**
+	 * The IN operator with an SQL type for the prepared values
+	 *
+	 * @param values  The values to compare to
+	 * @param sqlType The SQL type of the values, from java.sql.Types
+	 * @return The previous instance
+	 */
+	public T in(final Iterable<Object> values, final int sqlType) {
+		this.sqlType = sqlType;
+		return in(values);
+	}
+
+	/**
+	 * The IN operator with all values passed as a single collection parameter, if
+	 * the dialect supports it. Otherwise a regular IN list is rendered.
+	 *
+	 * @param values The values to compare to
+	 * @return The previous instance
+	 */
+	public T inCollection(final Object... values) {
+		this.collection = true;
+		return in(values);
+	}
+
+	/**
+	 * The IN operator with all values passed as a single collection parameter, if
+	 * the dialect supports it. Otherwise a regular IN list is rendered.
+	 *
+	 * @param values The values to compare to
+	 * @return The previous instance
+	 */
+	public T inCollection(final Iterable<Object> values) {
+		this.collection = true;
+		return in(values);
+	}
+
 	/**
 	 * The BETWEEN operator
 	 *
@@ -253,6 +315,19 @@ public class ConditionPart<T extends Conditionable<T>> implements QueryPart {
 		return between().values(value1, value2);
 	}
 
+	/**
+	 * The BETWEEN operator with an SQL type for the prepared values
+	 *
+	 * @param value1  The first value
+	 * @param value2  The second value
+	 * @param sqlType The SQL type of the values, from java.sql.Types
+	 * @return The previous instance
+	 */
+	public T between(final Object value1, final Object value2, final int sqlType) {
+		this.sqlType = sqlType;
+		return between(value1, value2);
+	}
+
 	/**
 	 * The IS NULL operator
 	 *
@@ -276,8 +351,17 @@ public class ConditionPart<T extends Conditionable<T>> implements QueryPart {
 
 	@Override
 	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+		return QueryWriter.render(this, options);
+	}
 
+	@Override
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
+
+		final int mark = writer.mark();
+
+		// rendering must not modify this part, so the operator is replaced locally
+		CompareOperator operator = this.operator;
 		if (operator != CompareOperator.IS_NULL && operator != CompareOperator.IS_NOT_NULL && !options.ignoreNull()
 				&& (values == null || values.length == 0))
 			operator = CompareOperator.IS_NULL;
@@ -285,85 +369,168 @@ public class ConditionPart<T extends Conditionable<T>> implements QueryPart {
 		if ((values != null && values.length > 0) || operator == CompareOperator.IS_NULL
 				|| operator == CompareOperator.IS_NOT_NULL) {
 
-			if (not) {
-				strings.add(options.cased("NOT"));
-				strings.add(" ");
-			}
-
-			if (name != null) {
-				strings.add(QueryUtils.splitName(options, name)
-						.string(options));
-				strings.add(" ");
-			}
+			if (not)
+				writer.append(options.keyword("NOT"))
+						.append(' ');
+
+			final CollectionParameter collectionParameter = operator == CompareOperator.IN
+					? collectionParameter(context)
+					: null;
+			final int maxInListSize = options.dialect()
+					.maxInListSize();
+			if (collectionParameter != null) {
+				renderName(writer, context);
+				final int collectionType = collectionType(options);
+				collectionParameter.render(writer, options, values, collectionType);
+				context.addPreparedValue(collectionParameter.value(values, collectionType));
+			} else if (operator == CompareOperator.IN && values.length > maxInListSize)
+				renderInGroups(writer, context, maxInListSize);
+			else {
+				renderName(writer, context);
+
+				if (operator != null)
+					writer.append(operator.string(options));
+
+				if (operator != CompareOperator.IS_NULL && operator != CompareOperator.IS_NOT_NULL) {
+					writer.append(' ');
+
+					if (operator == CompareOperator.BETWEEN) {
+						if (context.prepare()) {
+							writer.append("? AND ?");
+							context.addPreparedValue(values[0], sqlType);
+							context.addPreparedValue(values[1], sqlType);
+						} else {
+							QueryUtils.appendValue(writer, options, values[0]);
+							writer.append(" AND ");
+							QueryUtils.appendValue(writer, options, values[1]);
+						}
+					} else if (operator == CompareOperator.IN) {
+						writer.append('(');
+						renderInValues(writer, context, 0, values.length);
+						writer.append(')');
+					} else if (type != null)
+						switch (type) {
+						case EXPRESSION:
+							Expression expression;
+							if (values.length == 1)
+								expression = new Expression(values[0].toString());
+							else {
+								final Object[] subValues = Arrays.copyOfRange(values, 1, values.length);
+								expression = new Expression(values[0].toString(), subValues);
+							}
+							expression.render(writer, context);
+							break;
+						case COLUMN:
+							QueryUtils.splitName(options, values[0].toString())
+									.render(writer, context);
+							break;
+						case ALL:
+						case ANY:
+							writer.append(type.string(options))
+									.append(" (");
+
+							context.indent();
+							writer.append(context.newLine(true));
+							final int subquery = writer.markTrimmed();
+							((QueryBuilder<?>) values[0]).render(writer, context);
+							writer.trim(subquery);
+							context.unindent();
+
+							writer.append(')');
+							break;
+						case VALUE:
+						default:
+							if (context.prepare()) {
+								writer.append('?');
+								context.addPreparedValue(values[0], sqlType);
+							} else
+								QueryUtils.appendValue(writer, options, values[0]);
+							break;
 
-			if (operator != null)
-				strings.add(operator.string(options));
-
-			if (operator != CompareOperator.IS_NULL && operator != CompareOperator.IS_NOT_NULL) {
-				strings.add(" ");
-
-				if (operator == CompareOperator.BETWEEN) {
-					if (options.prepare()) {
-						strings.add("? AND ?");
-						options.addPreparedValue(values[0]);
-						options.addPreparedValue(values[1]);
-					} else {
-						strings.add(QueryUtils.valueToString(options, values[0]));
-						strings.add(" AND ");
-						strings.add(QueryUtils.valueToString(options, values[1]));
-					}
-				} else if (operator == CompareOperator.IN) {
-					strings.add("(");
-					if (options.prepare()) {
-						strings.add(QueryUtils.preparedInValues(values.length));
-						for (final Object value : values)
-							options.addPreparedValue(value);
-					} else
-						strings.add(StringUtils.join(QueryUtils.valuesToStrings(options, values), ", "));
-					strings.add(")");
-				} else if (type != null)
-					switch (type) {
-					case EXPRESSION:
-						Expression expression;
-						if (values.length == 1)
-							expression = new Expression(values[0].toString());
-						else {
-							final Object[] subValues = Arrays.copyOfRange(values, 1, values.length);
-							expression = new Expression(values[0].toString(), subValues);
 						}
-						strings.add(expression.string(options));
-						break;
-					case COLUMN:
-						strings.add(QueryUtils.splitName(options, values[0].toString())
-								.string(options));
-						break;
-					case ALL:
-					case ANY:
-						strings.add(type.string(options));
-						strings.add(" (");
-
-						options.indent();
-						strings.add(options.newLine(true));
-						strings.add(((QueryBuilder<?>) values[0]).string(options)
-								.trim());
-						options.unindent();
-
-						strings.add(")");
-						break;
-					case VALUE:
-					default:
-						if (options.prepare()) {
-							strings.add("?");
-							options.addPreparedValue(values[0]);
-						} else
-							strings.add(QueryUtils.valueToString(options, values[0]));
-						break;
-
-					}
+				}
 			}
 		}
 
-		return strings.toString();
+		writer.close(mark);
+	}
+
+	private CollectionParameter collectionParameter(final RenderContext context) {
+		final QueryOptions options = context.options();
+		if (!context.prepare())
+			return null;
+		if (collection
+				|| (options.inCollectionThreshold() > 0 && values.length > options.inCollectionThreshold()))
+			return options.dialect()
+					.collectionParameter();
+		return null;
+	}
+
+	private int collectionType(final QueryOptions options) {
+		if (sqlType != 0)
+			return sqlType;
+		for (final Object value : values)
+			if (value != null)
+				return options.sqlType(value);
+		return 0;
+	}
+
+	private void renderInGroups(final QueryWriter writer, final RenderContext context, final int maxInListSize) {
+		final QueryOptions options = context.options();
+
+		// lists exceeding the limit of the dialect are split into groups
+		InListPadding.split();
+		writer.append('(');
+		for (int from = 0; from < values.length; from += maxInListSize) {
+			if (from > 0)
+				writer.append(' ')
+						.append(options.keyword("OR"))
+						.append(' ');
+			renderName(writer, context);
+			writer.append(CompareOperator.IN.string(options))
+					.append(" (");
+			renderInValues(writer, context, from, Math.min(values.length, from + maxInListSize));
+			writer.append(')');
+		}
+		writer.append(')');
+	}
+
+	private void renderName(final QueryWriter writer, final RenderContext context) {
+		if (name != null) {
+			QueryUtils.splitName(context.options(), name)
+					.render(writer, context);
+			writer.append(' ');
+		}
+	}
+
+	private void renderInValues(final QueryWriter writer, final RenderContext context, final int from, final int to) {
+		final QueryOptions options = context.options();
+
+		if (context.prepare()) {
+			int count = to - from;
+			if (options.padInLists()) {
+				final Dialect dialect = options.dialect();
+				// the padding must leave room for the values bound before this list and
+				// for the values of the following IN groups
+				final int available = dialect.maxParameters() - context.preparedValues()
+						.size() - (values.length - to);
+				count = InListPadding.pad(count, Math.min(dialect.maxInListSize(), dialect.maxParameters()),
+						available);
+			}
+			writer.append(QueryUtils.preparedInValues(count));
+			for (int i = from; i < to; i++)
+				context.addPreparedValue(values[i], sqlType);
+			for (int i = to - from; i < count; i++)
+				context.addPreparedValue(values[to - 1], sqlType);
+		} else {
+			String delim = "";
+			for (int i = from; i < to; i++) {
+				writer.append(delim);
+				QueryUtils.appendValue(writer, options, values[i]);
+				writer.commit();
+				delim = ", ";
+			}
+		}
 	}
 
 }
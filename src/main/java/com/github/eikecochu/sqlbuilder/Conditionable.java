@@ -190,8 +190,8 @@ public abstract class Conditionable<T extends Conditionable<T>> extends QueryPar
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
 		// check for alternating value - operator pairs
 		final List<QueryPart> validParts = new ArrayList<>(parts.size());
@@ -209,46 +209,46 @@ public abstract class Conditionable<T extends Conditionable<T>> extends QueryPar
 
 		// check if empty
 		if (validParts.isEmpty())
-			return null;
+			return;
 
-		// get the first part
-		final String first = validParts.get(0)
-				.string(options);
-		boolean needsOp = false;
+		final int mark = writer.mark();
 
-		if (first != null && !first.isEmpty()) {
-			needsOp = true;
-			strings.add(first);
-		}
+		// render the first part
+		validParts.get(0)
+				.render(writer, context);
+		boolean needsOp = !writer.isEmpty(mark);
 
 		// loop through remaining parts
 		// this makes sure that not only values and operators alternate, but it also
 		// ensures that parts which evaluate to "" are handled and following operators
 		// are ignored
 		for (int i = 1; i < validParts.size(); i += 2) {
-			final String op = validParts.get(i)
-					.string(options);
-			final String val = validParts.get(i + 1)
-					.string(options);
+			final int opMark = writer.mark();
 
 			if (needsOp) {
-				if (op != null && !op.isEmpty() && val != null && !val.isEmpty()) {
-					if (options.conditionOnNewline()) {
-						strings.add(options.newLine());
-						strings.add(options.padded(op));
-						strings.add(" ");
-					} else
-						strings.add(op);
-					strings.add(val);
-				}
-			} else if (val != null && !val.isEmpty()) {
-				needsOp = true;
-				strings.add(val);
+				final String op = validParts.get(i)
+						.string(options);
+				if (options.conditionOnNewline())
+					writer.append(context.newLine())
+							.append(options.padCased(op))
+							.append(' ');
+				else
+					writer.append(' ')
+							.append(op)
+							.append(' ');
 			}
-		}
 
-		return strings.toString(options.conditionOnNewline() ? "" : " ");
+			final int valMark = writer.mark();
+			validParts.get(i + 1)
+					.render(writer, context);
+
+			if (writer.isEmpty(valMark))
+				writer.reset(opMark);
+			else
+				needsOp = true;
+		}
 
+		writer.close(mark);
 	}
 
 }
@@ -30,6 +30,6 @@ public enum ConjunctiveOperator implements QueryPart {
 
 	@Override
 	public String string(final QueryOptions options) {
-		return options.cased(string);
+		return options.keyword(string);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executor of the default AsyncExecutor. On Java 8 to 20 this is a
+ * fixed pool of daemon threads. The multi-release JAR replaces this class on
+ * Java 21 and later with a version that uses virtual threads.
+ */
+final class DefaultExecutor {
+
+	private DefaultExecutor() {
+	}
+
+	static ExecutorService create() {
+		final AtomicInteger count = new AtomicInteger();
+		final int threads = Math.max(8, Runtime.getRuntime()
+				.availableProcessors() * 4);
+		return Executors.newFixedThreadPool(threads, runnable -> {
+			final Thread thread = new Thread(runnable, "sqlbuilder-async-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	static boolean virtualThreads() {
+		return false;
+	}
+
+}
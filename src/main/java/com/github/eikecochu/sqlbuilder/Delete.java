@@ -40,25 +40,24 @@ public class Delete extends QueryPartImpl<Delete> implements QueryBuilder<Delete
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
-		else {
-			strings.add(options.padCased("DELETE FROM"));
-
-			strings.add(" ");
-			strings.add(table);
-		}
+			writer.append(options.padded(sql()));
+		else
+			writer.append(options.padCased("DELETE FROM"))
+					.append(' ')
+					.append(table);
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
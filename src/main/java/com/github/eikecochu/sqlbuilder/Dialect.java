@@ -0,0 +1,172 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * The Dialect interface describes the properties of a specific database that
+ * are taken into account when a query is built. Dialects for specific databases
+ * can be found in the database subpackages, for example MySQLDialect. If no
+ * dialect is set in the QueryOptions, the GenericDialect is used.
+ */
+public interface Dialect {
+
+	/**
+	 * Returns the reserved keywords of this dialect. Names that are keywords are
+	 * quoted if escapeKeywords is enabled.
+	 *
+	 * @return The keywords of this dialect
+	 */
+	default KeywordIndex keywords() {
+		return Name.keywords();
+	}
+
+	/**
+	 * Returns the default SQL type used to bind values of the passed class. The
+	 * default implementation returns 0 for all classes, which leaves the type to
+	 * the JDBC driver.
+	 *
+	 * @param type The value class
+	 * @return The SQL type from java.sql.Types, or 0 for none
+	 */
+	default int sqlType(final Class<?> type) {
+		return 0;
+	}
+
+	/**
+	 * Appends a string value as an SQL string literal, used when values are not
+	 * prepared. The default implementation wraps the value in single quotes and
+	 * doubles every single quote.
+	 *
+	 * @param writer The QueryWriter to append to
+	 * @param value  The string value
+	 */
+	default void appendString(final QueryWriter writer, final String value) {
+		writer.append('\'');
+		writer.appendEscaped(value, false);
+		writer.append('\'');
+	}
+
+	/**
+	 * Appends a date or time value as an SQL literal. The default implementation
+	 * renders a string literal, which databases convert implicitly.
+	 *
+	 * @param writer The QueryWriter to append to
+	 * @param type   The SQL type of the value, DATE, TIME or TIMESTAMP
+	 * @param value  The formatted value
+	 */
+	default void appendTemporal(final QueryWriter writer, final String type, final String value) {
+		appendString(writer, value);
+	}
+
+	/**
+	 * Appends binary data as an SQL literal. The default implementation renders a
+	 * hexadecimal literal in the form X'0A1B'.
+	 *
+	 * @param writer The QueryWriter to append to
+	 * @param bytes  The binary data
+	 */
+	default void appendBytes(final QueryWriter writer, final byte[] bytes) {
+		writer.append("X'")
+				.appendHex(bytes)
+				.append('\'');
+	}
+
+	/**
+	 * Returns the maximum number of parameters of a single statement. Used to split
+	 * large INSERT statements into chunks. The default implementation returns 999,
+	 * the lowest limit of common databases.
+	 *
+	 * @return The maximum number of parameters
+	 */
+	default int maxParameters() {
+		return 999;
+	}
+
+	/**
+	 * Returns the maximum number of rows of a single INSERT statement. The default
+	 * implementation returns Integer.MAX_VALUE, only the parameter limit applies.
+	 *
+	 * @return The maximum number of rows
+	 */
+	default int maxInsertRows() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the maximum number of values of a single IN list. Longer lists are
+	 * split into multiple IN lists combined with OR. The default implementation
+	 * returns Integer.MAX_VALUE.
+	 *
+	 * @return The maximum number of values
+	 */
+	default int maxInListSize() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the strategy used to pass the values of large IN lists as a single
+	 * parameter. The default implementation returns null, IN lists always use one
+	 * placeholder per value.
+	 *
+	 * @return The collection parameter strategy, or null if not supported
+	 */
+	default CollectionParameter collectionParameter() {
+		return null;
+	}
+
+	/**
+	 * Returns true if rows can be compared with row value constructors, as in
+	 * (A, B) &gt; (1, 2). Used by keyset pagination, which expands the comparison
+	 * to single column comparisons otherwise. The default implementation returns
+	 * false.
+	 *
+	 * @return True if row value comparisons are supported
+	 */
+	default boolean rowValueComparison() {
+		return false;
+	}
+
+	/**
+	 * Appends a clause limiting the number of returned rows, used by keyset
+	 * pagination after the ORDER BY clause. The default implementation renders
+	 * the standard FETCH FIRST n ROWS ONLY.
+	 *
+	 * @param writer  The QueryWriter to append to
+	 * @param context The RenderContext of the query
+	 * @param limit   The maximum number of rows
+	 */
+	default void appendLimit(final QueryWriter writer, final RenderContext context, final int limit) {
+		writer.append(context.options()
+				.padCased("FETCH"))
+				.append(" FIRST ")
+				.append(limit)
+				.append(" ROWS ONLY");
+	}
+
+	/**
+	 * Applies the fetch size of streaming mode to a statement. The default
+	 * implementation sets the configured fetch size, or
+	 * QueryOptions.DEFAULT_STREAMING_FETCH_SIZE if none is set, so the driver
+	 * only holds one batch of rows at a time.
+	 *
+	 * @param stmt      The statement
+	 * @param fetchSize The configured fetch size, or 0 if none is set
+	 * @throws SQLException if setting the fetch size fails
+	 */
+	default void applyStreaming(final PreparedStatement stmt, final int fetchSize) throws SQLException {
+		stmt.setFetchSize(fetchSize > 0 ? fetchSize : QueryOptions.DEFAULT_STREAMING_FETCH_SIZE);
+	}
+
+	/**
+	 * Returns true if the driver only streams results within a transaction. If so,
+	 * auto-commit is disabled while a streamed query is read. The default
+	 * implementation returns false.
+	 *
+	 * @return True if streaming requires auto-commit to be disabled
+	 */
+	default boolean streamingRequiresTransaction() {
+		return false;
+	}
+
+}
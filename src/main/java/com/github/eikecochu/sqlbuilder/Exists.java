@@ -22,27 +22,30 @@ public class Exists extends QueryPartImpl<Exists> implements QueryBuilder<Exists
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
+
+		final int mark = writer.mark();
 
 		if (parent() != null)
-			strings.add(parent().string(options));
+			parent().render(writer, context);
 
 		if (sql() != null)
-			strings.add(sql());
+			writer.append(sql());
 		else if (query != null) {
-			strings.add(options.padCased("EXISTS ("));
+			writer.append(options.padCased("EXISTS ("));
 
-			options.indent();
-			strings.add(options.newLine(true));
-			strings.add(query.string(options)
-					.trim());
-			options.unindent();
+			context.indent();
+			writer.append(context.newLine(true));
+			final int subquery = writer.markTrimmed();
+			query.render(writer, context);
+			writer.trim(subquery);
+			context.unindent();
 
-			strings.add(")");
+			writer.append(')');
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
@@ -3,7 +3,6 @@ package com.github.eikecochu.sqlbuilder;
 import java.util.ArrayList;
 import java.util.List;
 
-import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,10 +25,6 @@ public class Expression extends QueryPartImpl<Expression> implements QueryBuilde
 	private List<Integer> paramTypes = new ArrayList<>();
 	private int returnType = 0;
 
-	@Getter(AccessLevel.NONE)
-	@Setter(AccessLevel.NONE)
-	private boolean standalone = false;
-
 	/**
 	 * Create a new expression with multiple IN parameters
 	 *
@@ -155,7 +150,7 @@ public class Expression extends QueryPartImpl<Expression> implements QueryBuilde
 
 	@Override
 	public String string(final QueryOptions options) {
-		return string(options, options.prepare());
+		return string(new RenderContext(options), false);
 	}
 
 	/**
@@ -166,11 +161,32 @@ public class Expression extends QueryPartImpl<Expression> implements QueryBuilde
 	 * @param prepare True to insert value placeholders, false to insert values
 	 * @return The created string
 	 */
-	public String string(QueryOptions options, final boolean prepare) {
+	public String string(final QueryOptions options, final boolean prepare) {
+		return string(new RenderContext(options, prepare), false);
+	}
+
+	@Override
+	public void render(final QueryWriter writer, final RenderContext context) {
+		writer.append(string(context, false));
+	}
+
+	/**
+	 * Renders this expression as a standalone call, for example { ? = call
+	 * PROCEDURE(?) }. Used if the expression is the direct parent of a Query.
+	 *
+	 * @param writer  The QueryWriter to append to
+	 * @param context The RenderContext of the current rendering
+	 */
+	void renderCall(final QueryWriter writer, final RenderContext context) {
+		writer.append(string(context, true));
+	}
+
+	private String string(final RenderContext context, final boolean standalone) {
 		if (values != null && paramTypes != null && values.size() != paramTypes.size())
 			throw new RuntimeException("values and paramTypes size does not match");
 
-		options = safeOptions(options);
+		final QueryOptions options = context.options();
+		final boolean prepare = context.prepare();
 		String result = expression;
 		if (values != null && values.size() > 0 && !result.contains("(")) {
 			// check for OUT parameters
@@ -198,7 +214,7 @@ public class Expression extends QueryPartImpl<Expression> implements QueryBuilde
 					params.append(delim)
 							.append(prepare ? "?" : value);
 					if (prepare)
-						options.addPreparedValue(value);
+						context.addPreparedValue(value);
 				}
 
 				delim = ", ";
@@ -242,14 +258,4 @@ public class Expression extends QueryPartImpl<Expression> implements QueryBuilde
 		return string(options, false);
 	}
 
-	private QueryOptions safeOptions(final QueryOptions options) {
-		return options == null ? QueryOptions.getDefaultOptions() : options;
-	}
-
-	@Override
-	public Query query() {
-		standalone = true;
-		return new Query(this);
-	}
-
 }
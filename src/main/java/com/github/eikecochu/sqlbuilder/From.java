@@ -33,10 +33,24 @@ public class From extends QueryPartImpl<From> implements QueryBuilder<From>, Bef
 
 		@Override
 		public String string(final QueryOptions options) {
+			return QueryWriter.render(this, options);
+		}
+
+		@Override
+		public void render(final QueryWriter writer, final RenderContext context) {
+			final QueryOptions options = context.options();
+
 			if (table != null)
-				return QueryUtils.splitName(options, table)
-						.string(options) + (alias != null ? " " + alias : "");
-			return "(" + subquery.string(options) + ")" + (alias != null ? " " + alias : "");
+				QueryUtils.splitName(options, table)
+						.render(writer, context);
+			else {
+				writer.append('(');
+				subquery.render(writer, context);
+				writer.append(')');
+			}
+			if (alias != null)
+				writer.append(' ')
+						.append(alias);
 		}
 	}
 
@@ -126,29 +140,31 @@ public class From extends QueryPartImpl<From> implements QueryBuilder<From>, Bef
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
+			writer.append(options.padded(sql()));
 		else {
-			strings.add(options.padCased("FROM"));
-			strings.add(" ");
-
-			final StringJoiner fromStrings = new StringJoiner();
-			for (final FromOrigin origin : origins)
-				fromStrings.add(origin.string(options));
-
-			strings.add(fromStrings.toString(", "));
+			writer.append(options.padCased("FROM"))
+					.append(' ');
+
+			String delim = "";
+			for (final FromOrigin origin : origins) {
+				writer.append(delim);
+				origin.render(writer, context);
+				delim = ", ";
+			}
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
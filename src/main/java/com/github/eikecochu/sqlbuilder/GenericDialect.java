@@ -0,0 +1,17 @@
+package com.github.eikecochu.sqlbuilder;
+
+import lombok.ToString;
+
+/**
+ * The GenericDialect is used if no specific dialect is set. It does not target
+ * any specific database and uses the generic keyword list of Name.KEYWORDS.
+ */
+@ToString
+public class GenericDialect implements Dialect {
+
+	/**
+	 * The shared instance of the generic dialect
+	 */
+	public static final GenericDialect INSTANCE = new GenericDialect();
+
+}
@@ -50,29 +50,32 @@ public class GroupBy extends QueryPartImpl<GroupBy>
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
+			writer.append(options.padded(sql()));
 		else if (!columns.isEmpty()) {
-			strings.add(options.padCased("GROUP BY"));
+			writer.append(options.padCased("GROUP BY"))
+					.append(' ');
 
-			final StringJoiner columnsStrings = new StringJoiner();
-			for (final String column : columns)
-				columnsStrings.add(QueryUtils.splitName(options, column)
-						.string(options));
-			strings.add(" ");
-			strings.add(columnsStrings.toString(", "));
+			String delim = "";
+			for (final String column : columns) {
+				writer.append(delim);
+				QueryUtils.splitName(options, column)
+						.render(writer, context);
+				delim = ", ";
+			}
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
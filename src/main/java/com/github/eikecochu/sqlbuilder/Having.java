@@ -23,24 +23,25 @@ public class Having extends Conditionable<Having>
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
+			writer.append(options.padded(sql()));
 		else if (condition != null) {
-			strings.add(options.padCased("HAVING"));
-			strings.add(" ");
-			strings.add(condition.string(options));
+			writer.append(options.padCased("HAVING"))
+					.append(' ');
+			condition.render(writer, context);
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
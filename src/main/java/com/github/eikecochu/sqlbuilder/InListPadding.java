@@ -0,0 +1,166 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The InListPadding class computes the padded sizes of prepared IN lists and
+ * collects statistics about them. If padInLists is enabled, the placeholders
+ * of an IN list are padded to the next power of two by repeating the last
+ * value, so lists of 1 to 1000 values only create 11 distinct SQL strings
+ * instead of 1000. Lists longer than the maximum IN list size of the dialect
+ * are split into IN groups combined with OR. A list is not padded if the padded
+ * placeholders and the other parameters of the statement would exceed the
+ * parameter limit of the dialect.
+ *
+ * The statistics count the distinct list sizes that were requested and the
+ * distinct padded sizes that were rendered, the difference is the number of
+ * SQL shapes that were avoided. They are shared by all rendering threads and
+ * disabled by default, so rendering does not write to shared state unless they
+ * are enabled with setStatisticsEnabled(true).
+ */
+public final class InListPadding {
+
+	/**
+	 * The maximum number of distinct sizes tracked by the statistics
+	 */
+	public static final int MAX_TRACKED_SIZES = 65536;
+
+	private static final Set<Integer> SIZES = ConcurrentHashMap.newKeySet();
+	private static final Set<Integer> PADDED_SIZES = ConcurrentHashMap.newKeySet();
+
+	private static final LongAdder LISTS = new LongAdder();
+	private static final LongAdder PADDED_VALUES = new LongAdder();
+	private static final LongAdder SPLITS = new LongAdder();
+
+	private static volatile boolean statisticsEnabled;
+
+	private InListPadding() {
+	}
+
+	/**
+	 * Returns the padded size of an IN list, the next power of two. Lists that
+	 * would exceed the limit after padding are padded to the limit.
+	 *
+	 * @param count The number of values
+	 * @param limit The maximum number of values
+	 * @return The padded number of values, at least count
+	 */
+	public static int paddedSize(final int count, final int limit) {
+		if (count <= 1 || count >= limit)
+			return count;
+		final int padded = Integer.highestOneBit(count - 1) << 1;
+		return padded < 0 || padded > limit ? limit : padded;
+	}
+
+	static int pad(final int count, final int limit, final int available) {
+		int padded = paddedSize(count, limit);
+		// padding that does not fit into the remaining parameters is skipped
+		if (padded > available)
+			padded = count;
+		if (statisticsEnabled) {
+			LISTS.increment();
+			PADDED_VALUES.add(padded - count);
+			track(SIZES, count);
+			track(PADDED_SIZES, padded);
+		}
+		return padded;
+	}
+
+	static void split() {
+		if (statisticsEnabled)
+			SPLITS.increment();
+	}
+
+	private static void track(final Set<Integer> sizes, final int size) {
+		// known sizes are only read, adding locks a bin of the set
+		if (!sizes.contains(size) && sizes.size() < MAX_TRACKED_SIZES)
+			sizes.add(size);
+	}
+
+	/**
+	 * Enables or disables the statistics. Disabled by default.
+	 *
+	 * @param enabled True to count padded and split IN lists
+	 */
+	public static void setStatisticsEnabled(final boolean enabled) {
+		statisticsEnabled = enabled;
+	}
+
+	/**
+	 * Returns true if the statistics are enabled
+	 *
+	 * @return True if padded and split IN lists are counted
+	 */
+	public static boolean isStatisticsEnabled() {
+		return statisticsEnabled;
+	}
+
+	/**
+	 * Returns the number of padded IN lists
+	 *
+	 * @return The number of padded lists
+	 */
+	public static long getLists() {
+		return LISTS.sum();
+	}
+
+	/**
+	 * Returns the number of placeholders that were added by padding
+	 *
+	 * @return The number of padded values
+	 */
+	public static long getPaddedValues() {
+		return PADDED_VALUES.sum();
+	}
+
+	/**
+	 * Returns the number of IN lists that were split into groups, because they
+	 * exceeded the maximum IN list size of the dialect
+	 *
+	 * @return The number of split lists
+	 */
+	public static long getSplits() {
+		return SPLITS.sum();
+	}
+
+	/**
+	 * Returns the number of distinct IN list sizes that were padded
+	 *
+	 * @return The number of distinct sizes
+	 */
+	public static int getShapes() {
+		return SIZES.size();
+	}
+
+	/**
+	 * Returns the number of distinct IN list sizes that were rendered after padding
+	 *
+	 * @return The number of distinct padded sizes
+	 */
+	public static int getPaddedShapes() {
+		return PADDED_SIZES.size();
+	}
+
+	/**
+	 * Returns the number of distinct SQL shapes that were avoided by padding
+	 *
+	 * @return The number of avoided shapes
+	 */
+	public static int getShapesAvoided() {
+		return Math.max(0, getShapes() - getPaddedShapes());
+	}
+
+	/**
+	 * Resets all counters
+	 */
+	public static void resetStatistics() {
+		SIZES.clear();
+		PADDED_SIZES.clear();
+		LISTS.reset();
+		PADDED_VALUES.reset();
+		SPLITS.reset();
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The IndentTable holds the indent strings and line break fragments used for
+ * pretty printing, indexed by indent level, for one combination of the
+ * lineDelimiter, padLength and indent options. Tables are shared by all
+ * QueryOptions with the same combination, so pretty printing does not allocate
+ * for whitespace.
+ */
+final class IndentTable {
+
+	/**
+	 * The number of indent levels that are created in advance. Deeper levels are
+	 * created on every use.
+	 */
+	private static final int LEVELS = 32;
+
+	private static final ConcurrentHashMap<String, IndentTable> TABLES = new ConcurrentHashMap<>();
+
+	private final String lineDelimiter;
+	private final int padLength;
+	private final boolean indent;
+
+	private final String[] indents = new String[LEVELS];
+	private final String[] newLines = new String[LEVELS];
+
+	private IndentTable(final String lineDelimiter, final int padLength, final boolean indent) {
+		this.lineDelimiter = lineDelimiter;
+		this.padLength = padLength;
+		this.indent = indent;
+		for (int level = 0; level < LEVELS; level++) {
+			indents[level] = createIndent(level);
+			newLines[level] = lineDelimiter + indents[level];
+		}
+	}
+
+	static IndentTable of(final QueryOptions options) {
+		final String key = options.padLength() + (options.indent() ? "+" : "-") + options.lineDelimiter();
+		IndentTable table = TABLES.get(key);
+		if (table == null) {
+			table = new IndentTable(options.lineDelimiter(), options.padLength(), options.indent());
+			final IndentTable existing = TABLES.putIfAbsent(key, table);
+			if (existing != null)
+				table = existing;
+		}
+		return table;
+	}
+
+	boolean matches(final QueryOptions options) {
+		return padLength == options.padLength() && indent == options.indent()
+				&& (lineDelimiter == null ? options.lineDelimiter() == null
+						: lineDelimiter.equals(options.lineDelimiter()));
+	}
+
+	/**
+	 * Returns the indent string of the passed level
+	 *
+	 * @param level The indent level
+	 * @return The indent string
+	 */
+	String indent(final int level) {
+		return level < LEVELS ? indents[level] : createIndent(level);
+	}
+
+	/**
+	 * Returns the line delimiter followed by the indent string of the passed level
+	 *
+	 * @param level The indent level
+	 * @return The line break fragment
+	 */
+	String newLine(final int level) {
+		return level < LEVELS ? newLines[level] : lineDelimiter + createIndent(level);
+	}
+
+	private String createIndent(final int level) {
+		if (!indent)
+			return "";
+		return StringUtils.repeat(' ', level * padLength + (level == 0 ? 0 : 1));
+	}
+
+}
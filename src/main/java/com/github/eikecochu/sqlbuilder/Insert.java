@@ -180,66 +180,109 @@ public class Insert extends QueryPartImpl<Insert> implements QueryBuilder<Insert
 		return this;
 	}
 
+	/**
+	 * Creates a ChunkedInsert to split the rows of this INSERT statement into
+	 * chunks that stay within the parameter limit of the dialect
+	 *
+	 * @return The ChunkedInsert
+	 */
+	public ChunkedInsert chunked() {
+		return new ChunkedInsert(this);
+	}
+
+	int rowCount() {
+		if (defaultValues || sql() != null || insertValues.isEmpty())
+			return 0;
+		return insertValues.get(0)
+				.getValues()
+				.size();
+	}
+
+	int columnCount() {
+		return insertValues.size();
+	}
+
+	Object rowValue(final int column, final int row) {
+		return insertValues.get(column)
+				.getValues()
+				.get(row);
+	}
+
+	Insert chunk(final int from, final int count) {
+		final Insert chunk = new Insert((BeforeInsert<?>) parent(), table);
+		chunk.insertType = insertType;
+		chunk.onlyValues = onlyValues;
+		for (final InsertValue insertValue : insertValues)
+			chunk.insertValues.add(insertValue.copy(chunk, from, count));
+		return chunk;
+	}
+
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
+			writer.append(options.padded(sql()));
 		else {
-			strings.add(options.padCased(insertType.string(options)));
-
-			strings.add(" ");
-			strings.add(table);
+			writer.append(options.padCased(insertType.string(options)))
+					.append(' ')
+					.append(table);
 
 			if (defaultValues)
-				strings.add("DEFAULT VALUES");
+				writer.append("DEFAULT VALUES");
 			else {
 				if (!onlyValues) {
-					strings.add(" (");
+					writer.append(" (");
 
-					final StringJoiner columns = new StringJoiner();
-					for (final InsertValue insertValue : insertValues)
-						columns.add(QueryUtils.splitName(options, insertValue.getColumn())
-								.string(options));
-					strings.add(columns.toString(", "));
+					String delim = "";
+					for (final InsertValue insertValue : insertValues) {
+						writer.append(delim);
+						QueryUtils.splitName(options, insertValue.getColumn())
+								.render(writer, context);
+						delim = ", ";
+					}
 
-					strings.add(")");
+					writer.append(')');
 				}
 
-				strings.add(options.newLine());
-				strings.add(options.padCased("VALUES"));
+				writer.append(context.newLine())
+						.append(options.padCased("VALUES"));
 
 				final int count = insertValues.get(0)
 						.getValues()
 						.size();
 				for (int i = 0; i < count; i++) {
 					if (i > 0)
-						strings.add(options.newLine())
-								.add(options.padCased(""));
-					strings.add(" (");
-					final StringJoiner values = new StringJoiner();
-					for (final InsertValue insertValue : insertValues)
-						if (options.prepare()) {
-							values.add("?");
-							options.addPreparedValue(insertValue.getValues()
-									.get(i));
+						writer.append(',')
+								.append(context.newLine(true))
+								.append(options.padCased(""));
+					writer.append(" (");
+					String delim = "";
+					for (final InsertValue insertValue : insertValues) {
+						writer.append(delim);
+						if (context.prepare()) {
+							writer.append('?');
+							context.addPreparedValue(insertValue.getValues()
+									.get(i), insertValue.getSqlType());
 						} else
-							values.add(QueryUtils.valueToString(options, insertValue.getValues()
-									.get(i)));
-					strings.add(values.toString(", "));
-					strings.add(")");
+							QueryUtils.appendValue(writer, options, insertValue.getValues()
+									.get(i));
+						delim = ", ";
+					}
+					writer.append(')');
+					writer.commit();
 				}
 			}
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
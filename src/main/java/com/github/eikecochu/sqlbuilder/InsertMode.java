@@ -56,6 +56,6 @@ public enum InsertMode implements QueryPart {
 
 	@Override
 	public String string(final QueryOptions options) {
-		return options.cased(string);
+		return options.keyword(string);
 	}
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ public class InsertValue {
 	private final String column;
 	private final List<Object> values = new ArrayList<>();
 	private Query query;
+	private int sqlType;
 
 	protected InsertValue(final Insert insert, final String column) {
 		this.insert = insert;
@@ -38,6 +39,19 @@ public class InsertValue {
 		return insert;
 	}
 
+	/**
+	 * Set a value to be inserted with an SQL type for the prepared values of this
+	 * column
+	 *
+	 * @param value   The value
+	 * @param sqlType The SQL type of the values, from java.sql.Types
+	 * @return The INSERT statement
+	 */
+	public Insert value(final Object value, final int sqlType) {
+		this.sqlType = sqlType;
+		return value(value);
+	}
+
 	/**
 	 * Set multiple values to be inserted
 	 *
@@ -63,6 +77,13 @@ public class InsertValue {
 		return insert;
 	}
 
+	InsertValue copy(final Insert insert, final int from, final int count) {
+		final InsertValue copy = new InsertValue(insert, column);
+		copy.values.addAll(values.subList(from, from + count));
+		copy.sqlType = sqlType;
+		return copy;
+	}
+
 	/**
 	 * Use a subquery as value supplier.
 	 *
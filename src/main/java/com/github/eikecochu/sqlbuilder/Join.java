@@ -74,40 +74,42 @@ public class Join extends Conditionable<Join> implements QueryBuilder<Join>, Bef
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
+			writer.append(options.padded(sql()));
 		else if (name != null) {
-			strings.add(options.padCased(joinMode.string(options)));
+			writer.append(options.padCased(joinMode.string(options)));
 
 			if (subquery != null) {
-				strings.add(" ");
-				strings.add(subquery.string(options));
+				writer.append(' ');
+				subquery.render(writer, context);
 			}
 
-			strings.add(" ");
-			strings.add(QueryUtils.splitName(options, name)
-					.string(options));
+			writer.append(' ');
+			QueryUtils.splitName(options, name)
+					.render(writer, context);
 
-			final String condition = super.string(options);
+			final int keyword = writer.mark();
+			writer.append(' ')
+					.append(options.keyword("ON"))
+					.append(' ');
 
-			if (condition != null) {
-				strings.add(" ");
-				strings.add(options.cased("ON"));
-				strings.add(" ");
-				strings.add(condition);
-			}
+			final int condition = writer.mark();
+			super.render(writer, context);
+			if (writer.isEmpty(condition))
+				writer.reset(keyword);
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
@@ -45,6 +45,6 @@ public enum JoinMode implements QueryPart {
 
 	@Override
 	public String string(final QueryOptions options) {
-		return options.cased(string);
+		return options.keyword(string);
 	}
 }
\ No newline at end of file
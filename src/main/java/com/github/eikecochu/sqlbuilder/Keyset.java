@@ -0,0 +1,207 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * Keyset (seek) pagination of an ordered query. Instead of skipping the rows of
+ * previous pages with an offset, every page after the first continues after
+ * the last row of the previous page with a seek predicate on the ORDER BY
+ * columns, which is added to the WHERE clause. With an index on the ORDER BY
+ * columns, deep pages are as fast as the first one.
+ *
+ * If the dialect supports row value comparisons and all columns are ordered in
+ * the same direction, the seek predicate compares row values, for example (A,
+ * B) &gt; (?, ?). Otherwise it is expanded to single column comparisons, which
+ * also handles mixed ASC and DESC columns. The number of rows is limited with
+ * the limit clause of the dialect. All pages after the first render the same
+ * SQL, only the bound values change.
+ *
+ * The ORDER BY columns must be unique together and not null, for example by
+ * ending with the primary key, otherwise rows may be skipped or repeated. The
+ * ORDER BY must directly follow FROM, JOIN or WHERE.
+ */
+@ToString
+@NoArgsConstructor
+@Accessors(fluent = true)
+public class Keyset extends QueryPartImpl<Keyset> implements QueryBuilder<Keyset> {
+
+	/**
+	 * The number of rows per page
+	 */
+	@Getter
+	private int pageSize;
+
+	private Object[] after;
+
+	protected Keyset(final OrderBy parent, final int pageSize) {
+		super(parent);
+		if (pageSize < 1)
+			throw new IllegalArgumentException("pageSize must be at least 1");
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Selects the first page
+	 *
+	 * @return This instance
+	 */
+	public Keyset first() {
+		after = null;
+		return this;
+	}
+
+	/**
+	 * Selects the page following the row with the passed values
+	 *
+	 * @param values The values of the ORDER BY columns of the last row of the
+	 *               previous page, in the order of the columns
+	 * @return This instance
+	 */
+	public Keyset after(final Object... values) {
+		final int columns = orderBy().terms()
+				.size();
+		if (values == null || values.length != columns)
+			throw new IllegalArgumentException(
+					"expected " + columns + " values, but got " + (values == null ? 0 : values.length));
+		for (final Object value : values)
+			if (value == null)
+				throw new IllegalArgumentException("keyset values must not be null");
+		after = values.clone();
+		return this;
+	}
+
+	boolean seeking() {
+		return after != null;
+	}
+
+	private OrderBy orderBy() {
+		if (!(parent() instanceof OrderBy))
+			throw new IllegalStateException("keyset pagination requires an ORDER BY statement as parent");
+		final OrderBy orderBy = (OrderBy) parent();
+		if (orderBy.sql() != null || orderBy.terms()
+				.isEmpty())
+			throw new IllegalStateException("keyset pagination requires ORDER BY columns");
+		return orderBy;
+	}
+
+	@Override
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
+		final OrderBy orderBy = orderBy();
+		final QueryPartLinked<?> source = orderBy.parent();
+
+		final int mark = writer.mark();
+
+		if (source instanceof Where && ((Where) source).sql() == null)
+			((Where) source).render(writer, context, this);
+		else if (source instanceof BeforeWhere) {
+			source.render(writer, context);
+			if (seeking()) {
+				writer.append(context.newLine())
+						.append(options.padCased("WHERE"))
+						.append(' ');
+				renderSeek(writer, context);
+			}
+		} else
+			throw new IllegalStateException("keyset pagination requires ORDER BY to follow FROM, JOIN or a WHERE without plain SQL");
+
+		writer.append(context.newLine());
+		orderBy.renderTerms(writer, context);
+		writer.append(context.newLine());
+		options.dialect()
+				.appendLimit(writer, context, pageSize);
+
+		writer.close(mark);
+	}
+
+	void renderSeek(final QueryWriter writer, final RenderContext context) {
+		final List<OrderBy.OrderByTerm> terms = orderBy().terms();
+
+		boolean sameDirection = true;
+		for (final OrderBy.OrderByTerm term : terms)
+			sameDirection &= term.ascending() == terms.get(0)
+					.ascending();
+
+		if (terms.size() > 1 && sameDirection && context.options()
+				.dialect()
+				.rowValueComparison()) {
+			// (A, B) > (?, ?)
+			writer.append('(');
+			for (int i = 0; i < terms.size(); i++) {
+				if (i > 0)
+					writer.append(", ");
+				terms.get(i)
+						.name()
+						.render(writer, context);
+			}
+			writer.append(terms.get(0)
+					.ascending() ? ") > (" : ") < (");
+			for (int i = 0; i < terms.size(); i++) {
+				if (i > 0)
+					writer.append(", ");
+				renderValue(writer, context, i);
+			}
+			writer.append(')');
+			return;
+		}
+
+		// A >= ? AND (A > ? OR A = ? AND (B < ? OR B = ? AND C > ?)), the leading
+		// inclusive bound lets the database use a range scan on the first column
+		if (terms.size() > 1) {
+			renderComparison(writer, context, 0, terms.get(0)
+					.ascending() ? " >= " : " <= ");
+			writer.append(' ')
+					.append(context.options()
+							.keyword("AND"))
+					.append(' ');
+		}
+		renderChain(writer, context, terms, 0);
+	}
+
+	private void renderChain(final QueryWriter writer, final RenderContext context,
+			final List<OrderBy.OrderByTerm> terms, final int index) {
+		final String operator = terms.get(index)
+				.ascending() ? " > " : " < ";
+		if (index == terms.size() - 1) {
+			renderComparison(writer, context, index, operator);
+			return;
+		}
+
+		final QueryOptions options = context.options();
+		writer.append('(');
+		renderComparison(writer, context, index, operator);
+		writer.append(' ')
+				.append(options.keyword("OR"))
+				.append(' ');
+		renderComparison(writer, context, index, " = ");
+		writer.append(' ')
+				.append(options.keyword("AND"))
+				.append(' ');
+		renderChain(writer, context, terms, index + 1);
+		writer.append(')');
+	}
+
+	private void renderComparison(final QueryWriter writer, final RenderContext context, final int index,
+			final String operator) {
+		orderBy().terms()
+				.get(index)
+				.name()
+				.render(writer, context);
+		writer.append(operator);
+		renderValue(writer, context, index);
+	}
+
+	private void renderValue(final QueryWriter writer, final RenderContext context, final int index) {
+		if (context.prepare()) {
+			writer.append('?');
+			context.addPreparedValue(after[index]);
+		} else
+			QueryUtils.appendValue(writer, context.options(), after[index]);
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The KeywordIndex class is an immutable, case-insensitive set of keywords.
+ * Keywords are stored in an open addressing hash table that is built once, so
+ * lookups neither allocate nor convert the looked up string to uppercase.
+ */
+public final class KeywordIndex {
+
+	private final char[][] table;
+	private final int mask;
+	private final int size;
+
+	private KeywordIndex(final Collection<String> keywords) {
+		int capacity = 16;
+		while (capacity < keywords.size() * 2)
+			capacity <<= 1;
+		table = new char[capacity][];
+		mask = capacity - 1;
+
+		int size = 0;
+		for (final String keyword : keywords) {
+			if (keyword == null || keyword.isEmpty() || contains(keyword))
+				continue;
+			final char[] chars = new char[keyword.length()];
+			for (int i = 0; i < chars.length; i++)
+				chars[i] = Character.toUpperCase(keyword.charAt(i));
+			int slot = hash(keyword) & mask;
+			while (table[slot] != null)
+				slot = (slot + 1) & mask;
+			table[slot] = chars;
+			size++;
+		}
+		this.size = size;
+	}
+
+	/**
+	 * Creates a new KeywordIndex containing the passed keywords
+	 *
+	 * @param keywords The keywords
+	 * @return The created KeywordIndex
+	 */
+	public static KeywordIndex of(final String... keywords) {
+		return new KeywordIndex(keywords == null ? Arrays.<String>asList() : Arrays.asList(keywords));
+	}
+
+	/**
+	 * Creates a new KeywordIndex containing the passed keywords
+	 *
+	 * @param keywords The keywords
+	 * @return The created KeywordIndex
+	 */
+	public static KeywordIndex of(final Collection<String> keywords) {
+		return new KeywordIndex(keywords == null ? Arrays.<String>asList() : keywords);
+	}
+
+	/**
+	 * Checks if the passed string is contained in this index, ignoring case
+	 *
+	 * @param str The string to check
+	 * @return true if the string is a keyword of this index
+	 */
+	public boolean contains(final CharSequence str) {
+		if (str == null)
+			return false;
+		final int length = str.length();
+		for (int slot = hash(str) & mask;; slot = (slot + 1) & mask) {
+			final char[] keyword = table[slot];
+			if (keyword == null)
+				return false;
+			if (keyword.length == length && matches(keyword, str))
+				return true;
+		}
+	}
+
+	/**
+	 * Returns the number of keywords in this index
+	 *
+	 * @return The number of keywords
+	 */
+	public int size() {
+		return size;
+	}
+
+	private static boolean matches(final char[] keyword, final CharSequence str) {
+		for (int i = 0; i < keyword.length; i++)
+			if (keyword[i] != Character.toUpperCase(str.charAt(i)))
+				return false;
+		return true;
+	}
+
+	private static int hash(final CharSequence str) {
+		int h = 0;
+		for (int i = 0; i < str.length(); i++)
+			h = 31 * h + Character.toUpperCase(str.charAt(i));
+		return h ^ (h >>> 16);
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The KeywordTable holds the padded and cased forms of static keywords for one
+ * combination of the padLength, uppercase and pretty options. Tables are shared
+ * by all QueryOptions with the same combination and fill up lazily, so keywords
+ * only have to be padded and cased once.
+ */
+final class KeywordTable {
+
+	/**
+	 * The maximum number of keywords per table. Keywords are static strings, this
+	 * only protects against unexpected dynamic input.
+	 */
+	private static final int MAX_SIZE = 512;
+
+	private static final ConcurrentHashMap<Long, KeywordTable> TABLES = new ConcurrentHashMap<>();
+
+	private final int padLength;
+	private final boolean uppercase;
+	private final boolean pretty;
+
+	private final ConcurrentHashMap<String, String> padCased = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, String> cased = new ConcurrentHashMap<>();
+
+	private KeywordTable(final int padLength, final boolean uppercase, final boolean pretty) {
+		this.padLength = padLength;
+		this.uppercase = uppercase;
+		this.pretty = pretty;
+	}
+
+	static KeywordTable of(final QueryOptions options) {
+		final long key = ((long) options.padLength() << 2) | (options.uppercase() ? 2 : 0) | (options.pretty() ? 1 : 0);
+		KeywordTable table = TABLES.get(key);
+		if (table == null) {
+			table = new KeywordTable(options.padLength(), options.uppercase(), options.pretty());
+			final KeywordTable existing = TABLES.putIfAbsent(key, table);
+			if (existing != null)
+				table = existing;
+		}
+		return table;
+	}
+
+	boolean matches(final QueryOptions options) {
+		return padLength == options.padLength() && uppercase == options.uppercase() && pretty == options.pretty();
+	}
+
+	String padCased(final QueryOptions options, final String keyword) {
+		String result = padCased.get(keyword);
+		if (result == null) {
+			result = options.cased(options.padded(keyword));
+			if (padCased.size() < MAX_SIZE)
+				padCased.put(keyword, result);
+		}
+		return result;
+	}
+
+	String cased(final QueryOptions options, final String keyword) {
+		String result = cased.get(keyword);
+		if (result == null) {
+			result = options.cased(keyword);
+			if (cased.size() < MAX_SIZE)
+				cased.put(keyword, result);
+		}
+		return result;
+	}
+
+}
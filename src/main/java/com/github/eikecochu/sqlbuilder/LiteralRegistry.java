@@ -0,0 +1,193 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The LiteralRegistry holds the LiteralRenderers used to render values as SQL
+ * literals, keyed by value class. A value is rendered by the renderer of its
+ * class or, if there is none, of its closest registered superclass or
+ * interface. The resolved renderer is remembered per class, so rendering a
+ * value takes a single lookup.
+ *
+ * A new registry contains renderers for strings, numbers, booleans,
+ * java.util.Date and its subclasses, java.time values, UUIDs and byte arrays.
+ * Values without a renderer are rendered as an empty string. Date values are
+ * formatted with the dateFormat of the QueryOptions, strings, date/time values
+ * and byte arrays are rendered by the Dialect.
+ */
+public final class LiteralRegistry {
+
+	/**
+	 * The registry used by QueryOptions that have no registry set
+	 */
+	public static final LiteralRegistry DEFAULT = new LiteralRegistry();
+
+	/**
+	 * The format of LocalDateTime, Timestamp and Instant values
+	 */
+	public static final DateTimeFormatter TIMESTAMP_FORMAT = new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ISO_LOCAL_DATE)
+			.appendLiteral(' ')
+			.append(DateTimeFormatter.ISO_LOCAL_TIME)
+			.toFormatter();
+
+	/**
+	 * The maximum number of cached date formats per thread. Date formats are
+	 * usually static, this only protects against unexpected dynamic input.
+	 */
+	private static final int MAX_DATE_FORMATS = 64;
+
+	/**
+	 * SimpleDateFormat is not thread-safe, so every thread keeps its own instance
+	 * per pattern
+	 */
+	private static final ThreadLocal<Map<String, SimpleDateFormat>> DATE_FORMATS = ThreadLocal
+			.withInitial(HashMap::new);
+
+	private static final LiteralRenderer<Object> NONE = (writer, options, value) -> {
+	};
+
+	private final ConcurrentHashMap<Class<?>, LiteralRenderer<?>> renderers = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Class<?>, LiteralRenderer<?>> resolved = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new LiteralRegistry containing the default renderers
+	 */
+	public LiteralRegistry() {
+		register(String.class, (writer, options, value) -> options.dialect()
+				.appendString(writer, value));
+		register(Integer.class, (writer, options, value) -> writer.append(value.intValue()));
+		register(Long.class, (writer, options, value) -> writer.append(value.longValue()));
+		register(Short.class, (writer, options, value) -> writer.append(value.intValue()));
+		register(Byte.class, (writer, options, value) -> writer.append(value.intValue()));
+		register(Double.class, (writer, options, value) -> writer.append(value.doubleValue()));
+		register(Float.class, (writer, options, value) -> writer.append(Float.toString(value)));
+		register(Boolean.class, (writer, options, value) -> writer.append(value ? "true" : "false"));
+		register(BigDecimal.class, (writer, options, value) -> writer.append(value.toPlainString()));
+		register(BigInteger.class, (writer, options, value) -> writer.append(value.toString()));
+		register(Character.class, (writer, options, value) -> options.dialect()
+				.appendString(writer, value.toString()));
+		register(UUID.class, (writer, options, value) -> options.dialect()
+				.appendString(writer, value.toString()));
+		register(byte[].class, (writer, options, value) -> options.dialect()
+				.appendBytes(writer, value));
+
+		register(Date.class, (writer, options, value) -> options.dialect()
+				.appendString(writer, dateFormat(options.dateFormat()).format(value)));
+		register(Timestamp.class, (writer, options, value) -> options.dialect()
+				.appendTemporal(writer, options.keyword("TIMESTAMP"), TIMESTAMP_FORMAT.format(value.toLocalDateTime())));
+		register(LocalDate.class, (writer, options, value) -> options.dialect()
+				.appendTemporal(writer, options.keyword("DATE"), DateTimeFormatter.ISO_LOCAL_DATE.format(value)));
+		register(LocalTime.class, (writer, options, value) -> options.dialect()
+				.appendTemporal(writer, options.keyword("TIME"), DateTimeFormatter.ISO_LOCAL_TIME.format(value)));
+		register(LocalDateTime.class, (writer, options, value) -> options.dialect()
+				.appendTemporal(writer, options.keyword("TIMESTAMP"), TIMESTAMP_FORMAT.format(value)));
+		register(Instant.class, (writer, options, value) -> options.dialect()
+				.appendTemporal(writer, options.keyword("TIMESTAMP"),
+						TIMESTAMP_FORMAT.format(value.atOffset(ZoneOffset.UTC)
+								.toLocalDateTime())));
+		register(OffsetDateTime.class, (writer, options, value) -> options.dialect()
+				.appendString(writer, DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value)));
+	}
+
+	/**
+	 * Registers a renderer for a value class. The renderer is also used for
+	 * subclasses of the value class that have no renderer of their own.
+	 *
+	 * @param <T>      The value type
+	 * @param type     The value class
+	 * @param renderer The renderer, or null to remove the renderer of the class
+	 * @return This instance
+	 */
+	public <T> LiteralRegistry register(final Class<T> type, final LiteralRenderer<? super T> renderer) {
+		if (renderer == null)
+			renderers.remove(type);
+		else
+			renderers.put(type, renderer);
+		resolved.clear();
+		return this;
+	}
+
+	/**
+	 * Returns the renderer used for values of the passed class
+	 *
+	 * @param type The value class
+	 * @return The renderer, or null if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public LiteralRenderer<Object> renderer(final Class<?> type) {
+		LiteralRenderer<?> renderer = resolved.get(type);
+		if (renderer == null) {
+			renderer = resolve(type);
+			resolved.put(type, renderer == null ? NONE : renderer);
+		}
+		return renderer == NONE ? null : (LiteralRenderer<Object>) renderer;
+	}
+
+	private LiteralRenderer<?> resolve(final Class<?> type) {
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			final LiteralRenderer<?> renderer = renderers.get(c);
+			if (renderer != null)
+				return renderer;
+		}
+		for (Class<?> c = type; c != null; c = c.getSuperclass())
+			for (final Class<?> i : c.getInterfaces()) {
+				final LiteralRenderer<?> renderer = renderers.get(i);
+				if (renderer != null)
+					return renderer;
+			}
+		return null;
+	}
+
+	/**
+	 * Renders the passed value as an SQL literal. Null values and values without
+	 * a renderer are not rendered.
+	 *
+	 * @param writer  The QueryWriter to append to
+	 * @param options The QueryOptions to apply
+	 * @param value   The value
+	 */
+	public void render(final QueryWriter writer, final QueryOptions options, final Object value) {
+		if (value == null)
+			return;
+		final LiteralRenderer<Object> renderer = renderer(value.getClass());
+		if (renderer != null)
+			renderer.render(writer, options, value);
+	}
+
+	/**
+	 * Returns the date format of a pattern cached for the current thread. The
+	 * returned instance must not be shared with other threads.
+	 *
+	 * @param pattern The pattern, as used by SimpleDateFormat
+	 * @return The date format
+	 */
+	static SimpleDateFormat dateFormat(final String pattern) {
+		final Map<String, SimpleDateFormat> formats = DATE_FORMATS.get();
+		SimpleDateFormat format = formats.get(pattern);
+		if (format == null) {
+			format = new SimpleDateFormat(pattern);
+			if (formats.size() >= MAX_DATE_FORMATS)
+				formats.clear();
+			formats.put(pattern, format);
+		}
+		return format;
+	}
+
+}
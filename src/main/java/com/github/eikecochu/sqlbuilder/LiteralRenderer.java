@@ -0,0 +1,22 @@
+package com.github.eikecochu.sqlbuilder;
+
+/**
+ * The LiteralRenderer interface renders values of a specific type as SQL
+ * literals, used when values are not prepared. Renderers are registered by
+ * value class in a LiteralRegistry.
+ *
+ * @param <T> The type of the rendered values
+ */
+@FunctionalInterface
+public interface LiteralRenderer<T> {
+
+	/**
+	 * Renders the passed value as an SQL literal
+	 *
+	 * @param writer  The QueryWriter to append to
+	 * @param options The QueryOptions to apply
+	 * @param value   The value, never null
+	 */
+	void render(QueryWriter writer, QueryOptions options, T value);
+
+}
@@ -1,7 +1,9 @@
 package com.github.eikecochu.sqlbuilder;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
 
 import lombok.Getter;
@@ -21,9 +23,11 @@ public class Name implements QueryPart {
 
 	/**
 	 * The KEYWORDS set is used to identify database keywords in names to apply
-	 * escaping to avoid errors when executing the query.
+	 * escaping to avoid errors when executing the query. Change it in place, or
+	 * replace it with keywords(Collection). A set assigned to this field directly
+	 * must not be changed afterwards.
 	 */
-	public static Set<String> KEYWORDS = new HashSet<>(Arrays.asList("A", "ABORT", "ABS", "ABSOLUTE", "ACCESS",
+	public static Set<String> KEYWORDS = new KeywordSet(Arrays.asList("A", "ABORT", "ABS", "ABSOLUTE", "ACCESS",
 			"ACTION", "ADA", "ADD", "ADMIN", "AFTER", "AGGREGATE", "ALIAS", "ALL", "ALLOCATE", "ALSO", "ALTER",
 			"ALWAYS", "ANALYSE", "ANALYZE", "AND", "ANY", "ARE", "ARRAY", "AS", "ASC", "ASENSITIVE", "ASSERTION",
 			"ASSIGNMENT", "ASYMMETRIC", "AT", "ATOMIC", "ATTRIBUTE", "ATTRIBUTES", "AUDIT", "AUTHORIZATION",
@@ -119,6 +123,8 @@ public class Name implements QueryPart {
 			"WAITFOR", "WHEN", "WHENEVER", "WHERE", "WHILE", "WIDTH_BUCKET", "WINDOW", "WITH", "WITHIN", "WITHOUT",
 			"WORK", "WRITE", "WRITETEXT", "X509", "XOR", "YEAR", "YEAR_MONTH", "ZEROFILL", "ZONE"));
 
+	private static volatile IndexedKeywords indexedKeywords;
+
 	private String function;
 	private String schema;
 	private String table;
@@ -126,50 +132,222 @@ public class Name implements QueryPart {
 	private String alias;
 	private boolean unrecognized = false;
 
+	/**
+	 * Creates an immutable copy of this name, that can be shared between queries
+	 * and threads
+	 *
+	 * @return The immutable copy
+	 */
+	Name immutable() {
+		return this instanceof Immutable ? this : new Immutable(this);
+	}
+
 	@Override
 	public String string(final QueryOptions options) {
 		if (!options.splitNames() || unrecognized)
 			return name;
+		return QueryWriter.render(this, options);
+	}
 
-		final StringBuilder sb = new StringBuilder();
+	@Override
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
+
+		if (!options.splitNames() || unrecognized) {
+			writer.append(name);
+			return;
+		}
 
 		if (function != null)
-			sb.append(options.cased(function))
-					.append("(");
+			writer.append(options.cased(function))
+					.append('(');
 
 		if (schema != null)
-			sb.append(options.ticked(options.cased(schema)))
-					.append(".");
+			writer.append(options.ticked(options.cased(schema)))
+					.append('.');
 
 		if (table != null)
-			sb.append(options.ticked(options.cased(table)))
-					.append(".");
+			writer.append(options.ticked(options.cased(table)))
+					.append('.');
 
 		if (name.equals("*"))
-			sb.append(name);
+			writer.append(name);
 		else
-			sb.append(options.ticked(options.cased(name)));
+			writer.append(options.ticked(options.cased(name)));
 
 		if (function != null)
-			sb.append(")");
+			writer.append(')');
 
 		if (alias != null)
-			sb.append(" ")
+			writer.append(' ')
 					.append(options.ticked(alias));
-
-		return sb.toString();
 	}
 
 	/**
 	 * Returns true if the passed string is recognized as a keyword. This is an
 	 * estimation, as the target database is not taken into account. To modify the
-	 * keyword list, change or overwrite Name.KEYWORDS
+	 * keyword list, change Name.KEYWORDS or replace it with keywords(Collection).
+	 * To check the keywords of a specific database, use the keywords of its
+	 * Dialect.
 	 *
 	 * @param str The name to check
 	 * @return true if it is a keyword
 	 */
 	public static boolean isKeyword(final String str) {
-		return str != null && KEYWORDS.contains(str.toUpperCase());
+		return keywords().contains(str);
+	}
+
+	/**
+	 * Returns the generic keyword index built from Name.KEYWORDS. The index is
+	 * rebuilt after every change of Name.KEYWORDS.
+	 *
+	 * @return The generic keyword index
+	 */
+	public static KeywordIndex keywords() {
+		final Set<String> keywords = KEYWORDS;
+		final int version = keywords instanceof KeywordSet ? ((KeywordSet) keywords).version : 0;
+		IndexedKeywords indexed = indexedKeywords;
+		if (indexed == null || indexed.keywords != keywords || indexed.version != version
+				|| indexed.size != keywords.size())
+			indexedKeywords = indexed = new IndexedKeywords(keywords, version);
+		return indexed.index;
+	}
+
+	/**
+	 * Replaces the generic keywords. The passed keywords are copied into a new
+	 * Name.KEYWORDS set.
+	 *
+	 * @param keywords The new keywords
+	 */
+	public static void keywords(final Collection<String> keywords) {
+		KEYWORDS = new KeywordSet(keywords);
+	}
+
+	private static final class IndexedKeywords {
+
+		private final Set<String> keywords;
+		private final int version;
+		private final int size;
+		private final KeywordIndex index;
+
+		private IndexedKeywords(final Set<String> keywords, final int version) {
+			this.keywords = keywords;
+			this.version = version;
+			size = keywords.size();
+			index = KeywordIndex.of(keywords);
+		}
+
+	}
+
+	/**
+	 * The KeywordSet class counts its changes, so the keyword index can be
+	 * rebuilt when the set was changed in place. All other changing methods of
+	 * HashSet are implemented with add, remove, clear and the iterator.
+	 */
+	private static final class KeywordSet extends HashSet<String> {
+
+		private static final long serialVersionUID = 1L;
+
+		private volatile int version;
+
+		private KeywordSet(final Collection<String> keywords) {
+			super(keywords);
+		}
+
+		@Override
+		public boolean add(final String keyword) {
+			version++;
+			return super.add(keyword);
+		}
+
+		@Override
+		public boolean remove(final Object keyword) {
+			version++;
+			return super.remove(keyword);
+		}
+
+		@Override
+		public void clear() {
+			version++;
+			super.clear();
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			final Iterator<String> iterator = super.iterator();
+			return new Iterator<String>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public String next() {
+					return iterator.next();
+				}
+
+				@Override
+				public void remove() {
+					version++;
+					iterator.remove();
+				}
+
+			};
+		}
+
+	}
+
+	/**
+	 * The Immutable class is a Name that can not be changed after creation. It is
+	 * used for names shared by the NameCache.
+	 */
+	private static final class Immutable extends Name {
+
+		private Immutable(final Name name) {
+			final Name self = this;
+			self.function = name.function;
+			self.schema = name.schema;
+			self.table = name.table;
+			self.name = name.name;
+			self.alias = name.alias;
+			self.unrecognized = name.unrecognized;
+		}
+
+		@Override
+		public Name function(final String function) {
+			throw immutableException();
+		}
+
+		@Override
+		public Name schema(final String schema) {
+			throw immutableException();
+		}
+
+		@Override
+		public Name table(final String table) {
+			throw immutableException();
+		}
+
+		@Override
+		public Name name(final String name) {
+			throw immutableException();
+		}
+
+		@Override
+		public Name alias(final String alias) {
+			throw immutableException();
+		}
+
+		@Override
+		public Name unrecognized(final boolean unrecognized) {
+			throw immutableException();
+		}
+
+		private static UnsupportedOperationException immutableException() {
+			return new UnsupportedOperationException("cached names are immutable");
+		}
+
 	}
 
 }
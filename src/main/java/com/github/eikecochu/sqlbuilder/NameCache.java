@@ -0,0 +1,198 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The NameCache class is a bounded, thread-safe cache of parsed names. Names
+ * used in queries are usually a small, fixed set of strings, so each string is
+ * only split into its parts once and the resulting immutable Name is shared by
+ * all queries. The cache is keyed by the splitNames and
+ * ignoreUnrecognizableNames options and the raw name string.
+ *
+ * If the cache is full, names that were not used since the last eviction run
+ * are evicted first. Set the maximum size to 0 to disable caching.
+ */
+public final class NameCache {
+
+	/**
+	 * The default maximum number of cached names
+	 */
+	public static final int DEFAULT_MAX_SIZE = 4096;
+
+	private static final class Entry {
+
+		private final Name name;
+		private volatile boolean used;
+
+		private Entry(final Name name) {
+			this.name = name;
+		}
+
+	}
+
+	@SuppressWarnings("unchecked")
+	private static final ConcurrentHashMap<String, Entry>[] CACHES = new ConcurrentHashMap[4];
+
+	static {
+		for (int i = 0; i < CACHES.length; i++)
+			CACHES[i] = new ConcurrentHashMap<>();
+	}
+
+	private static final AtomicInteger SIZE = new AtomicInteger();
+	private static final ReentrantLock EVICTION_LOCK = new ReentrantLock();
+
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+	private static final LongAdder EVICTIONS = new LongAdder();
+
+	private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+	private NameCache() {
+	}
+
+	static Name get(final QueryOptions options, final String strName) {
+		if (maxSize <= 0)
+			return null;
+
+		final Entry entry = cache(options).get(strName);
+		if (entry == null) {
+			MISSES.increment();
+			return null;
+		}
+
+		HITS.increment();
+		if (!entry.used)
+			entry.used = true;
+		return entry.name;
+	}
+
+	static Name put(final QueryOptions options, final String strName, final Name name) {
+		if (maxSize <= 0)
+			return name;
+
+		final Entry entry = new Entry(name.immutable());
+		final Entry existing = cache(options).putIfAbsent(strName, entry);
+		if (existing != null)
+			return existing.name;
+
+		if (SIZE.incrementAndGet() > maxSize)
+			evict();
+		return entry.name;
+	}
+
+	private static ConcurrentHashMap<String, Entry> cache(final QueryOptions options) {
+		return CACHES[(options.splitNames() ? 2 : 0) + (options.ignoreUnrecognizableNames() ? 1 : 0)];
+	}
+
+	private static void evict() {
+		if (!EVICTION_LOCK.tryLock())
+			return;
+		try {
+			// two passes at most: the first pass clears the used flags of all entries
+			for (int pass = 0; pass < 2 && SIZE.get() > maxSize; pass++)
+				for (final ConcurrentHashMap<String, Entry> cache : CACHES)
+					for (final Iterator<Entry> it = cache.values()
+							.iterator(); it.hasNext() && SIZE.get() > maxSize;) {
+						final Entry entry = it.next();
+						if (entry.used)
+							entry.used = false;
+						else {
+							it.remove();
+							SIZE.decrementAndGet();
+							EVICTIONS.increment();
+						}
+					}
+		} finally {
+			EVICTION_LOCK.unlock();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of cached names
+	 *
+	 * @return The maximum size
+	 */
+	public static int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Sets the maximum number of cached names. Set to 0 to disable caching. If the
+	 * cache currently holds more names, the cache is cleared.
+	 *
+	 * @param maxSize The new maximum size
+	 */
+	public static void setMaxSize(final int maxSize) {
+		NameCache.maxSize = Math.max(0, maxSize);
+		if (SIZE.get() > NameCache.maxSize)
+			clear();
+	}
+
+	/**
+	 * Returns the number of currently cached names
+	 *
+	 * @return The cache size
+	 */
+	public static int getSize() {
+		return SIZE.get();
+	}
+
+	/**
+	 * Returns the number of lookups that were answered by the cache
+	 *
+	 * @return The number of cache hits
+	 */
+	public static long getHits() {
+		return HITS.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that required the name to be parsed
+	 *
+	 * @return The number of cache misses
+	 */
+	public static long getMisses() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * Returns the number of names that were evicted because the cache was full
+	 *
+	 * @return The number of evictions
+	 */
+	public static long getEvictions() {
+		return EVICTIONS.sum();
+	}
+
+	/**
+	 * Removes all cached names
+	 */
+	public static void clear() {
+		EVICTION_LOCK.lock();
+		try {
+			for (final ConcurrentHashMap<String, Entry> cache : CACHES)
+				for (final Iterator<Entry> it = cache.values()
+						.iterator(); it.hasNext();) {
+					it.next();
+					it.remove();
+					SIZE.decrementAndGet();
+				}
+		} finally {
+			EVICTION_LOCK.unlock();
+		}
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters
+	 */
+	public static void resetStatistics() {
+		HITS.reset();
+		MISSES.reset();
+		EVICTIONS.reset();
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.util.Arrays;
+
+/**
+ * The NameScanner splits a name into its function, schema, table, name and
+ * alias parts without regular expressions. It recognizes names in the form
+ * [FUNCTION(][SCHEMA.][TABLE.]NAME|*[)] [[AS] ALIAS], where each part may be
+ * wrapped in quote characters. Instead of substrings, the scanner reports the
+ * start and end offsets of each part.
+ */
+final class NameScanner {
+
+	static final int FUNCTION = 0;
+	static final int SCHEMA = 2;
+	static final int TABLE = 4;
+	static final int NAME = 6;
+	static final int ALIAS = 8;
+
+	/**
+	 * The required size of the offsets array
+	 */
+	static final int OFFSETS = 10;
+
+	private NameScanner() {
+	}
+
+	/**
+	 * Scans the passed name. For every found part, the start offset is stored at
+	 * the index of the part and the end offset at the index of the part + 1. Parts
+	 * that were not found are set to -1.
+	 *
+	 * @param s       The name to scan
+	 * @param offsets The array to store the offsets in
+	 * @return true if the name was recognized
+	 */
+	static boolean scan(final CharSequence s, final int[] offsets) {
+		Arrays.fill(offsets, -1);
+		final int len = s.length();
+		int p = skipSpace(s, 0, len);
+
+		// FUNCTION(
+		final int fn = skipWord(s, p, len);
+		if (fn > p && fn < len && s.charAt(fn) == '(') {
+			offsets[FUNCTION] = p;
+			offsets[FUNCTION + 1] = fn;
+			p = fn + 1;
+		}
+
+		// up to two qualifiers followed by the name
+		int qualifiers = 0;
+		while (true) {
+			int start = p;
+			if (start < len && isQuote(s.charAt(start)))
+				start++;
+
+			int end = skipWord(s, start, len);
+			final boolean word = end > start;
+			if (!word) {
+				if (start < len && s.charAt(start) == '*')
+					end = start + 1;
+				else
+					return false;
+			}
+
+			int next = end;
+			if (next < len && isQuote(s.charAt(next)))
+				next++;
+
+			if (word && next < len && s.charAt(next) == '.') {
+				if (qualifiers == 2)
+					return false;
+				offsets[qualifiers == 0 ? SCHEMA : TABLE] = start;
+				offsets[(qualifiers == 0 ? SCHEMA : TABLE) + 1] = end;
+				qualifiers++;
+				p = next + 1;
+			} else {
+				offsets[NAME] = start;
+				offsets[NAME + 1] = end;
+				p = next;
+				break;
+			}
+		}
+
+		// a single qualifier is the table
+		if (qualifiers == 1) {
+			offsets[TABLE] = offsets[SCHEMA];
+			offsets[TABLE + 1] = offsets[SCHEMA + 1];
+			offsets[SCHEMA] = -1;
+			offsets[SCHEMA + 1] = -1;
+		}
+
+		if (p < len && s.charAt(p) == ')')
+			p++;
+
+		// AS keyword, only if followed by a valid alias or the end
+		final int as = skipSpace(s, p, len);
+		if (as > p && as + 1 < len && (s.charAt(as) | 0x20) == 'a' && (s.charAt(as + 1) | 0x20) == 's'
+				&& scanAlias(s, as + 2, len, offsets))
+			return true;
+
+		return scanAlias(s, p, len, offsets);
+	}
+
+	private static boolean scanAlias(final CharSequence s, final int p, final int len, final int[] offsets) {
+		int start = skipSpace(s, p, len);
+		if (start > p) {
+			if (start < len && isQuote(s.charAt(start)))
+				start++;
+			final int end = skipWord(s, start, len);
+			if (end > start && isEnd(s, end, len)) {
+				offsets[ALIAS] = start;
+				offsets[ALIAS + 1] = end;
+				return true;
+			}
+		}
+		return isEnd(s, p, len);
+	}
+
+	private static boolean isEnd(final CharSequence s, int p, final int len) {
+		if (p < len && isQuote(s.charAt(p)))
+			p++;
+		return skipSpace(s, p, len) == len;
+	}
+
+	private static int skipWord(final CharSequence s, int p, final int len) {
+		while (p < len && isWord(s.charAt(p)))
+			p++;
+		return p;
+	}
+
+	private static int skipSpace(final CharSequence s, int p, final int len) {
+		while (p < len && isSpace(s.charAt(p)))
+			p++;
+		return p;
+	}
+
+	private static boolean isWord(final char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_';
+	}
+
+	private static boolean isSpace(final char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	private static boolean isQuote(final char c) {
+		return c == '"' || c == '\'' || c == '`';
+	}
+
+}
@@ -23,8 +23,10 @@ public class NestedCondition<T extends Conditionable<T>> extends Conditionable<N
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		return "(" + super.string(options) + ")";
+	public void render(final QueryWriter writer, final RenderContext context) {
+		writer.append('(');
+		super.render(writer, context);
+		writer.append(')');
 	}
 
 }
@@ -22,7 +22,7 @@ public class OrderBy extends QueryPartImpl<OrderBy> implements QueryBuilder<Orde
 
 	@ToString
 	@Getter(AccessLevel.PROTECTED)
-	private static class OrderByTerm implements QueryPart {
+	static class OrderByTerm implements QueryPart {
 
 		private final Name name;
 		private final boolean ascending;
@@ -39,7 +39,16 @@ public class OrderBy extends QueryPartImpl<OrderBy> implements QueryBuilder<Orde
 
 		@Override
 		public String string(final QueryOptions options) {
-			return name.string(options) + " " + options.cased(ascending ? "ASC" : "DESC");
+			return QueryWriter.render(this, options);
+		}
+
+		@Override
+		public void render(final QueryWriter writer, final RenderContext context) {
+			final QueryOptions options = context.options();
+
+			name.render(writer, context);
+			writer.append(' ')
+					.append(options.keyword(ascending ? "ASC" : "DESC"));
 		}
 	}
 
@@ -122,31 +131,55 @@ public class OrderBy extends QueryPartImpl<OrderBy> implements QueryBuilder<Orde
 		return column(name, false);
 	}
 
+	/**
+	 * Pages through the ordered result with keyset pagination. Every page after
+	 * the first continues after the values of the last row of the previous page,
+	 * passed in the order of the ORDER BY columns.
+	 *
+	 * @param pageSize The number of rows per page
+	 * @return The new Keyset instance
+	 */
+	public Keyset keyset(final int pageSize) {
+		return new Keyset(this, pageSize);
+	}
+
+	List<OrderByTerm> terms() {
+		return orderByTerms;
+	}
+
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
-		else {
-			final StringJoiner orderStrings = new StringJoiner();
-			for (final OrderByTerm orderByTerm : orderByTerms)
-				orderStrings.add(orderByTerm.string(options));
-
-			if (orderStrings.notEmpty()) {
-				strings.add(options.padCased("ORDER BY"));
-				strings.add(" ");
-				strings.add(orderStrings.toString(", "));
-			}
-		}
+			writer.append(options.padded(sql()));
+		else
+			renderTerms(writer, context);
 
-		return strings.toString();
+		writer.close(mark);
+	}
+
+	void renderTerms(final QueryWriter writer, final RenderContext context) {
+		if (orderByTerms.isEmpty())
+			return;
+
+		writer.append(context.options()
+				.padCased("ORDER BY"))
+				.append(' ');
+
+		String delim = "";
+		for (final OrderByTerm orderByTerm : orderByTerms) {
+			writer.append(delim);
+			orderByTerm.render(writer, context);
+			delim = ", ";
+		}
 	}
 
 }
@@ -3,8 +3,15 @@ package com.github.eikecochu.sqlbuilder;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.sql.DataSource;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -23,6 +30,9 @@ public class Query extends QueryPartImpl<Query> implements QueryBuilder<Query> {
 	@Accessors(fluent = true)
 	private QueryOptions options;
 
+	@Getter(AccessLevel.NONE)
+	private volatile int lengthHint = QueryWriter.DEFAULT_CAPACITY;
+
 	Query(final QueryPartLinked<?> parent) {
 		super(parent);
 	}
@@ -45,17 +55,45 @@ public class Query extends QueryPartImpl<Query> implements QueryBuilder<Query> {
 	 * @return The created SQL string
 	 */
 	public String string(final QueryOptions options, final Connection connection) {
+		return string(new RenderContext(options), connection);
+	}
+
+	/**
+	 * Transforms this statement into an SQL string using an existing RenderContext
+	 *
+	 * @param context    The RenderContext of the current rendering
+	 * @param connection Optional database connection
+	 * @return The created SQL string
+	 */
+	public String string(final RenderContext context, final Connection connection) {
 		String sql = sql();
-		if (sql == null && parent() != null)
-			sql = parent().string(safeOptions(options));
+		if (sql == null && parent() != null) {
+			final StringBuilder sb = new StringBuilder(lengthHint);
+			if (parent() instanceof Expression)
+				((Expression) parent()).renderCall(new QueryWriter(sb), context);
+			else
+				parent().render(sb, context);
+			sql = sb.length() == 0 ? null : sb.toString();
+			lengthHint = sb.length();
+		}
 
+		final QueryOptions options = context.options();
 		if (options.sqlPostprocessor() != null)
 			sql = options.sqlPostprocessor()
-					.process(sql, safeOptions(options), connection);
+					.process(sql, options, connection);
 
 		return sql;
 	}
 
+	@Override
+	public void render(final QueryWriter writer, final RenderContext context) {
+		if (context.options()
+				.sqlPostprocessor() != null || sql() != null || parent() == null || parent() instanceof Expression)
+			writer.append(string(context, null));
+		else
+			parent().render(writer, context);
+	}
+
 	/**
 	 * Prepares the statement using the passed database connection
 	 *
@@ -68,7 +106,9 @@ public class Query extends QueryPartImpl<Query> implements QueryBuilder<Query> {
 	}
 
 	/**
-	 * Prepares the statement using the passed database connection
+	 * Prepares the statement using the passed database connection. If the options
+	 * have a StatementCache, the statement must be returned to it with
+	 * StatementCache.release() instead of being closed.
 	 *
 	 * @param connection The database connection
 	 * @param options    The QueryOptions to use
@@ -78,27 +118,165 @@ public class Query extends QueryPartImpl<Query> implements QueryBuilder<Query> {
 	public PreparedStatement prepare(final Connection connection, QueryOptions options) throws SQLException {
 		if (isExpression())
 			throw new RuntimeException("use prepareCall() to prepare function calls");
-		options = safeOptions(options).prepare(true);
+		options = safeOptions(options);
+		final RenderContext context = new RenderContext(options, true);
 
-		final String sql = string(options, connection).trim();
+		final String sql = string(context, connection).trim();
 
-		PreparedStatement stmt;
-		if (options.returnGeneratedKeys())
-			stmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-		else
-			stmt = connection.prepareStatement(sql);
+		final PreparedStatement stmt = options.prepareStatement(connection, sql);
 
-		stmt = options.applyStatementOptions(stmt);
+		context.bindings()
+				.bind(stmt);
 
-		if (options.stmtPostprocessor() != null)
-			stmt = options.stmtPostprocessor()
-					.process(stmt, safeOptions(options), connection);
+		return stmt;
+	}
 
-		int index = 1;
-		for (final Object value : options.preparedValues())
-			stmt.setObject(index++, value);
+	/**
+	 * Executes this query using its own options and returns the mapped rows as a
+	 * lazy Stream
+	 *
+	 * @param <T>        The type of the mapped rows
+	 * @param connection The database connection
+	 * @param mapper     The RowMapper mapping each row
+	 * @return The Stream of mapped rows, which must be closed
+	 * @throws SQLException if preparing or executing fails
+	 */
+	public <T> Stream<T> stream(final Connection connection, final RowMapper<T> mapper) throws SQLException {
+		return stream(connection, options, mapper);
+	}
 
-		return stmt;
+	/**
+	 * Executes this query and returns the mapped rows as a lazy Stream. Rows are
+	 * read from the ResultSet and mapped only when the Stream requests them, so
+	 * the result is never held in memory as a whole. The fetch size and direction
+	 * of the options are applied to the statement, enable streaming in the options
+	 * to keep the driver from reading the whole result as well. Closing the Stream
+	 * closes the ResultSet and releases the statement, so the Stream should be
+	 * used in a try-with-resources block. If auto-commit was disabled for
+	 * streaming, it is enabled again when the Stream is closed.
+	 *
+	 * @param <T>        The type of the mapped rows
+	 * @param connection The database connection
+	 * @param options    The QueryOptions to use
+	 * @param mapper     The RowMapper mapping each row
+	 * @return The Stream of mapped rows, which must be closed
+	 * @throws SQLException if preparing or executing fails
+	 */
+	public <T> Stream<T> stream(final Connection connection, QueryOptions options, final RowMapper<T> mapper)
+			throws SQLException {
+		options = safeOptions(options);
+
+		// some drivers only stream results within a transaction
+		final boolean transaction = options.streaming() && options.dialect()
+				.streamingRequiresTransaction() && connection.getAutoCommit();
+		if (transaction)
+			connection.setAutoCommit(false);
+
+		final PreparedStatement stmt;
+		final ResultSet rs;
+		try {
+			stmt = prepare(connection, options);
+			try {
+				rs = stmt.executeQuery();
+			} catch (final SQLException | RuntimeException e) {
+				options.releaseStatement(stmt);
+				throw e;
+			}
+		} catch (final SQLException | RuntimeException e) {
+			if (transaction)
+				connection.setAutoCommit(true);
+			throw e;
+		}
+
+		final RowSpliterator<T> rows = new RowSpliterator<>(options, stmt, rs, mapper,
+				transaction ? connection : null);
+		return StreamSupport.stream(rows, false)
+				.onClose(rows::close);
+	}
+
+	/**
+	 * Executes this query asynchronously on the default AsyncExecutor using its
+	 * own options
+	 *
+	 * @param <T>        The type of the mapped rows
+	 * @param dataSource The DataSource to get the connection from
+	 * @param mapper     The RowMapper mapping each row
+	 * @return The future list of mapped rows
+	 */
+	public <T> CompletableFuture<List<T>> executeAsync(final DataSource dataSource, final RowMapper<T> mapper) {
+		return executeAsync(dataSource, options, mapper, AsyncExecutor.getDefault());
+	}
+
+	/**
+	 * Executes this query asynchronously. The query is rendered and executed on
+	 * the executor, using a connection of the DataSource that is closed when the
+	 * rows are read.
+	 *
+	 * @param <T>        The type of the mapped rows
+	 * @param dataSource The DataSource to get the connection from
+	 * @param options    The QueryOptions to use
+	 * @param mapper     The RowMapper mapping each row
+	 * @param executor   The AsyncExecutor to run the query on
+	 * @return The future list of mapped rows
+	 */
+	public <T> CompletableFuture<List<T>> executeAsync(final DataSource dataSource, final QueryOptions options,
+			final RowMapper<T> mapper, final AsyncExecutor executor) {
+		return executor.submit(dataSource, connection -> {
+			try (Stream<T> rows = stream(connection, options, mapper)) {
+				return rows.collect(Collectors.toList());
+			}
+		});
+	}
+
+	/**
+	 * Compiles this query using its own options
+	 *
+	 * @return The compiled query
+	 */
+	public CompiledQuery compile() {
+		return compile(options);
+	}
+
+	/**
+	 * Compiles this query into an immutable CompiledQuery. The query is rendered
+	 * once in prepared mode, the CompiledQuery can then be used to prepare
+	 * statements of the same shape with different values without rendering again.
+	 *
+	 * @param options The QueryOptions to use
+	 * @return The compiled query
+	 */
+	public CompiledQuery compile(QueryOptions options) {
+		if (isExpression())
+			throw new RuntimeException("function calls can not be compiled, use prepareCall()");
+		options = safeOptions(options);
+		final RenderContext context = new RenderContext(options, true);
+
+		final String sql = string(context, null).trim();
+
+		return new CompiledQuery(sql, context.bindings(), options.copy());
+	}
+
+	/**
+	 * Creates a Batch to execute this query with many sets of values, using its
+	 * own options
+	 *
+	 * @param connection The database connection
+	 * @return The Batch
+	 */
+	public Batch batch(final Connection connection) {
+		return batch(connection, options);
+	}
+
+	/**
+	 * Creates a Batch to execute this query with many sets of values. The query is
+	 * compiled once, each row must have the same number of values.
+	 *
+	 * @param connection The database connection
+	 * @param options    The QueryOptions to use
+	 * @return The Batch
+	 */
+	public Batch batch(final Connection connection, final QueryOptions options) {
+		return compile(options).batch(connection);
 	}
 
 	/**
@@ -112,9 +290,10 @@ public class Query extends QueryPartImpl<Query> implements QueryBuilder<Query> {
 	public CallableStatement prepareCall(final Connection connection, QueryOptions options) throws SQLException {
 		if (!isExpression())
 			throw new RuntimeException("use prepare() to prepare query statements");
-		options = safeOptions(options).prepare(true);
+		options = safeOptions(options);
+		final RenderContext context = new RenderContext(options, true);
 
-		final String sql = string(options, connection).trim();
+		final String sql = string(context, connection).trim();
 
 		CallableStatement stmt = connection.prepareCall(sql);
 
@@ -122,7 +301,7 @@ public class Query extends QueryPartImpl<Query> implements QueryBuilder<Query> {
 
 		if (options.callPostprocessor() != null)
 			stmt = options.callPostprocessor()
-					.process(stmt, safeOptions(options), connection);
+					.process(stmt, options, connection);
 
 		int index = 1;
 
@@ -132,8 +311,8 @@ public class Query extends QueryPartImpl<Query> implements QueryBuilder<Query> {
 			stmt.registerOutParameter(index++, expr.returnType());
 
 		// insert values
-		for (final Object value : options.preparedValues())
-			stmt.setObject(index++, value);
+		context.bindings()
+				.bind(stmt, index);
 
 		// register OUT parameters
 		int paramOffset = expr.returnType() == 0 ? 1 : 2;
@@ -146,9 +325,8 @@ public class Query extends QueryPartImpl<Query> implements QueryBuilder<Query> {
 		return stmt;
 	}
 
-	private QueryOptions safeOptions(QueryOptions options) {
-		options = options == null ? QueryOptions.getDefaultOptions() : options;
-		return options.query(this);
+	private QueryOptions safeOptions(final QueryOptions options) {
+		return options == null ? QueryOptions.defaults() : options;
 	}
 
 	/**
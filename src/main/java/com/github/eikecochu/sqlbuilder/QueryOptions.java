@@ -1,25 +1,31 @@
 package com.github.eikecochu.sqlbuilder;
 
 import java.sql.CallableStatement;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 
 /**
  * The QueryOptions class holds all options that are applied at various places
  * throughout the building process of a query.
+ *
+ * Options can be changed until they are frozen with freeze(), after that every
+ * setter throws an IllegalStateException. A frozen instance can be shared
+ * between threads that render queries concurrently. The default options are
+ * frozen, getDefaultOptions() returns a copy that can be changed.
  */
 @ToString
 @Getter
-@Setter
 @Accessors(fluent = true)
 public class QueryOptions {
 
@@ -29,7 +35,12 @@ public class QueryOptions {
 	 */
 	public static int FETCH_ALL = 0;
 
-	private static QueryOptions DEFAULT_OPTIONS = new QueryOptions();
+	/**
+	 * The fetch size used in streaming mode if no fetch size is set
+	 */
+	public static final int DEFAULT_STREAMING_FETCH_SIZE = 1000;
+
+	private static volatile QueryOptions DEFAULT_OPTIONS = new QueryOptions().freeze();
 
 	/**
 	 * The default length to pad to. If pretty printing is enabled, keywords on new
@@ -81,7 +92,12 @@ public class QueryOptions {
 	private char quoteEndChar = '"';
 
 	/**
-	 * The date format used to parse strings.
+	 * The date format used to render java.util.Date values, including
+	 * java.sql.Date, as a SimpleDateFormat pattern. The formatted date is
+	 * rendered as a quoted string literal.
+	 *
+	 * Before version 1.3, the formatted java.sql.Date was rendered without quotes
+	 * and other java.util.Date values were rendered as an empty string.
 	 */
 	private String dateFormat = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
 
@@ -110,17 +126,39 @@ public class QueryOptions {
 	private boolean returnGeneratedKeys = false;
 
 	/**
-	 * Fetch option. Will set the maximum number of records fetched from the
-	 * database when the statement is executed.
+	 * Fetch option. Will set the number of rows fetched from the database in one
+	 * round trip when more rows are needed. Set to 0 to use the default of the
+	 * driver. Does not limit the number of returned rows.
 	 */
 	private int fetchSize = FETCH_ALL;
 
+	/**
+	 * Fetch option. Will set the maximum number of rows returned by a query, any
+	 * further rows are dropped silently. Set to 0 for no limit.
+	 */
+	private int maxRows = FETCH_ALL;
+
+	/**
+	 * Fetch option. Enable to stream the rows of a query from the database in
+	 * constant memory, instead of letting the driver read the whole result. The
+	 * statement is prepared forward-only and read-only, and the fetch size is set
+	 * as required by the dialect, for example Integer.MIN_VALUE for MySQL. If the
+	 * dialect only streams within a transaction, as PostgreSQL does, Query.stream
+	 * disables auto-commit until the stream is closed.
+	 */
+	private boolean streaming = false;
+
 	/**
 	 * Fetch option. Will set the fetch direction if the fetch size is limited. Set
 	 * to any value available in ResultSet.FETCH_FORWARD etc.
 	 */
 	private int fetchDirection = ResultSet.FETCH_FORWARD;
 
+	/**
+	 * Batch option. The number of rows after which a Batch is executed.
+	 */
+	private int batchSize = Batch.DEFAULT_BATCH_SIZE;
+
 	/**
 	 * Enable to escape keywords regardless of what the quote setting is set to.
 	 * Disable with quote to disable all quoting.
@@ -146,6 +184,19 @@ public class QueryOptions {
 	 */
 	private boolean ignoreNull = true;
 
+	/**
+	 * Enable to pad the placeholders of prepared IN lists to the next power of two
+	 * by repeating the last value. This limits the number of distinct SQL strings
+	 * created by IN lists of varying length.
+	 */
+	private boolean padInLists = false;
+
+	/**
+	 * The number of values above which a prepared IN list is passed as a single
+	 * collection parameter, if the dialect supports it. Set to 0 to disable.
+	 */
+	private int inCollectionThreshold = 0;
+
 	/**
 	 * The default placeholder. If an expression is evaluated and parameters are
 	 * inserted, this placeholder is used to replace null values. In databases like
@@ -162,60 +213,84 @@ public class QueryOptions {
 	 */
 	private boolean ignoreUnrecognizableNames = true;
 
-	@Setter(AccessLevel.PACKAGE)
-	private int indentLevel = 0;
-
-	@Setter(AccessLevel.PACKAGE)
-	private boolean prepare;
-
-	private final List<Object> preparedValues = new ArrayList<>();
+	/**
+	 * The dialect of the target database. Used for example to determine which names
+	 * are keywords.
+	 */
+	private Dialect dialect = GenericDialect.INSTANCE;
 
-	private Query query;
+	/**
+	 * The registry of renderers used to render values as literals, when values are
+	 * not prepared.
+	 */
+	private LiteralRegistry literals = LiteralRegistry.DEFAULT;
 
-	void addPreparedValue(final Object value) {
-		preparedValues.add(value);
-	}
+	/**
+	 * The cache used to reuse prepared statements per connection. Disabled by
+	 * default. If set, statements prepared with these options must be returned to
+	 * the cache with StatementCache.release() instead of being closed.
+	 */
+	private StatementCache statementCache = null;
 
 	/**
-	 * Creates an indent string based on the indent size and level
-	 *
-	 * @return The indent string
+	 * The SQL types used to bind prepared values by value class, if no type is
+	 * passed with the value. Classes without a type use the default of the
+	 * dialect.
 	 */
-	public String indentString() {
-		if (pretty && indent)
-			return StringUtils.repeat(' ', indentLevel * padLength + (indentLevel == 0 ? 0 : 1));
-		else
-			return "";
-	}
+	@Getter(AccessLevel.NONE)
+	private Map<Class<?>, Integer> sqlTypes = Collections.emptyMap();
 
 	/**
-	 * Creates a newline if required, when pretty printing is enabled
-	 *
-	 * @return The newline or space
+	 * True if these options were frozen and can not be changed anymore
 	 */
-	public String newLine() {
-		return newLine(false);
-	}
+	private boolean frozen;
+
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	private volatile KeywordTable keywordTable;
+
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	private volatile IndentTable indentTable;
 
 	/**
-	 * Creates a newline or space, if enabled
+	 * Combines the methods padded and cased. Use for static keywords only, as the
+	 * result is cached.
 	 *
-	 * @param noSpace If true, returns an empty string if no newline should be
-	 *                created, else creates a string
-	 * @return The newline, space or empty string
+	 * @param keyword The keyword
+	 * @return The padded and cased keyword
 	 */
-	public String newLine(final boolean noSpace) {
-		return pretty ? lineDelimiter + indentString() : noSpace ? "" : " ";
+	public String padCased(final String keyword) {
+		if (keyword == null)
+			return null;
+		return keywordTable().padCased(this, keyword);
 	}
 
 	/**
-	 * Combines the methods padded and cased
+	 * Turns a keyword uppercase if enabled, else lowercase. Use for static keywords
+	 * only, as the result is cached.
 	 *
 	 * @param keyword The keyword
-	 * @return The padded and cased keyword
+	 * @return Uppercase keyword if enabled, else lowercase
 	 */
-	public String padCased(final String keyword) {
-		return cased(padded(keyword));
+	public String keyword(final String keyword) {
+		if (keyword == null)
+			return null;
+		return keywordTable().cased(this, keyword);
+	}
+
+	private KeywordTable keywordTable() {
+		KeywordTable table = keywordTable;
+		if (table == null || !table.matches(this))
+			keywordTable = table = KeywordTable.of(this);
+		return table;
+	}
+
+	IndentTable indentTable() {
+		IndentTable table = indentTable;
+		if (table == null || !table.matches(this))
+			indentTable = table = IndentTable.of(this);
+		return table;
 	}
 
 	/**
@@ -227,7 +302,8 @@ public class QueryOptions {
 	public String ticked(final String string) {
 		if (string == null)
 			return null;
-		return quote || (escapeKeywords && Name.isKeyword(string)) ? quoteStartChar + string + quoteEndChar : string;
+		return quote || (escapeKeywords && dialect.keywords()
+				.contains(string)) ? quoteStartChar + string + quoteEndChar : string;
 	}
 
 	/**
@@ -238,8 +314,10 @@ public class QueryOptions {
 	 */
 	public String padded(final String keyword) {
 		if (pretty && keyword != null) {
-			final int length = Math.max(0, padLength - keyword.split("\\s+")[0].length());
-			return StringUtils.leftPad("", length) + cased(keyword);
+			int word = 0;
+			while (word < keyword.length() && " \t\n\u000B\f\r".indexOf(keyword.charAt(word)) < 0)
+				word++;
+			return StringUtils.repeat(' ', padLength - word) + cased(keyword);
 		}
 		return keyword;
 	}
@@ -256,24 +334,6 @@ public class QueryOptions {
 		return uppercase ? string.toUpperCase() : string.toLowerCase();
 	}
 
-	/**
-	 * Increases the indent level by 1
-	 *
-	 * @return This instnace
-	 */
-	public QueryOptions indent() {
-		return indentLevel(indentLevel + 1);
-	}
-
-	/**
-	 * Decreases the indent level by 1
-	 *
-	 * @return This instance
-	 */
-	public QueryOptions unindent() {
-		return indentLevel(Math.max(0, indentLevel - 1));
-	}
-
 	/**
 	 * Copies this instance including values and returns the new instance
 	 *
@@ -294,54 +354,474 @@ public class QueryOptions {
 				.callPostprocessor(callPostprocessor)
 				.returnGeneratedKeys(returnGeneratedKeys)
 				.fetchSize(fetchSize)
+				.maxRows(maxRows)
+				.streaming(streaming)
 				.fetchDirection(fetchDirection)
+				.batchSize(batchSize)
 				.escapeKeywords(escapeKeywords)
 				.lineDelimiter(lineDelimiter)
 				.conditionOnNewline(conditionOnNewline)
 				.ignoreNull(ignoreNull)
+				.padInLists(padInLists)
+				.inCollectionThreshold(inCollectionThreshold)
 				.defaultPlaceholder(defaultPlaceholder)
 				.ignoreUnrecognizableNames(ignoreUnrecognizableNames)
-				.indentLevel(indentLevel)
-				.prepare(prepare)
-				.query(query);
-		copy.preparedValues()
-				.addAll(preparedValues);
+				.dialect(dialect)
+				.literals(literals)
+				.statementCache(statementCache);
+		copy.sqlTypes = sqlTypes;
 		return copy;
 	}
 
 	/**
-	 * Returns all contained prepared values as a simple, concatenated string
+	 * Freezes these options, after that every setter throws an
+	 * IllegalStateException. Use copy() to derive changed options.
 	 *
-	 * @return The prepared values of this instance
+	 * @return This QueryOptions instance
 	 */
-	public String preparedValuesString() {
-		final StringBuilder sb = new StringBuilder();
-		int index = 1;
-		String prefix = "";
-		for (final Object value : preparedValues) {
-			sb.append(prefix)
-					.append(index++)
-					.append(": ")
-					.append(value.toString());
-			prefix = ", ";
+	public QueryOptions freeze() {
+		frozen = true;
+		return this;
+	}
+
+	private void checkMutable() {
+		if (frozen)
+			throw new IllegalStateException("the options are frozen, use copy() to change them");
+	}
+
+	PreparedStatement prepareStatement(final Connection connection, final String sql) throws SQLException {
+		PreparedStatement stmt;
+		if (statementCache != null)
+			stmt = statementCache.prepare(connection, sql, returnGeneratedKeys);
+		else if (returnGeneratedKeys)
+			stmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+		else if (streaming)
+			stmt = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		else
+			stmt = connection.prepareStatement(sql);
+
+		// cached statements get the options applied again, they may have changed
+		stmt = applyStatementOptions(stmt);
+
+		if (stmtPostprocessor != null) {
+			final PreparedStatement processed = stmtPostprocessor.process(stmt, this, connection);
+			if (statementCache != null)
+				statementCache.replace(stmt, processed);
+			stmt = processed;
 		}
-		return sb.toString();
+
+		return stmt;
+	}
+
+	void releaseStatement(final PreparedStatement stmt) throws SQLException {
+		if (statementCache != null)
+			statementCache.release(stmt);
+		else
+			stmt.close();
 	}
 
 	<T extends PreparedStatement> T applyStatementOptions(final T stmt) throws SQLException {
-		stmt.setFetchSize(fetchSize);
-		stmt.setMaxRows(fetchSize);
+		if (streaming)
+			dialect.applyStreaming(stmt, fetchSize);
+		else
+			stmt.setFetchSize(fetchSize);
+		stmt.setMaxRows(maxRows);
 		stmt.setFetchDirection(fetchDirection);
 		return stmt;
 	}
 
 	/**
-	 * Fetch all columns on query
+	 * Sets the length keywords are padded to when pretty printing
+	 *
+	 * @param padLength The length
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions padLength(final int padLength) {
+		checkMutable();
+		this.padLength = padLength;
+		return this;
+	}
+
+	/**
+	 * Enables splitting names by schema and alias
+	 *
+	 * @param splitNames True to split names
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions splitNames(final boolean splitNames) {
+		checkMutable();
+		this.splitNames = splitNames;
+		return this;
+	}
+
+	/**
+	 * Enables pretty printing
+	 *
+	 * @param pretty True to pretty print
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions pretty(final boolean pretty) {
+		checkMutable();
+		this.pretty = pretty;
+		return this;
+	}
+
+	/**
+	 * Enables indenting subqueries when pretty printing
+	 *
+	 * @param indent True to indent
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions indent(final boolean indent) {
+		checkMutable();
+		this.indent = indent;
+		return this;
+	}
+
+	/**
+	 * Enables converting keywords to uppercase instead of lowercase
+	 *
+	 * @param uppercase True for uppercase
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions uppercase(final boolean uppercase) {
+		checkMutable();
+		this.uppercase = uppercase;
+		return this;
+	}
+
+	/**
+	 * Enables quoting all names
+	 *
+	 * @param quote True to quote names
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions quote(final boolean quote) {
+		checkMutable();
+		this.quote = quote;
+		return this;
+	}
+
+	/**
+	 * Sets the starting quote character
+	 *
+	 * @param quoteStartChar The starting quote character
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions quoteStartChar(final char quoteStartChar) {
+		checkMutable();
+		this.quoteStartChar = quoteStartChar;
+		return this;
+	}
+
+	/**
+	 * Sets the ending quote character
+	 *
+	 * @param quoteEndChar The ending quote character
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions quoteEndChar(final char quoteEndChar) {
+		checkMutable();
+		this.quoteEndChar = quoteEndChar;
+		return this;
+	}
+
+	/**
+	 * Sets the SimpleDateFormat pattern used to render java.util.Date values
+	 *
+	 * @param dateFormat The pattern
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions dateFormat(final String dateFormat) {
+		checkMutable();
+		this.dateFormat = dateFormat;
+		return this;
+	}
+
+	/**
+	 * Sets the postprocessor applied to generated SQL strings
+	 *
+	 * @param sqlPostprocessor The postprocessor, or null for none
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions sqlPostprocessor(final PostProcessor<String> sqlPostprocessor) {
+		checkMutable();
+		this.sqlPostprocessor = sqlPostprocessor;
+		return this;
+	}
+
+	/**
+	 * Sets the postprocessor applied to prepared statements
+	 *
+	 * @param stmtPostprocessor The postprocessor, or null for none
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions stmtPostprocessor(final PostProcessor<PreparedStatement> stmtPostprocessor) {
+		checkMutable();
+		this.stmtPostprocessor = stmtPostprocessor;
+		return this;
+	}
+
+	/**
+	 * Sets the postprocessor applied to prepared callable statements
+	 *
+	 * @param callPostprocessor The postprocessor, or null for none
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions callPostprocessor(final PostProcessor<CallableStatement> callPostprocessor) {
+		checkMutable();
+		this.callPostprocessor = callPostprocessor;
+		return this;
+	}
+
+	/**
+	 * Enables returning generated keys after a statement is executed
+	 *
+	 * @param returnGeneratedKeys True to return generated keys
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions returnGeneratedKeys(final boolean returnGeneratedKeys) {
+		checkMutable();
+		this.returnGeneratedKeys = returnGeneratedKeys;
+		return this;
+	}
+
+	/**
+	 * Sets the number of rows fetched from the database in one round trip
+	 *
+	 * @param fetchSize The fetch size, or 0 for the default of the driver
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions fetchSize(final int fetchSize) {
+		checkMutable();
+		this.fetchSize = fetchSize;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of rows returned by a query
+	 *
+	 * @param maxRows The maximum number of rows, or 0 for no limit
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions maxRows(final int maxRows) {
+		checkMutable();
+		this.maxRows = maxRows;
+		return this;
+	}
+
+	/**
+	 * Enables streaming the rows of a query from the database
+	 *
+	 * @param streaming True to stream rows
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions streaming(final boolean streaming) {
+		checkMutable();
+		this.streaming = streaming;
+		return this;
+	}
+
+	/**
+	 * Sets the fetch direction
+	 *
+	 * @param fetchDirection The fetch direction, for example
+	 *                       ResultSet.FETCH_FORWARD
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions fetchDirection(final int fetchDirection) {
+		checkMutable();
+		this.fetchDirection = fetchDirection;
+		return this;
+	}
+
+	/**
+	 * Sets the number of rows after which a Batch is executed
+	 *
+	 * @param batchSize The batch size
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions batchSize(final int batchSize) {
+		checkMutable();
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Enables quoting names that are keywords
+	 *
+	 * @param escapeKeywords True to quote keywords
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions escapeKeywords(final boolean escapeKeywords) {
+		checkMutable();
+		this.escapeKeywords = escapeKeywords;
+		return this;
+	}
+
+	/**
+	 * Sets the line delimiter used when pretty printing
+	 *
+	 * @param lineDelimiter The line delimiter
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions lineDelimiter(final String lineDelimiter) {
+		checkMutable();
+		this.lineDelimiter = lineDelimiter;
+		return this;
+	}
+
+	/**
+	 * Enables rendering each condition of a list on a new line
+	 *
+	 * @param conditionOnNewline True to render conditions on new lines
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions conditionOnNewline(final boolean conditionOnNewline) {
+		checkMutable();
+		this.conditionOnNewline = conditionOnNewline;
+		return this;
+	}
+
+	/**
+	 * Enables removing conditions with null values
+	 *
+	 * @param ignoreNull True to remove conditions with null values
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions ignoreNull(final boolean ignoreNull) {
+		checkMutable();
+		this.ignoreNull = ignoreNull;
+		return this;
+	}
+
+	/**
+	 * Enables padding the placeholders of prepared IN lists
+	 *
+	 * @param padInLists True to pad IN lists
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions padInLists(final boolean padInLists) {
+		checkMutable();
+		this.padInLists = padInLists;
+		return this;
+	}
+
+	/**
+	 * Sets the number of values above which a prepared IN list is passed as a
+	 * single collection parameter
+	 *
+	 * @param inCollectionThreshold The threshold, or 0 to disable
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions inCollectionThreshold(final int inCollectionThreshold) {
+		checkMutable();
+		this.inCollectionThreshold = inCollectionThreshold;
+		return this;
+	}
+
+	/**
+	 * Sets the placeholder used for null parameters of expressions
+	 *
+	 * @param defaultPlaceholder The placeholder, or null to remove null parameters
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions defaultPlaceholder(final String defaultPlaceholder) {
+		checkMutable();
+		this.defaultPlaceholder = defaultPlaceholder;
+		return this;
+	}
+
+	/**
+	 * Enables treating unrecognizable names as simple names
+	 *
+	 * @param ignoreUnrecognizableNames True to ignore unrecognizable names
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions ignoreUnrecognizableNames(final boolean ignoreUnrecognizableNames) {
+		checkMutable();
+		this.ignoreUnrecognizableNames = ignoreUnrecognizableNames;
+		return this;
+	}
+
+	/**
+	 * Sets the cache used to reuse prepared statements
+	 *
+	 * @param statementCache The cache, or null to disable caching
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions statementCache(final StatementCache statementCache) {
+		checkMutable();
+		this.statementCache = statementCache;
+		return this;
+	}
+
+	/**
+	 * Sets the dialect of the target database
+	 *
+	 * @param dialect The dialect, or null to use the generic dialect
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions dialect(final Dialect dialect) {
+		checkMutable();
+		this.dialect = dialect == null ? GenericDialect.INSTANCE : dialect;
+		return this;
+	}
+
+	/**
+	 * Sets the registry of renderers used to render values as literals
+	 *
+	 * @param literals The registry, or null to use the default registry
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions literals(final LiteralRegistry literals) {
+		checkMutable();
+		this.literals = literals == null ? LiteralRegistry.DEFAULT : literals;
+		return this;
+	}
+
+	/**
+	 * Sets the SQL type used to bind prepared values of a class, if no type is
+	 * passed with the value
+	 *
+	 * @param type    The value class
+	 * @param sqlType The SQL type from java.sql.Types, or 0 to use the default of
+	 *                the dialect
+	 * @return This QueryOptions instance
+	 */
+	public QueryOptions sqlType(final Class<?> type, final int sqlType) {
+		checkMutable();
+		// replaced as a whole, copies and concurrent renders share the map
+		final Map<Class<?>, Integer> sqlTypes = new HashMap<>(this.sqlTypes);
+		if (sqlType == 0)
+			sqlTypes.remove(type);
+		else
+			sqlTypes.put(type, sqlType);
+		this.sqlTypes = Collections.unmodifiableMap(sqlTypes);
+		return this;
+	}
+
+	/**
+	 * Returns the SQL type used to bind a prepared value, if no type is passed
+	 * with the value
+	 *
+	 * @param value The value
+	 * @return The SQL type from java.sql.Types, or 0 for none
+	 */
+	public int sqlType(final Object value) {
+		if (value == null)
+			return 0;
+		final Integer sqlType = sqlTypes.isEmpty() ? null : sqlTypes.get(value.getClass());
+		return sqlType != null ? sqlType : dialect.sqlType(value.getClass());
+	}
+
+	/**
+	 * Fetch all rows on query
 	 *
 	 * @return This QueryOptions instance
 	 */
 	public QueryOptions fetchAll() {
-		return fetchSize(FETCH_ALL);
+		return maxRows(FETCH_ALL);
 	}
 
 	/**
@@ -350,7 +830,7 @@ public class QueryOptions {
 	 * @return This QueryOptions instance
 	 */
 	public QueryOptions fetchFirst() {
-		return fetchSize(1);
+		return maxRows(1);
 	}
 
 	/**
@@ -362,6 +842,16 @@ public class QueryOptions {
 		return DEFAULT_OPTIONS.copy();
 	}
 
+	/**
+	 * Returns the shared default options without copying them. Used for rendering
+	 * only, the returned instance is frozen.
+	 *
+	 * @return The shared default options
+	 */
+	static QueryOptions defaults() {
+		return DEFAULT_OPTIONS;
+	}
+
 	/**
 	 * Sets the default options
 	 *
@@ -369,7 +859,8 @@ public class QueryOptions {
 	 */
 	public static void setDefaultOptions(final QueryOptions options) {
 		if (options != null)
-			DEFAULT_OPTIONS = options.copy();
+			DEFAULT_OPTIONS = options.copy()
+					.freeze();
 	}
 
 }
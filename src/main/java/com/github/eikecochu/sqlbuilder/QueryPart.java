@@ -12,7 +12,7 @@ public interface QueryPart {
 	 * @return The created SQL string
 	 */
 	default String string() {
-		return string(QueryOptions.getDefaultOptions());
+		return string(QueryOptions.defaults());
 	}
 
 	/**
@@ -23,4 +23,30 @@ public interface QueryPart {
 	 */
 	String string(QueryOptions options);
 
+	/**
+	 * Renders this statement into the passed QueryWriter. The default
+	 * implementation appends the result of string(QueryOptions), implementations
+	 * should override it to append into the writer directly.
+	 *
+	 * @param writer  The QueryWriter to append to
+	 * @param context The RenderContext of the current rendering
+	 */
+	default void render(final QueryWriter writer, final RenderContext context) {
+		writer.append(string(context.options()));
+	}
+
+	/**
+	 * Renders this statement into the passed Appendable, for example a
+	 * StringBuilder or Writer. Large statements are streamed in chunks, so the
+	 * memory required is bounded by the size of the output.
+	 *
+	 * @param out     The Appendable to write to
+	 * @param context The RenderContext of the current rendering
+	 */
+	default void render(final Appendable out, final RenderContext context) {
+		final QueryWriter writer = new QueryWriter(out);
+		render(writer, context);
+		writer.flush();
+	}
+
 }
@@ -8,7 +8,8 @@ import lombok.experimental.Accessors;
 /**
  * The default QueryPart implementation used by most expressions. Also
  * implements the QueryPart, QueryPartSQL and QueryPartLinked interfaces for
- * convenience.
+ * convenience. Subclasses must override either string(QueryOptions) or
+ * render(QueryWriter, RenderContext).
  *
  * @param <T> The type to return to for various methods
  */
@@ -32,6 +33,11 @@ public abstract class QueryPartImpl<T extends QueryPartImpl<T>>
 		this.parent = parent;
 	}
 
+	@Override
+	public String string(final QueryOptions options) {
+		return QueryWriter.render(this, options);
+	}
+
 	@Override
 	public T sql(final String sql) {
 		this.sql = sql;
@@ -1,63 +1,57 @@
 package com.github.eikecochu.sqlbuilder;
 
-import java.sql.Date;
-import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 final class QueryUtils {
 
-	private static final Pattern namePattern = Pattern.compile(
-			"^\\s*((?<fn>\\w+)\\()?([\"'`]?(?<a1>\\w+)[\"'`]?\\.)?([\"'`]?(?<a2>\\w+)[\"'`]?\\.)?([\"'`]?(?<name>\\w+|\\*)[\"'`]?)\\)?(\\s+[Aa][Ss])?(\\s+[\"'`]?(?<alias>\\w+))?[\"'`]?\\s*$");
-
 	public static Name splitName(final QueryOptions options, final String strName) {
-		if (!options.splitNames())
-			return new Name().name(strName);
+		if (strName == null)
+			return parseName(options, null);
 
-		final Matcher m = namePattern.matcher(strName);
-		if (m.matches()) {
-			String schema = m.group("a1");
-			String table = m.group("a2");
+		final Name cached = NameCache.get(options, strName);
+		if (cached != null)
+			return cached;
 
-			if (table == null) {
-				table = schema;
-				schema = null;
-			}
+		return NameCache.put(options, strName, parseName(options, strName));
+	}
 
-			return new Name().function(m.group("fn"))
-					.schema(schema)
-					.table(table)
-					.name(m.group("name"))
-					.alias(m.group("alias"));
-		} else if (options.ignoreUnrecognizableNames())
+	private static Name parseName(final QueryOptions options, final String strName) {
+		if (!options.splitNames())
+			return new Name().name(strName);
+
+		final int[] offsets = new int[NameScanner.OFFSETS];
+		if (NameScanner.scan(strName, offsets))
+			return new Name().function(part(strName, offsets, NameScanner.FUNCTION))
+					.schema(part(strName, offsets, NameScanner.SCHEMA))
+					.table(part(strName, offsets, NameScanner.TABLE))
+					.name(part(strName, offsets, NameScanner.NAME))
+					.alias(part(strName, offsets, NameScanner.ALIAS));
+		else if (options.ignoreUnrecognizableNames())
 			return new Name().name(strName)
 					.unrecognized(true);
 		else
 			throw new RuntimeException("unrecognizable name: " + strName);
 	}
 
+	private static String part(final String strName, final int[] offsets, final int part) {
+		return offsets[part] < 0 ? null : strName.substring(offsets[part], offsets[part + 1]);
+	}
+
 	public static String valueToString(final QueryOptions options, final Object value) {
 		if (value == null)
 			return "";
-		if (value instanceof String)
-			return "'" + QueryUtils.sqlStringEscape(value.toString()) + "'";
-		if (value instanceof Integer)
-			return Integer.toString((int) value);
-		if (value instanceof Long)
-			return Long.toString((long) value);
-		if (value instanceof Double)
-			return Double.toString((double) value);
-		if (value instanceof Float)
-			return Float.toString((float) value);
-		if (value instanceof Boolean)
-			return (boolean) value ? "true" : "false";
-		if (value instanceof Date)
-			return new SimpleDateFormat(options == null ? "yyyy-MM-dd'T'HH:mm:ss.SSSZ" : options.dateFormat())
-					.format((Date) value);
-		return "";
+		final QueryWriter writer = new QueryWriter(32);
+		appendValue(writer, options, value);
+		return writer.toString();
+	}
+
+	public static void appendValue(final QueryWriter writer, QueryOptions options, final Object value) {
+		if (options == null)
+			options = QueryOptions.defaults();
+		options.literals()
+				.render(writer, options, value);
 	}
 
 	public static List<String> valuesToStrings(final QueryOptions options, final Object... values) {
@@ -66,8 +60,13 @@ final class QueryUtils {
 				.collect(Collectors.toList());
 	}
 
+	// returns the passed string itself if there is nothing to escape
 	public static String sqlStringEscape(final String string) {
-		return string.replaceAll("'(?!')", "''");
+		if (string.indexOf('\'') < 0)
+			return string;
+		final QueryWriter writer = new QueryWriter(string.length() + 8);
+		return writer.appendEscaped(string, false)
+				.toString();
 	}
 
 	public static String preparedInValues(int count) {
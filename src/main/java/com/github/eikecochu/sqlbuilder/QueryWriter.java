@@ -0,0 +1,367 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * The QueryWriter class is used to assemble the query string in a single pass.
+ * All parts of a query append into one shared buffer instead of creating and
+ * joining intermediate strings for every clause. Segments of the buffer can be
+ * marked and then closed, trimmed or reset to support parts that turn out to be
+ * empty after they have been rendered.
+ *
+ * A QueryWriter created for an Appendable streams the query into it. Parts that
+ * produce large amounts of output, like the rows of an INSERT or the members of
+ * a UNION, commit their content, which passes everything that can no longer
+ * change to the output. The buffer then only holds the uncommitted tail of the
+ * query.
+ */
+public final class QueryWriter {
+
+	/**
+	 * The default capacity of the output buffer, if no size hint is available.
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	/**
+	 * The number of buffered characters from which on a commit passes the buffer
+	 * to the output.
+	 */
+	public static final int COMMIT_THRESHOLD = 8192;
+
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	private final StringBuilder sb;
+	private final Appendable out;
+
+	// number of characters already passed to the output
+	private int base = 0;
+
+	// marks of open segments that will be trimmed
+	private int[] trimMarks = new int[8];
+	private int trimDepth = 0;
+
+	/**
+	 * Create a new QueryWriter with the default capacity
+	 */
+	public QueryWriter() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new QueryWriter with a pre-sized buffer
+	 *
+	 * @param capacity The initial capacity of the buffer
+	 */
+	public QueryWriter(final int capacity) {
+		sb = new StringBuilder(Math.max(16, capacity));
+		out = null;
+	}
+
+	/**
+	 * Create a new QueryWriter that streams into the passed Appendable. A
+	 * StringBuilder is written to directly, any other Appendable receives the
+	 * committed content in chunks. Call flush() after rendering to write the
+	 * remaining content.
+	 *
+	 * @param out The Appendable to write to
+	 */
+	public QueryWriter(final Appendable out) {
+		if (out instanceof StringBuilder) {
+			sb = (StringBuilder) out;
+			this.out = null;
+			base = -sb.length();
+		} else {
+			sb = new StringBuilder(DEFAULT_CAPACITY);
+			this.out = out;
+		}
+	}
+
+	/**
+	 * Append a string. Null values are ignored.
+	 *
+	 * @param string The string to append
+	 * @return This instance
+	 */
+	public QueryWriter append(final String string) {
+		if (string != null)
+			sb.append(string);
+		return this;
+	}
+
+	/**
+	 * Append a part of a string
+	 *
+	 * @param string The string to append from
+	 * @param start  The index of the first character to append
+	 * @param end    The index after the last character to append
+	 * @return This instance
+	 */
+	public QueryWriter append(final String string, final int start, final int end) {
+		sb.append(string, start, end);
+		return this;
+	}
+
+	/**
+	 * Append a string escaped for an SQL string literal by doubling every single
+	 * quote and, if enabled, every backslash. Unescaped runs of the string are
+	 * appended as a whole.
+	 *
+	 * @param string      The string to escape
+	 * @param backslashes True to also escape backslashes
+	 * @return This instance
+	 */
+	public QueryWriter appendEscaped(final String string, final boolean backslashes) {
+		final int length = string.length();
+		int start = 0;
+		for (int i = 0; i < length; i++) {
+			final char c = string.charAt(i);
+			if (c == '\'' || c == '\\' && backslashes) {
+				sb.append(string, start, i + 1)
+						.append(c);
+				start = i + 1;
+			}
+		}
+		sb.append(string, start, length);
+		return this;
+	}
+
+	/**
+	 * Append a single character
+	 *
+	 * @param c The character to append
+	 * @return This instance
+	 */
+	public QueryWriter append(final char c) {
+		sb.append(c);
+		return this;
+	}
+
+	/**
+	 * Append an integer value
+	 *
+	 * @param i The integer to append
+	 * @return This instance
+	 */
+	public QueryWriter append(final int i) {
+		sb.append(i);
+		return this;
+	}
+
+	/**
+	 * Append a long value
+	 *
+	 * @param l The long to append
+	 * @return This instance
+	 */
+	public QueryWriter append(final long l) {
+		sb.append(l);
+		return this;
+	}
+
+	/**
+	 * Append a double value
+	 *
+	 * @param d The double to append
+	 * @return This instance
+	 */
+	public QueryWriter append(final double d) {
+		sb.append(d);
+		return this;
+	}
+
+	/**
+	 * Append bytes as uppercase hexadecimal digits
+	 *
+	 * @param bytes The bytes to append
+	 * @return This instance
+	 */
+	public QueryWriter appendHex(final byte[] bytes) {
+		for (final byte b : bytes)
+			sb.append(HEX[(b >> 4) & 0xF])
+					.append(HEX[b & 0xF]);
+		return this;
+	}
+
+	/**
+	 * Marks the current position to start a new segment
+	 *
+	 * @return The mark, to be passed to close, trim, reset or isEmpty
+	 */
+	public int mark() {
+		return length();
+	}
+
+	/**
+	 * Marks the current position to start a new segment that will be trimmed.
+	 * Nothing is committed to the output until the segment is trimmed, because
+	 * trimming may still remove its leading whitespace.
+	 *
+	 * @return The mark, to be passed to trim
+	 */
+	public int markTrimmed() {
+		if (trimDepth == trimMarks.length)
+			trimMarks = Arrays.copyOf(trimMarks, trimDepth * 2);
+		return trimMarks[trimDepth++] = length();
+	}
+
+	/**
+	 * Returns the number of characters written so far
+	 *
+	 * @return The length of the written string
+	 */
+	public int length() {
+		return base + sb.length();
+	}
+
+	/**
+	 * Checks if nothing was written since the passed mark
+	 *
+	 * @param mark The mark
+	 * @return true if nothing was written since the mark
+	 */
+	public boolean isEmpty(final int mark) {
+		return length() <= mark;
+	}
+
+	/**
+	 * Closes the segment started at the passed mark. If the segment contains
+	 * whitespace only, it is removed. Otherwise, trailing line breaks are removed.
+	 *
+	 * @param mark The mark of the segment start
+	 * @return true if the segment is not empty
+	 */
+	public boolean close(final int mark) {
+		// committed content always ends with a non-whitespace character
+		final int start = Math.max(0, mark - base);
+		int end = sb.length();
+		while (end > start && sb.charAt(end - 1) <= ' ')
+			end--;
+		if (end == start && mark >= base) {
+			sb.setLength(start);
+			return false;
+		}
+
+		end = sb.length();
+		while (end > start && sb.charAt(end - 1) == '\n') {
+			end--;
+			if (end > start && sb.charAt(end - 1) == '\r')
+				end--;
+		}
+		sb.setLength(end);
+		return true;
+	}
+
+	/**
+	 * Removes leading and trailing whitespace from the segment started at the
+	 * passed mark
+	 *
+	 * @param mark The mark of the segment start
+	 * @return true if the segment is not empty
+	 */
+	public boolean trim(final int mark) {
+		if (trimDepth > 0 && trimMarks[trimDepth - 1] == mark)
+			trimDepth--;
+		final int offset = offset(mark);
+
+		int end = sb.length();
+		while (end > offset && sb.charAt(end - 1) <= ' ')
+			end--;
+		sb.setLength(end);
+
+		int start = offset;
+		while (start < end && sb.charAt(start) <= ' ')
+			start++;
+		if (start > offset)
+			sb.delete(offset, start);
+
+		return sb.length() > offset;
+	}
+
+	/**
+	 * Removes everything written since the passed mark
+	 *
+	 * @param mark The mark to reset to
+	 */
+	public void reset(final int mark) {
+		final int offset = offset(mark);
+		if (offset < sb.length())
+			sb.setLength(offset);
+	}
+
+	/**
+	 * Passes all content that can no longer change to the output, if this writer
+	 * streams into an Appendable and enough content is buffered. Parts may only
+	 * commit after they have written non-whitespace content, because reset is
+	 * only applied to segments that turned out to be empty.
+	 */
+	public void commit() {
+		if (out == null || trimDepth > 0 || sb.length() < COMMIT_THRESHOLD)
+			return;
+
+		int end = sb.length();
+		while (end > 0 && sb.charAt(end - 1) <= ' ')
+			end--;
+		if (end > 0) {
+			write(end);
+			sb.delete(0, end);
+			base += end;
+		}
+	}
+
+	/**
+	 * Writes the remaining content to the output. Call this after rendering has
+	 * finished. Does nothing if this writer does not stream into an Appendable.
+	 */
+	public void flush() {
+		if (out != null && sb.length() > 0) {
+			write(sb.length());
+			base += sb.length();
+			sb.setLength(0);
+		}
+	}
+
+	private void write(final int end) {
+		try {
+			out.append(sb, 0, end);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private int offset(final int mark) {
+		if (mark < base)
+			throw new IllegalStateException("segment was already committed to the output");
+		return mark - base;
+	}
+
+	/**
+	 * Returns the written string, or null if nothing was written. For a writer
+	 * that streams into an Appendable, only the uncommitted content is returned.
+	 *
+	 * @return The written string or null
+	 */
+	public String result() {
+		return sb.length() == 0 ? null : sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		return sb.toString();
+	}
+
+	/**
+	 * Renders a QueryPart into a new QueryWriter and returns the result
+	 *
+	 * @param part    The QueryPart to render
+	 * @param options The QueryOptions to apply for rendering
+	 * @return The rendered string, or null if the part rendered to nothing
+	 */
+	public static String render(final QueryPart part, final QueryOptions options) {
+		final StringBuilder sb = new StringBuilder(DEFAULT_CAPACITY);
+		part.render(sb, new RenderContext(options));
+		return sb.length() == 0 ? null : sb.toString();
+	}
+
+}
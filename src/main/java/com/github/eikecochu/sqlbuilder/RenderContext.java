@@ -0,0 +1,159 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * The RenderContext class holds the state of a single rendering of a query,
+ * such as the current indent level and the values collected for a prepared
+ * statement. A new context is created for every rendering, while the
+ * QueryOptions are only read and can be shared.
+ */
+@ToString
+@Getter
+@Accessors(fluent = true)
+public final class RenderContext {
+
+	private final QueryOptions options;
+
+	/**
+	 * If enabled, values are replaced by placeholders and collected in the prepared
+	 * values list.
+	 */
+	private final boolean prepare;
+
+	/**
+	 * The values collected for the placeholders, in order
+	 */
+	private final BindBuffer bindings = new BindBuffer();
+
+	private int indentLevel = 0;
+
+	/**
+	 * Create a new RenderContext that renders values as literals
+	 *
+	 * @param options The QueryOptions to apply, or null to use the default options
+	 */
+	public RenderContext(final QueryOptions options) {
+		this(options, false);
+	}
+
+	/**
+	 * Create a new RenderContext
+	 *
+	 * @param options The QueryOptions to apply, or null to use the default options
+	 * @param prepare True to render placeholders and collect the prepared values
+	 */
+	public RenderContext(final QueryOptions options, final boolean prepare) {
+		this.options = options == null ? QueryOptions.defaults() : options;
+		this.prepare = prepare;
+	}
+
+	/**
+	 * Adds a value to the prepared values
+	 *
+	 * @param value The value
+	 */
+	public void addPreparedValue(final Object value) {
+		addPreparedValue(value, 0);
+	}
+
+	/**
+	 * Adds a value with an SQL type to the prepared values. If no type is passed,
+	 * the default type of the value class from the options is used.
+	 *
+	 * @param value   The value
+	 * @param sqlType The SQL type from java.sql.Types, or 0 for none
+	 */
+	public void addPreparedValue(final Object value, final int sqlType) {
+		bindings.add(value, sqlType != 0 ? sqlType : options.sqlType(value));
+	}
+
+	/**
+	 * Returns the collected prepared values
+	 *
+	 * @return A live list view of the prepared values
+	 */
+	public List<Object> preparedValues() {
+		return bindings.values();
+	}
+
+	/**
+	 * Increases the indent level by 1
+	 *
+	 * @return This instance
+	 */
+	public RenderContext indent() {
+		indentLevel++;
+		return this;
+	}
+
+	/**
+	 * Decreases the indent level by 1
+	 *
+	 * @return This instance
+	 */
+	public RenderContext unindent() {
+		indentLevel = Math.max(0, indentLevel - 1);
+		return this;
+	}
+
+	/**
+	 * Creates an indent string based on the indent size and level
+	 *
+	 * @return The indent string
+	 */
+	public String indentString() {
+		if (options.pretty() && options.indent())
+			return options.indentTable()
+					.indent(indentLevel);
+		else
+			return "";
+	}
+
+	/**
+	 * Creates a newline if required, when pretty printing is enabled
+	 *
+	 * @return The newline or space
+	 */
+	public String newLine() {
+		return newLine(false);
+	}
+
+	/**
+	 * Creates a newline or space, if enabled
+	 *
+	 * @param noSpace If true, returns an empty string if no newline should be
+	 *                created, else creates a string
+	 * @return The newline, space or empty string
+	 */
+	public String newLine(final boolean noSpace) {
+		if (options.pretty())
+			return options.indentTable()
+					.newLine(indentLevel);
+		return noSpace ? "" : " ";
+	}
+
+	/**
+	 * Returns all contained prepared values as a simple, concatenated string
+	 *
+	 * @return The prepared values of this instance
+	 */
+	public String preparedValuesString() {
+		final StringBuilder sb = new StringBuilder();
+		int index = 1;
+		String prefix = "";
+		for (final Object value : bindings.values()) {
+			sb.append(prefix)
+					.append(index++)
+					.append(": ")
+					.append(value);
+			prefix = ", ";
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The RowMapper interface maps the current row of a ResultSet to an object.
+ *
+ * @param <T> The type of the mapped objects
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+	/**
+	 * Maps the current row of the ResultSet. Implementations must not move the
+	 * cursor of the ResultSet.
+	 *
+	 * @param rs     The ResultSet, positioned at the row to map
+	 * @param rowNum The 0-based number of the row
+	 * @return The mapped object
+	 * @throws SQLException if reading the row fails
+	 */
+	T map(ResultSet rs, int rowNum) throws SQLException;
+
+}
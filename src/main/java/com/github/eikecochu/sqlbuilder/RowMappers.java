@@ -0,0 +1,740 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The RowMappers class creates RowMappers that map the columns of a result to
+ * Java beans, records or Values. Columns are matched to bean setters or record
+ * components by name, ignoring case and underscores, so the column CUSTOMER_ID
+ * is mapped to the property customerId. Columns without a matching property
+ * are ignored.
+ *
+ * The columns are resolved once per result shape, the column labels of the
+ * ResultSet, and target class. The resolved mapping is compiled into an
+ * accessor that reads every column by index with the getter matching the
+ * property type and calls setters through generated lambdas, so no reflection
+ * and no column label lookups happen per row. Compiled accessors are cached
+ * and shared by all mappers of the same class. If the cache is full, accessors
+ * that were not used since the last eviction run are evicted first, and every
+ * mapper keeps the accessor of the last result shape it mapped.
+ */
+public final class RowMappers {
+
+	/**
+	 * The default maximum number of cached accessors
+	 */
+	public static final int DEFAULT_MAX_SIZE = 1024;
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final Method IS_RECORD = method(Class.class, "isRecord");
+	private static final Method RECORD_COMPONENTS = method(Class.class, "getRecordComponents");
+
+	private static final ConcurrentHashMap<Shape, Entry> ACCESSORS = new ConcurrentHashMap<>();
+	private static final AtomicInteger SIZE = new AtomicInteger();
+	private static final ReentrantLock EVICTION_LOCK = new ReentrantLock();
+
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+	private static final LongAdder EVICTIONS = new LongAdder();
+
+	private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+	@FunctionalInterface
+	private interface Accessor<T> {
+
+		T map(ResultSet rs) throws SQLException;
+
+	}
+
+	@FunctionalInterface
+	private interface Column {
+
+		void apply(ResultSet rs, Object target) throws SQLException;
+
+	}
+
+	@FunctionalInterface
+	private interface Reader {
+
+		Object read(ResultSet rs, int column) throws SQLException;
+
+	}
+
+	@FunctionalInterface
+	interface ObjBooleanConsumer<T> {
+
+		void accept(T target, boolean value);
+
+	}
+
+	private static final class Shape {
+
+		private final Class<?> type;
+		private final String[] labels;
+		private final int hash;
+
+		private Shape(final Class<?> type, final String[] labels) {
+			this.type = type;
+			this.labels = labels;
+			hash = 31 * type.hashCode() + Arrays.hashCode(labels);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof Shape))
+				return false;
+			final Shape other = (Shape) obj;
+			return type == other.type && Arrays.equals(labels, other.labels);
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final Accessor<?> accessor;
+		private volatile boolean used;
+
+		private Entry(final Accessor<?> accessor) {
+			this.accessor = accessor;
+		}
+
+	}
+
+	private static final class Bound<T> {
+
+		private final ResultSet rs;
+		private final String[] labels;
+		private final Accessor<T> accessor;
+
+		private Bound(final ResultSet rs, final String[] labels, final Accessor<T> accessor) {
+			this.rs = rs;
+			this.labels = labels;
+			this.accessor = accessor;
+		}
+
+	}
+
+	private static final class CompiledMapper<T> implements RowMapper<T> {
+
+		private final Class<T> type;
+		private volatile Bound<T> bound;
+
+		private CompiledMapper(final Class<T> type) {
+			this.type = type;
+		}
+
+		@Override
+		public T map(final ResultSet rs, final int rowNum) throws SQLException {
+			// the accessor is resolved on the first row of every ResultSet, and kept
+			// as long as the result shape does not change
+			Bound<T> bound = this.bound;
+			if (bound == null || bound.rs != rs) {
+				final String[] labels = labels(rs.getMetaData());
+				if (bound != null && Arrays.equals(bound.labels, labels)) {
+					HITS.increment();
+					this.bound = bound = new Bound<>(rs, labels, bound.accessor);
+				} else
+					this.bound = bound = new Bound<>(rs, labels, accessor(type, labels));
+			}
+			return bound.accessor.map(rs);
+		}
+
+	}
+
+	private RowMappers() {
+	}
+
+	/**
+	 * Creates a RowMapper that maps each row to a new instance of a Java bean or
+	 * record. Beans need a no-argument constructor and public setters named after
+	 * the columns. Records are created with their canonical constructor, record
+	 * components without a matching column are set to null or zero.
+	 *
+	 * @param <T>  The type of the mapped rows
+	 * @param type The bean or record class
+	 * @return The RowMapper
+	 */
+	public static <T> RowMapper<T> of(final Class<T> type) {
+		if (type == null)
+			throw new IllegalArgumentException("type must not be null");
+		if (type.isInterface() || type.isPrimitive() || type.isArray() || Modifier.isAbstract(type.getModifiers()))
+			throw new IllegalArgumentException("cannot map rows to " + type.getName());
+		if (!isRecord(type))
+			try {
+				type.getDeclaredConstructor();
+			} catch (final NoSuchMethodException e) {
+				throw new IllegalArgumentException(type.getName() + " has no constructor without arguments", e);
+			}
+		return new CompiledMapper<>(type);
+	}
+
+	/**
+	 * Creates a RowMapper that maps each row to a Values instance, using the
+	 * column labels as keys
+	 *
+	 * @return The RowMapper
+	 */
+	public static RowMapper<Values> values() {
+		return new CompiledMapper<>(Values.class);
+	}
+
+	/**
+	 * Returns the number of cached accessors
+	 *
+	 * @return The cache size
+	 */
+	public static int getSize() {
+		return SIZE.get();
+	}
+
+	/**
+	 * Returns the maximum number of cached accessors
+	 *
+	 * @return The maximum size
+	 */
+	public static int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Sets the maximum number of cached accessors. Set to 0 to disable caching. If
+	 * the cache currently holds more accessors, the cache is cleared.
+	 *
+	 * @param maxSize The new maximum size
+	 */
+	public static void setMaxSize(final int maxSize) {
+		RowMappers.maxSize = Math.max(0, maxSize);
+		if (SIZE.get() > RowMappers.maxSize)
+			clear();
+	}
+
+	/**
+	 * Returns the number of result shapes that were resolved using a cached
+	 * accessor
+	 *
+	 * @return The number of cache hits
+	 */
+	public static long getHits() {
+		return HITS.sum();
+	}
+
+	/**
+	 * Returns the number of result shapes that required an accessor to be
+	 * compiled
+	 *
+	 * @return The number of cache misses
+	 */
+	public static long getMisses() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * Returns the number of accessors that were evicted because the cache was full
+	 *
+	 * @return The number of evictions
+	 */
+	public static long getEvictions() {
+		return EVICTIONS.sum();
+	}
+
+	/**
+	 * Removes all cached accessors
+	 */
+	public static void clear() {
+		EVICTION_LOCK.lock();
+		try {
+			for (final Iterator<Entry> it = ACCESSORS.values()
+					.iterator(); it.hasNext();) {
+				it.next();
+				it.remove();
+				SIZE.decrementAndGet();
+			}
+		} finally {
+			EVICTION_LOCK.unlock();
+		}
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters
+	 */
+	public static void resetStatistics() {
+		HITS.reset();
+		MISSES.reset();
+		EVICTIONS.reset();
+	}
+
+	private static String[] labels(final ResultSetMetaData meta) throws SQLException {
+		final String[] labels = new String[meta.getColumnCount()];
+		for (int i = 0; i < labels.length; i++)
+			labels[i] = meta.getColumnLabel(i + 1);
+		return labels;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Accessor<T> accessor(final Class<T> type, final String[] labels) {
+		final Shape shape = new Shape(type, labels);
+		final Entry entry = maxSize > 0 ? ACCESSORS.get(shape) : null;
+		if (entry != null) {
+			HITS.increment();
+			if (!entry.used)
+				entry.used = true;
+			return (Accessor<T>) entry.accessor;
+		}
+
+		MISSES.increment();
+		final Accessor<T> accessor = compile(type, labels);
+		if (maxSize <= 0)
+			return accessor;
+
+		final Entry existing = ACCESSORS.putIfAbsent(shape, new Entry(accessor));
+		if (existing != null)
+			return (Accessor<T>) existing.accessor;
+		if (SIZE.incrementAndGet() > maxSize)
+			evict();
+		return accessor;
+	}
+
+	private static void evict() {
+		if (!EVICTION_LOCK.tryLock())
+			return;
+		try {
+			// two passes at most: the first pass clears the used flags of all entries
+			for (int pass = 0; pass < 2 && SIZE.get() > maxSize; pass++)
+				for (final Iterator<Entry> it = ACCESSORS.values()
+						.iterator(); it.hasNext() && SIZE.get() > maxSize;) {
+					final Entry entry = it.next();
+					if (entry.used)
+						entry.used = false;
+					else {
+						it.remove();
+						SIZE.decrementAndGet();
+						EVICTIONS.increment();
+					}
+				}
+		} finally {
+			EVICTION_LOCK.unlock();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Accessor<T> compile(final Class<T> type, final String[] labels) {
+		if (type == Values.class)
+			return (Accessor<T>) valuesAccessor(labels);
+		try {
+			return isRecord(type) ? record(type, labels) : bean(type, labels);
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalArgumentException("cannot map rows to " + type.getName(), e);
+		}
+	}
+
+	private static Accessor<Values> valuesAccessor(final String[] labels) {
+		return rs -> {
+			final Values values = new Values();
+			for (int i = 0; i < labels.length; i++)
+				values.put(labels[i], rs.getObject(i + 1));
+			return values;
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Accessor<T> bean(final Class<T> type, final String[] labels)
+			throws ReflectiveOperationException {
+		final Map<String, Method> setters = new HashMap<>();
+		for (final Method method : type.getMethods())
+			if (method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers()) && method.getName()
+					.length() > 3 && method.getName()
+							.startsWith("set"))
+				setters.putIfAbsent(normalize(method.getName()
+						.substring(3)), method);
+
+		final BeanAccessor accessor = new BeanAccessor(factory(type));
+		final boolean generate = canGenerate(type);
+		for (int i = 0; i < labels.length; i++) {
+			final Method setter = setters.get(normalize(labels[i]));
+			if (setter != null)
+				accessor.add(i + 1, setter, generate);
+		}
+		return (Accessor<T>) accessor.compile();
+	}
+
+	private static Supplier<Object> factory(final Class<?> type) throws ReflectiveOperationException {
+		final Constructor<?> constructor = type.getDeclaredConstructor();
+		if (canGenerate(type) && Modifier.isPublic(constructor.getModifiers()))
+			try {
+				return lambda(Supplier.class, "get", MethodType.methodType(Object.class),
+						LOOKUP.unreflectConstructor(constructor));
+			} catch (final IllegalAccessException e) {
+				// not accessible from here, the constructor is invoked through a handle
+			}
+
+		constructor.setAccessible(true);
+		final MethodHandle handle = LOOKUP.unreflectConstructor(constructor)
+				.asType(MethodType.methodType(Object.class));
+		return () -> {
+			try {
+				return (Object) handle.invokeExact();
+			} catch (final Throwable e) {
+				throw rethrow(e);
+			}
+		};
+	}
+
+	private static final class BeanAccessor implements Accessor<Object> {
+
+		// columns are grouped by type, so every loop calls a single getter of the ResultSet
+		private final Supplier<Object> factory;
+		private final List<Object[]> columns = new ArrayList<>();
+		private int[] longs;
+		private ObjLongConsumer<Object>[] longSetters;
+		private int[] ints;
+		private ObjIntConsumer<Object>[] intSetters;
+		private int[] doubles;
+		private ObjDoubleConsumer<Object>[] doubleSetters;
+		private int[] booleans;
+		private ObjBooleanConsumer<Object>[] booleanSetters;
+		private int[] strings;
+		private BiConsumer<Object, Object>[] stringSetters;
+		private Column[] others;
+
+		private BeanAccessor(final Supplier<Object> factory) {
+			this.factory = factory;
+		}
+
+		private void add(final int index, final Method setter, final boolean generate) {
+			final Class<?> type = setter.getParameterTypes()[0];
+			MethodHandle handle = null;
+			if (generate && Modifier.isPublic(setter.getDeclaringClass()
+					.getModifiers()))
+				try {
+					handle = LOOKUP.unreflect(setter);
+				} catch (final IllegalAccessException e) {
+					// invoked through a handle
+				}
+
+			final Object setterLambda;
+			if (handle == null || type == float.class || type == short.class || type == byte.class
+					|| type == char.class)
+				setterLambda = handleColumn(index, setter, type);
+			else if (type == long.class)
+				setterLambda = lambda(ObjLongConsumer.class, "accept",
+						MethodType.methodType(void.class, Object.class, long.class), handle);
+			else if (type == int.class)
+				setterLambda = lambda(ObjIntConsumer.class, "accept",
+						MethodType.methodType(void.class, Object.class, int.class), handle);
+			else if (type == double.class)
+				setterLambda = lambda(ObjDoubleConsumer.class, "accept",
+						MethodType.methodType(void.class, Object.class, double.class), handle);
+			else if (type == boolean.class)
+				setterLambda = lambda(ObjBooleanConsumer.class, "accept",
+						MethodType.methodType(void.class, Object.class, boolean.class), handle);
+			else {
+				final BiConsumer<Object, Object> consumer = lambda(BiConsumer.class, "accept",
+						MethodType.methodType(void.class, Object.class, Object.class), handle);
+				if (type == String.class)
+					setterLambda = consumer;
+				else {
+					final Reader reader = reader(type);
+					setterLambda = (Column) (rs, target) -> consumer.accept(target, reader.read(rs, index));
+				}
+			}
+			columns.add(new Object[] { index, setterLambda });
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private BeanAccessor compile() {
+			longs = indexes(ObjLongConsumer.class);
+			longSetters = setters(ObjLongConsumer.class, new ObjLongConsumer[longs.length]);
+			ints = indexes(ObjIntConsumer.class);
+			intSetters = setters(ObjIntConsumer.class, new ObjIntConsumer[ints.length]);
+			doubles = indexes(ObjDoubleConsumer.class);
+			doubleSetters = setters(ObjDoubleConsumer.class, new ObjDoubleConsumer[doubles.length]);
+			booleans = indexes(ObjBooleanConsumer.class);
+			booleanSetters = setters(ObjBooleanConsumer.class, new ObjBooleanConsumer[booleans.length]);
+			strings = indexes(BiConsumer.class);
+			stringSetters = setters(BiConsumer.class, new BiConsumer[strings.length]);
+			others = setters(Column.class, new Column[indexes(Column.class).length]);
+			return this;
+		}
+
+		private int[] indexes(final Class<?> kind) {
+			return columns.stream()
+					.filter(column -> kind.isInstance(column[1]))
+					.mapToInt(column -> (Integer) column[0])
+					.toArray();
+		}
+
+		private <S> S[] setters(final Class<?> kind, final S[] setters) {
+			return columns.stream()
+					.map(column -> column[1])
+					.filter(kind::isInstance)
+					.collect(Collectors.toList())
+					.toArray(setters);
+		}
+
+		@Override
+		public Object map(final ResultSet rs) throws SQLException {
+			final Object target = factory.get();
+			// NULL values of primitive properties keep the default of the bean
+			for (int i = 0; i < longs.length; i++) {
+				final long value = rs.getLong(longs[i]);
+				if (value != 0 || !rs.wasNull())
+					longSetters[i].accept(target, value);
+			}
+			for (int i = 0; i < ints.length; i++) {
+				final int value = rs.getInt(ints[i]);
+				if (value != 0 || !rs.wasNull())
+					intSetters[i].accept(target, value);
+			}
+			for (int i = 0; i < doubles.length; i++) {
+				final double value = rs.getDouble(doubles[i]);
+				if (value != 0 || !rs.wasNull())
+					doubleSetters[i].accept(target, value);
+			}
+			for (int i = 0; i < booleans.length; i++) {
+				final boolean value = rs.getBoolean(booleans[i]);
+				if (value || !rs.wasNull())
+					booleanSetters[i].accept(target, value);
+			}
+			for (int i = 0; i < strings.length; i++)
+				stringSetters[i].accept(target, rs.getString(strings[i]));
+			for (final Column column : others)
+				column.apply(rs, target);
+			return target;
+		}
+
+	}
+
+	private static Column handleColumn(final int index, final Method setter, final Class<?> type) {
+		final MethodHandle handle;
+		try {
+			setter.setAccessible(true);
+			handle = LOOKUP.unreflect(setter)
+					.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		} catch (final IllegalAccessException | RuntimeException e) {
+			throw new IllegalArgumentException("cannot access " + setter, e);
+		}
+		final Reader reader = reader(type);
+		return (rs, target) -> {
+			final Object value = reader.read(rs, index);
+			try {
+				handle.invokeExact(target, value);
+			} catch (final Throwable e) {
+				throw rethrow(e);
+			}
+		};
+	}
+
+	private static <T> Accessor<T> record(final Class<T> type, final String[] labels)
+			throws ReflectiveOperationException {
+		final Map<String, Integer> columns = new HashMap<>();
+		for (int i = 0; i < labels.length; i++)
+			columns.putIfAbsent(normalize(labels[i]), i + 1);
+
+		final Object[] components = (Object[]) RECORD_COMPONENTS.invoke(type);
+		final Class<?>[] types = new Class<?>[components.length];
+		final Reader[] readers = new Reader[components.length];
+		final int[] indexes = new int[components.length];
+		for (int i = 0; i < components.length; i++) {
+			final Object component = components[i];
+			final String name = (String) component.getClass()
+					.getMethod("getName")
+					.invoke(component);
+			types[i] = (Class<?>) component.getClass()
+					.getMethod("getType")
+					.invoke(component);
+			final Integer column = columns.get(normalize(name));
+			indexes[i] = column == null ? 0 : column;
+			readers[i] = column == null ? defaultReader(types[i]) : reader(types[i]);
+		}
+
+		final Constructor<T> constructor = type.getDeclaredConstructor(types);
+		if (!Modifier.isPublic(type.getModifiers()) || !Modifier.isPublic(constructor.getModifiers()))
+			constructor.setAccessible(true);
+		final MethodHandle handle = LOOKUP.unreflectConstructor(constructor)
+				.asSpreader(Object[].class, components.length)
+				.asType(MethodType.methodType(Object.class, Object[].class));
+
+		return rs -> {
+			final Object[] args = new Object[readers.length];
+			for (int i = 0; i < readers.length; i++)
+				args[i] = readers[i].read(rs, indexes[i]);
+			try {
+				return type.cast((Object) handle.invokeExact(args));
+			} catch (final Throwable e) {
+				throw rethrow(e);
+			}
+		};
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Reader reader(final Class<?> type) {
+		if (type == String.class)
+			return ResultSet::getString;
+		if (type == int.class)
+			return ResultSet::getInt;
+		if (type == long.class)
+			return ResultSet::getLong;
+		if (type == double.class)
+			return ResultSet::getDouble;
+		if (type == boolean.class)
+			return ResultSet::getBoolean;
+		if (type == float.class)
+			return ResultSet::getFloat;
+		if (type == short.class)
+			return ResultSet::getShort;
+		if (type == byte.class)
+			return ResultSet::getByte;
+		if (type == Integer.class)
+			return (rs, column) -> nullable(rs, rs.getInt(column));
+		if (type == Long.class)
+			return (rs, column) -> nullable(rs, rs.getLong(column));
+		if (type == Double.class)
+			return (rs, column) -> nullable(rs, rs.getDouble(column));
+		if (type == Boolean.class)
+			return (rs, column) -> nullable(rs, rs.getBoolean(column));
+		if (type == Float.class)
+			return (rs, column) -> nullable(rs, rs.getFloat(column));
+		if (type == Short.class)
+			return (rs, column) -> nullable(rs, rs.getShort(column));
+		if (type == Byte.class)
+			return (rs, column) -> nullable(rs, rs.getByte(column));
+		if (type == BigDecimal.class)
+			return ResultSet::getBigDecimal;
+		if (type == byte[].class)
+			return ResultSet::getBytes;
+		if (type == Timestamp.class || type == java.util.Date.class)
+			return ResultSet::getTimestamp;
+		if (type == java.sql.Date.class)
+			return ResultSet::getDate;
+		if (type == Time.class)
+			return ResultSet::getTime;
+		if (type == Object.class)
+			return ResultSet::getObject;
+		if (type.isEnum())
+			return (rs, column) -> {
+				final String value = rs.getString(column);
+				return value == null ? null : Enum.valueOf((Class) type, value);
+			};
+		return (rs, column) -> rs.getObject(column, type);
+	}
+
+	private static Reader defaultReader(final Class<?> type) {
+		final Object value;
+		if (type == int.class)
+			value = 0;
+		else if (type == long.class)
+			value = 0L;
+		else if (type == double.class)
+			value = 0d;
+		else if (type == boolean.class)
+			value = false;
+		else if (type == float.class)
+			value = 0f;
+		else if (type == short.class)
+			value = (short) 0;
+		else if (type == byte.class)
+			value = (byte) 0;
+		else if (type == char.class)
+			value = (char) 0;
+		else
+			value = null;
+		return (rs, column) -> value;
+	}
+
+	private static Object nullable(final ResultSet rs, final Object value) throws SQLException {
+		return rs.wasNull() ? null : value;
+	}
+
+	private static String normalize(final String name) {
+		return name.replace("_", "")
+				.toLowerCase(Locale.ROOT);
+	}
+
+	private static boolean canGenerate(final Class<?> type) {
+		// generated lambdas are defined in this class loader, which must see the type
+		try {
+			return Modifier.isPublic(type.getModifiers())
+					&& Class.forName(type.getName(), false, RowMappers.class.getClassLoader()) == type;
+		} catch (final ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <F> F lambda(final Class<?> type, final String name, final MethodType samType,
+			final MethodHandle handle) {
+		final MethodType instantiated = handle.type()
+				.changeReturnType(samType.returnType() == void.class ? void.class
+						: handle.type()
+								.returnType());
+		try {
+			final CallSite site = LambdaMetafactory.metafactory(LOOKUP, name, MethodType.methodType(type), samType,
+					handle, instantiated);
+			return (F) site.getTarget()
+					.invoke();
+		} catch (final Throwable e) {
+			throw new IllegalStateException("cannot generate accessor for " + handle, e);
+		}
+	}
+
+	private static RuntimeException rethrow(final Throwable e) {
+		if (e instanceof RuntimeException)
+			return (RuntimeException) e;
+		if (e instanceof Error)
+			throw (Error) e;
+		return new IllegalStateException(e);
+	}
+
+	private static boolean isRecord(final Class<?> type) {
+		try {
+			return IS_RECORD != null && (Boolean) IS_RECORD.invoke(type);
+		} catch (final ReflectiveOperationException e) {
+			return false;
+		}
+	}
+
+	private static Method method(final Class<?> type, final String name) {
+		try {
+			return type.getMethod(name);
+		} catch (final NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Reads the rows of a ResultSet one at a time, mapping each row when it is
+ * requested. Closing releases the ResultSet and the statement, and enables
+ * auto-commit again if it was disabled for streaming.
+ */
+final class RowSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+
+	private final QueryOptions options;
+	private final PreparedStatement stmt;
+	private final ResultSet rs;
+	private final RowMapper<T> mapper;
+	private final Connection autoCommit;
+	private int rowNum;
+	private boolean closed;
+
+	RowSpliterator(final QueryOptions options, final PreparedStatement stmt, final ResultSet rs,
+			final RowMapper<T> mapper, final Connection autoCommit) {
+		super(Long.MAX_VALUE, Spliterator.ORDERED);
+		this.options = options;
+		this.stmt = stmt;
+		this.rs = rs;
+		this.mapper = mapper;
+		this.autoCommit = autoCommit;
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super T> action) {
+		if (closed)
+			return false;
+		try {
+			if (!rs.next())
+				return false;
+			action.accept(mapper.map(rs, rowNum++));
+			return true;
+		} catch (final SQLException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		if (closed)
+			return;
+		closed = true;
+		try {
+			try {
+				try {
+					rs.close();
+				} finally {
+					options.releaseStatement(stmt);
+				}
+			} finally {
+				// ends the read-only transaction
+				if (autoCommit != null)
+					autoCommit.setAutoCommit(true);
+			}
+		} catch (final SQLException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
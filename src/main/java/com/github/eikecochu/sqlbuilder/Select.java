@@ -93,41 +93,43 @@ public class Select extends QueryPartImpl<Select> implements BeforeFrom<Select>
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
+			writer.append(options.padded(sql()));
 		else {
-			strings.add(options.padCased("SELECT"));
-
-			if (distinct) {
-				strings.add(" ");
-				strings.add(options.cased("DISTINCT"));
-			} else if (all) {
-				strings.add(" ");
-				strings.add(options.cased("ALL"));
-			}
+			writer.append(options.padCased("SELECT"));
+
+			if (distinct)
+				writer.append(' ')
+						.append(options.keyword("DISTINCT"));
+			else if (all)
+				writer.append(' ')
+						.append(options.keyword("ALL"));
 
 			if (columns.isEmpty())
-				strings.add(" *");
+				writer.append(" *");
 			else {
-				final StringJoiner columnsStrings = new StringJoiner();
-				for (final String column : columns)
-					columnsStrings.add(QueryUtils.splitName(options, column)
-							.string(options));
-				strings.add(" ");
-				strings.add(columnsStrings.toString(", "));
+				writer.append(' ');
+				String delim = "";
+				for (final String column : columns) {
+					writer.append(delim);
+					QueryUtils.splitName(options, column)
+							.render(writer, context);
+					delim = ", ";
+				}
 			}
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
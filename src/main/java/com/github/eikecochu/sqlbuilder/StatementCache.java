@@ -0,0 +1,482 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * The StatementCache class caches prepared statements per connection, keyed by
+ * the SQL string and the returnGeneratedKeys option. It is enabled by setting
+ * it in the QueryOptions. Each connection keeps at most maxSize statements, the
+ * least recently used statement is closed if the limit is exceeded.
+ *
+ * Cached statements reference their connection, so the cache keeps the
+ * connections it has seen reachable until their statements are removed. At most
+ * maxConnections connections are cached, the statements of the least recently
+ * used connection are closed if the limit is exceeded. Call clear(Connection)
+ * before a connection is closed or returned to its pool, to release it
+ * immediately. Connections that were closed without clearing can be removed
+ * with removeClosed(), for example from a periodic cleanup task.
+ *
+ * The cache never calls JDBC methods while holding its lock, statements that
+ * are removed from the cache are closed afterwards by the calling thread.
+ *
+ * Statements prepared through the cache are owned by the caller until they are
+ * returned with release(PreparedStatement). They must not be closed by the
+ * caller, and must not be used after they were released. While a statement is
+ * in use, preparing the same SQL on the same connection creates a new
+ * statement. When a cached statement is reused, its parameters are cleared and
+ * the statement options are applied again.
+ */
+public final class StatementCache {
+
+	/**
+	 * The default maximum number of cached statements per connection
+	 */
+	public static final int DEFAULT_MAX_SIZE = 64;
+
+	/**
+	 * The default maximum number of cached connections
+	 */
+	public static final int DEFAULT_MAX_CONNECTIONS = 64;
+
+	@EqualsAndHashCode
+	private static final class Key {
+
+		private final String sql;
+		private final boolean returnGeneratedKeys;
+
+		private Key(final String sql, final boolean returnGeneratedKeys) {
+			this.sql = sql;
+			this.returnGeneratedKeys = returnGeneratedKeys;
+		}
+
+	}
+
+	/**
+	 * Compares connections by identity, as pools may hand out a new proxy for
+	 * every checkout of the same physical connection
+	 */
+	private static final class ConnectionKey {
+
+		private final Connection connection;
+
+		private ConnectionKey(final Connection connection) {
+			this.connection = connection;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(connection);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof ConnectionKey && ((ConnectionKey) obj).connection == connection;
+		}
+
+	}
+
+	private final class Connections extends LinkedHashMap<ConnectionKey, Statements> {
+
+		private static final long serialVersionUID = 1L;
+
+		private Connections() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<ConnectionKey, Statements> eldest) {
+			if (size() <= maxConnections)
+				return false;
+			discardAll(eldest.getValue());
+			return true;
+		}
+
+	}
+
+	private final class Statements extends LinkedHashMap<Key, PreparedStatement> {
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Set when the statements are removed from the cache, released statements
+		 * of this connection are closed instead of cached
+		 */
+		private boolean cleared;
+
+		private Statements() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Key, PreparedStatement> eldest) {
+			if (size() <= maxSize)
+				return false;
+			evictions.increment();
+			discard(eldest.getValue());
+			return true;
+		}
+
+	}
+
+	private static final class Lease {
+
+		private final Statements statements;
+		private final Key key;
+
+		/**
+		 * The cached statement, if the caller got a postprocessed statement instead.
+		 * Not set otherwise, as the value must not reference its weak key.
+		 */
+		private PreparedStatement stmt;
+
+		private Lease(final Statements statements, final Key key) {
+			this.statements = statements;
+			this.key = key;
+		}
+
+	}
+
+	private final int maxSize;
+	private final int maxConnections;
+	private final Connections connections = new Connections();
+	private final Map<PreparedStatement, Lease> leases = new WeakHashMap<>();
+
+	/**
+	 * Statements removed from the cache while holding the lock, closed by the
+	 * calling thread after the lock was released
+	 */
+	private List<PreparedStatement> discarded = null;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Create a new StatementCache with the default maximum sizes
+	 */
+	public StatementCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Create a new StatementCache with the default maximum number of connections
+	 *
+	 * @param maxSize The maximum number of cached statements per connection
+	 */
+	public StatementCache(final int maxSize) {
+		this(maxSize, DEFAULT_MAX_CONNECTIONS);
+	}
+
+	/**
+	 * Create a new StatementCache
+	 *
+	 * @param maxSize        The maximum number of cached statements per connection
+	 * @param maxConnections The maximum number of cached connections
+	 */
+	public StatementCache(final int maxSize, final int maxConnections) {
+		if (maxSize < 1)
+			throw new IllegalArgumentException("maxSize must be at least 1");
+		if (maxConnections < 1)
+			throw new IllegalArgumentException("maxConnections must be at least 1");
+		this.maxSize = maxSize;
+		this.maxConnections = maxConnections;
+	}
+
+	/**
+	 * Returns a cached statement for the SQL string, or prepares a new one. The
+	 * returned statement must be returned with release(PreparedStatement).
+	 *
+	 * @param connection          The database connection
+	 * @param sql                 The SQL string
+	 * @param returnGeneratedKeys True to prepare the statement to return generated
+	 *                            keys
+	 * @return The PreparedStatement
+	 * @throws SQLException if preparing fails
+	 */
+	public PreparedStatement prepare(final Connection connection, final String sql,
+			final boolean returnGeneratedKeys) throws SQLException {
+		final Key key = new Key(sql, returnGeneratedKeys);
+
+		final ConnectionKey connectionKey = new ConnectionKey(connection);
+		final List<PreparedStatement> discarded;
+		Statements statements;
+		PreparedStatement stmt;
+		synchronized (this) {
+			statements = connections.get(connectionKey);
+			if (statements == null)
+				connections.put(connectionKey, statements = new Statements());
+			stmt = statements.remove(key);
+			discarded = takeDiscarded();
+		}
+		closeQuietly(discarded);
+
+		if (stmt != null && !stmt.isClosed()) {
+			hits.increment();
+			stmt.clearParameters();
+		} else {
+			misses.increment();
+			if (returnGeneratedKeys)
+				stmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+			else
+				stmt = connection.prepareStatement(sql);
+		}
+
+		synchronized (this) {
+			leases.put(stmt, new Lease(statements, key));
+		}
+		return stmt;
+	}
+
+	/**
+	 * Moves the lease of a statement to the statement returned by a postprocessor,
+	 * so that releasing the processed statement returns the cached one
+	 *
+	 * @param stmt      The statement returned by prepare
+	 * @param processed The statement handed to the caller instead
+	 */
+	synchronized void replace(final PreparedStatement stmt, final PreparedStatement processed) {
+		if (processed == stmt || processed == null)
+			return;
+		final Lease lease = leases.remove(stmt);
+		if (lease != null) {
+			lease.stmt = stmt;
+			leases.put(processed, lease);
+		}
+	}
+
+	/**
+	 * Returns a statement to the cache. Statements that were not prepared by this
+	 * cache are closed.
+	 *
+	 * @param stmt The statement
+	 * @throws SQLException if closing the statement fails
+	 */
+	public void release(final PreparedStatement stmt) throws SQLException {
+		if (stmt == null)
+			return;
+
+		final Lease lease;
+		synchronized (this) {
+			lease = leases.remove(stmt);
+		}
+		final PreparedStatement cached = lease != null && lease.stmt != null ? lease.stmt : stmt;
+
+		if (lease != null && !cached.isClosed()) {
+			final boolean kept;
+			final List<PreparedStatement> discarded;
+			synchronized (this) {
+				kept = !lease.statements.cleared;
+				if (kept) {
+					final PreparedStatement previous = lease.statements.put(lease.key, cached);
+					if (previous != null && previous != cached) {
+						// the same SQL was prepared again while this statement was in use
+						evictions.increment();
+						discard(previous);
+					}
+				}
+				discarded = takeDiscarded();
+			}
+			closeQuietly(discarded);
+			if (kept)
+				return;
+		}
+
+		stmt.close();
+		if (cached != stmt)
+			cached.close();
+	}
+
+	/**
+	 * Closes and removes all cached statements of a connection, for example
+	 * before the connection is closed
+	 *
+	 * @param connection The database connection
+	 */
+	public void clear(final Connection connection) {
+		final List<PreparedStatement> discarded;
+		synchronized (this) {
+			final Statements statements = connections.remove(new ConnectionKey(connection));
+			if (statements != null)
+				discardAll(statements);
+			discarded = takeDiscarded();
+		}
+		closeQuietly(discarded);
+	}
+
+	/**
+	 * Closes and removes all cached statements
+	 */
+	public void clear() {
+		final List<PreparedStatement> discarded;
+		synchronized (this) {
+			for (final Statements statements : connections.values())
+				discardAll(statements);
+			connections.clear();
+			discarded = takeDiscarded();
+		}
+		closeQuietly(discarded);
+	}
+
+	/**
+	 * Closes and removes the cached statements of all connections that were
+	 * closed without being cleared. The connections are checked without holding
+	 * the lock of the cache, so this can be called periodically while the cache
+	 * is in use.
+	 *
+	 * @return The number of removed connections
+	 */
+	public int removeClosed() {
+		final List<ConnectionKey> keys;
+		synchronized (this) {
+			keys = new ArrayList<>(connections.keySet());
+		}
+
+		int removed = 0;
+		for (final ConnectionKey key : keys) {
+			if (!isClosed(key.connection))
+				continue;
+			final List<PreparedStatement> discarded;
+			synchronized (this) {
+				final Statements statements = connections.remove(key);
+				if (statements != null) {
+					discardAll(statements);
+					removed++;
+				}
+				discarded = takeDiscarded();
+			}
+			closeQuietly(discarded);
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns the maximum number of cached statements per connection
+	 *
+	 * @return The maximum size
+	 */
+	public int maxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the maximum number of cached connections
+	 *
+	 * @return The maximum number of connections
+	 */
+	public int maxConnections() {
+		return maxConnections;
+	}
+
+	/**
+	 * Returns the number of currently cached statements of all connections
+	 *
+	 * @return The number of cached statements
+	 */
+	public synchronized int size() {
+		int size = 0;
+		for (final Statements statements : connections.values())
+			size += statements.size();
+		return size;
+	}
+
+	/**
+	 * Returns the number of prepares that reused a cached statement
+	 *
+	 * @return The number of cache hits
+	 */
+	public long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of prepares that created a new statement
+	 *
+	 * @return The number of cache misses
+	 */
+	public long misses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the ratio of prepares that reused a cached statement
+	 *
+	 * @return The hit ratio between 0 and 1
+	 */
+	public double hitRatio() {
+		final long hits = hits();
+		final long total = hits + misses();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	/**
+	 * Returns the number of statements that were closed because the cache of
+	 * their connection was full
+	 *
+	 * @return The number of evictions
+	 */
+	public long evictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters
+	 */
+	public void resetStatistics() {
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+
+	private static boolean isClosed(final Connection connection) {
+		try {
+			return connection.isClosed();
+		} catch (final SQLException e) {
+			return true;
+		}
+	}
+
+	private void discard(final PreparedStatement stmt) {
+		if (discarded == null)
+			discarded = new ArrayList<>();
+		discarded.add(stmt);
+	}
+
+	private void discardAll(final Statements statements) {
+		statements.cleared = true;
+		for (final PreparedStatement stmt : statements.values())
+			discard(stmt);
+		statements.clear();
+	}
+
+	private List<PreparedStatement> takeDiscarded() {
+		final List<PreparedStatement> taken = discarded;
+		discarded = null;
+		return taken == null ? Collections.emptyList() : taken;
+	}
+
+	private static void closeQuietly(final List<PreparedStatement> stmts) {
+		for (final PreparedStatement stmt : stmts)
+			closeQuietly(stmt);
+	}
+
+	private static void closeQuietly(final PreparedStatement stmt) {
+		try {
+			stmt.close();
+		} catch (final SQLException e) {
+			// the statement is discarded anyway
+		}
+	}
+
+}
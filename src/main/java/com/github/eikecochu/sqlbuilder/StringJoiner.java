@@ -7,7 +7,11 @@ import java.util.List;
  * The StringJoiner class is used to assemble the query string with support for
  * adding strings and collections of strings and optionally joining them with a
  * delimiter.
+ *
+ * @deprecated Parts render into a shared QueryWriter instead, see
+ *             QueryPart.render(QueryWriter, RenderContext)
  */
+@Deprecated
 public final class StringJoiner {
 
 	private final List<String> strings = new ArrayList<>();
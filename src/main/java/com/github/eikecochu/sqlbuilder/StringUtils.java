@@ -1,10 +1,18 @@
 package com.github.eikecochu.sqlbuilder;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 final class StringUtils {
 
+	private static final String[] SPACES = new String[64];
+
+	static {
+		for (int i = 0; i < SPACES.length; i++)
+			SPACES[i] = repeat(" ", i);
+	}
+
 	private StringUtils() {
 	}
 
@@ -43,7 +51,13 @@ final class StringUtils {
 	}
 
 	public static String repeat(final char c, final int times) {
-		return repeat("" + c, times);
+		if (times <= 0)
+			return "";
+		if (c == ' ' && times < SPACES.length)
+			return SPACES[times];
+		final char[] chars = new char[times];
+		Arrays.fill(chars, c);
+		return new String(chars);
 	}
 
 	public static boolean nullOrBlank(final String s) {
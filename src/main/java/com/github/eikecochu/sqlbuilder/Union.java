@@ -55,27 +55,28 @@ public class Union extends QueryPartImpl<Union> implements BeforeSelect<Union>,
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.commit();
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
+			writer.append(options.padded(sql()));
 		else {
-			strings.add(options.padCased("UNION"));
+			writer.append(options.padCased("UNION"));
 
-			if (all) {
-				strings.add(" ");
-				strings.add(options.cased("ALL"));
-			}
+			if (all)
+				writer.append(' ')
+						.append(options.keyword("ALL"));
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
@@ -35,7 +35,7 @@ public class Update extends QueryPartImpl<Update> implements QueryBuilder<Update
 
 		@Override
 		public String string(final QueryOptions options) {
-			return options.cased(string);
+			return options.keyword(string);
 		}
 	}
 
@@ -152,45 +152,45 @@ public class Update extends QueryPartImpl<Update> implements QueryBuilder<Update
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
+			writer.append(options.padded(sql()));
 		else {
-			strings.add(options.padCased(updateType.string(options)));
-
-			strings.add(" ");
-			strings.add(table);
-
-			strings.add(options.newLine());
-			strings.add(options.padCased("SET"));
-			strings.add(" ");
-
-			final StringJoiner sets = new StringJoiner();
+			writer.append(options.padCased(updateType.string(options)))
+					.append(' ')
+					.append(table)
+					.append(context.newLine())
+					.append(options.padCased("SET"))
+					.append(' ');
+
+			String delim = "";
 			for (final UpdateValue updateValue : updateValues) {
-				String column = QueryUtils.splitName(options, updateValue.column())
-						.string(options) + " = ";
+				writer.append(delim);
+				QueryUtils.splitName(options, updateValue.column())
+						.render(writer, context);
+				writer.append(" = ");
 				if (updateValue.expression())
-					column += updateValue.value()
-							.toString();
-				else if (options.prepare()) {
-					column += "?";
-					options.addPreparedValue(updateValue.value());
+					writer.append(updateValue.value()
+							.toString());
+				else if (context.prepare()) {
+					writer.append('?');
+					context.addPreparedValue(updateValue.value(), updateValue.sqlType());
 				} else
-					column += QueryUtils.valueToString(options, updateValue.value());
-				sets.add(column);
+					QueryUtils.appendValue(writer, options, updateValue.value());
+				delim = ", ";
 			}
-			strings.add(sets.toString(", "));
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
@@ -20,6 +20,7 @@ public class UpdateValue {
 	private final String column;
 	private Object value;
 	private boolean expression = false;
+	private int sqlType;
 
 	protected UpdateValue(final Update update, final String column) {
 		this.update = update;
@@ -37,6 +38,18 @@ public class UpdateValue {
 		return update;
 	}
 
+	/**
+	 * Set the updated value with an SQL type for the prepared value
+	 *
+	 * @param value   The updated value
+	 * @param sqlType The SQL type of the value, from java.sql.Types
+	 * @return The UPDATE statement
+	 */
+	public Update value(final Object value, final int sqlType) {
+		this.sqlType = sqlType;
+		return value(value);
+	}
+
 	/**
 	 * Use an expression to update the value
 	 *
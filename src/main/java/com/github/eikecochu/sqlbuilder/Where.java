@@ -42,28 +42,52 @@ public class Where extends Conditionable<Where>
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		render(writer, context, null);
+	}
+
+	void render(final QueryWriter writer, final RenderContext context, final Keyset keyset) {
+		final QueryOptions options = context.options();
+
+		final int mark = writer.mark();
+
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		if (keyset != null && keyset.seeking()) {
+			// the seek predicate is added to the conditions, which are grouped to keep OR
+			// conditions apart
+			writer.append(options.padCased("WHERE"))
+					.append(' ');
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+			final int group = writer.mark();
+			writer.append('(');
+			final int condition = writer.mark();
+			super.render(writer, context);
+			if (writer.isEmpty(condition))
+				writer.reset(group);
+			else
+				writer.append(") ")
+						.append(options.keyword("AND"))
+						.append(' ');
 
-		if (sql() != null)
-			strings.add(options.padded(sql()));
+			keyset.renderSeek(writer, context);
+		} else if (sql() != null)
+			writer.append(options.padded(sql()));
 		else {
-			final String condition = super.string(options);
+			final int keyword = writer.mark();
+			writer.append(options.padCased("WHERE"))
+					.append(' ');
 
-			if (condition != null && !condition.isEmpty()) {
-				strings.add(options.padCased("WHERE"));
-				strings.add(" ");
-				strings.add(condition);
-			}
+			final int condition = writer.mark();
+			super.render(writer, context);
+			if (writer.isEmpty(condition))
+				writer.reset(keyword);
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
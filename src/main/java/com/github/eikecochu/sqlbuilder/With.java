@@ -81,51 +81,57 @@ public class With extends QueryPartImpl<With>
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty()) {
-			strings.add(",");
-			strings.add(options.newLine(true));
-			strings.add(options.padded(""));
-			strings.add(" ");
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(',')
+					.append(context.newLine(true))
+					.append(options.padCased(""))
+					.append(' ');
 		}
 
 		if (sql() != null)
-			strings.add(sql());
+			writer.append(sql());
 		else {
 			if (parent() == null) {
-				strings.add(options.padCased("WITH "));
+				writer.append(options.padCased("WITH "));
 
 				if (recursive)
-					strings.add(options.cased("RECURSIVE "));
+					writer.append(options.keyword("RECURSIVE "));
 			}
 
-			strings.add(name);
+			writer.append(name);
 
 			if (!columns.isEmpty()) {
-				strings.add(" (");
-				strings.add(StringUtils.join(columns, ", "));
-				strings.add(")");
+				writer.append(" (");
+				String delim = "";
+				for (final String column : columns) {
+					writer.append(delim)
+							.append(column);
+					delim = ", ";
+				}
+				writer.append(')');
 			}
 
-			strings.add(" ");
-			strings.add(options.cased("AS"));
-			strings.add(" (");
+			writer.append(' ')
+					.append(options.keyword("AS"))
+					.append(" (");
 
-			options.indent();
-			strings.add(options.newLine(true));
-			strings.add(query.string(options)
-					.trim());
-			options.unindent();
+			context.indent();
+			writer.append(context.newLine(true));
+			final int subquery = writer.mark();
+			query.render(writer, context);
+			writer.trim(subquery);
+			context.unindent();
 
-			strings.add(")");
+			writer.append(')');
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
@@ -4,7 +4,8 @@ import com.github.eikecochu.sqlbuilder.QueryBuilder;
 import com.github.eikecochu.sqlbuilder.QueryOptions;
 import com.github.eikecochu.sqlbuilder.QueryPartImpl;
 import com.github.eikecochu.sqlbuilder.QueryPartLinked;
-import com.github.eikecochu.sqlbuilder.StringJoiner;
+import com.github.eikecochu.sqlbuilder.QueryWriter;
+import com.github.eikecochu.sqlbuilder.RenderContext;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -39,29 +40,31 @@ public class Fetch extends QueryPartImpl<Fetch> implements QueryBuilder<Fetch> {
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (fetch > 0) {
-			strings.add(options.padCased("FETCH"));
+			writer.append(options.padCased("FETCH"));
 			if (parent() != null && parent() instanceof Offset)
-				strings.add(" NEXT");
+				writer.append(" NEXT");
 			else
-				strings.add(" FIRST");
+				writer.append(" FIRST");
 			if (fetch > 1)
-				strings.add(" " + fetch);
-			strings.add(" ");
-			strings.add(fetch == 1 ? "ROW" : "ROWS");
-			strings.add(" ONLY");
+				writer.append(' ')
+						.append(fetch);
+			writer.append(' ')
+					.append(fetch == 1 ? "ROW" : "ROWS")
+					.append(" ONLY");
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
\ No newline at end of file
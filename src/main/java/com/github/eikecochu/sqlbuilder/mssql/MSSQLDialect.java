@@ -0,0 +1,104 @@
+package com.github.eikecochu.sqlbuilder.mssql;
+
+import com.github.eikecochu.sqlbuilder.CollectionParameter;
+import com.github.eikecochu.sqlbuilder.Dialect;
+import com.github.eikecochu.sqlbuilder.KeywordIndex;
+import com.github.eikecochu.sqlbuilder.QueryOptions;
+import com.github.eikecochu.sqlbuilder.QueryWriter;
+import com.github.eikecochu.sqlbuilder.RenderContext;
+
+import lombok.ToString;
+
+/**
+ * Dialect for Microsoft SQL Server databases
+ */
+@ToString
+public class MSSQLDialect implements Dialect {
+
+	/**
+	 * The reserved keywords of Transact-SQL
+	 */
+	public static final KeywordIndex KEYWORDS = KeywordIndex.of("ADD", "ALL", "ALTER", "AND", "ANY", "AS", "ASC",
+			"AUTHORIZATION", "BACKUP", "BEGIN", "BETWEEN", "BREAK", "BROWSE", "BULK", "BY", "CASCADE", "CASE", "CHECK",
+			"CHECKPOINT", "CLOSE", "CLUSTERED", "COALESCE", "COLLATE", "COLUMN", "COMMIT", "COMPUTE", "CONSTRAINT",
+			"CONTAINS", "CONTAINSTABLE", "CONTINUE", "CONVERT", "CREATE", "CROSS", "CURRENT", "CURRENT_DATE",
+			"CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "CURSOR", "DATABASE", "DBCC", "DEALLOCATE", "DECLARE",
+			"DEFAULT", "DELETE", "DENY", "DESC", "DISK", "DISTINCT", "DISTRIBUTED", "DOUBLE", "DROP", "DUMP", "ELSE",
+			"END", "ERRLVL", "ESCAPE", "EXCEPT", "EXEC", "EXECUTE", "EXISTS", "EXIT", "EXTERNAL", "FETCH", "FILE",
+			"FILLFACTOR", "FOR", "FOREIGN", "FREETEXT", "FREETEXTTABLE", "FROM", "FULL", "FUNCTION", "GOTO", "GRANT",
+			"GROUP", "HAVING", "HOLDLOCK", "IDENTITY", "IDENTITY_INSERT", "IDENTITYCOL", "IF", "IN", "INDEX", "INNER",
+			"INSERT", "INTERSECT", "INTO", "IS", "JOIN", "KEY", "KILL", "LEFT", "LIKE", "LINENO", "LOAD", "MERGE",
+			"NATIONAL", "NOCHECK", "NONCLUSTERED", "NOT", "NULL", "NULLIF", "OF", "OFF", "OFFSETS", "ON", "OPEN",
+			"OPENDATASOURCE", "OPENQUERY", "OPENROWSET", "OPENXML", "OPTION", "OR", "ORDER", "OUTER", "OVER",
+			"PERCENT", "PIVOT", "PLAN", "PRECISION", "PRIMARY", "PRINT", "PROC", "PROCEDURE", "PUBLIC", "RAISERROR",
+			"READ", "READTEXT", "RECONFIGURE", "REFERENCES", "REPLICATION", "RESTORE", "RESTRICT", "RETURN", "REVERT",
+			"REVOKE", "RIGHT", "ROLLBACK", "ROWCOUNT", "ROWGUIDCOL", "RULE", "SAVE", "SCHEMA", "SECURITYAUDIT",
+			"SELECT", "SEMANTICKEYPHRASETABLE", "SEMANTICSIMILARITYDETAILSTABLE", "SEMANTICSIMILARITYTABLE",
+			"SESSION_USER", "SET", "SETUSER", "SHUTDOWN", "SOME", "STATISTICS", "SYSTEM_USER", "TABLE", "TABLESAMPLE",
+			"TEXTSIZE", "THEN", "TO", "TOP", "TRAN", "TRANSACTION", "TRIGGER", "TRUNCATE", "TRY_CONVERT", "TSEQUAL",
+			"UNION", "UNIQUE", "UNPIVOT", "UPDATE", "UPDATETEXT", "USE", "USER", "VALUES", "VARYING", "VIEW",
+			"WAITFOR", "WHEN", "WHERE", "WHILE", "WITH", "WRITETEXT");
+
+	@Override
+	public KeywordIndex keywords() {
+		return KEYWORDS;
+	}
+
+	/**
+	 * Strings containing characters outside of ASCII are written as Unicode
+	 * literals (N'...'), so they are not converted to the code page of the
+	 * database. Other strings stay plain literals, which keeps comparisons with
+	 * VARCHAR columns free of implicit conversions.
+	 */
+	@Override
+	public void appendString(final QueryWriter writer, final String value) {
+		for (int i = 0; i < value.length(); i++)
+			if (value.charAt(i) > 0x7F) {
+				writer.append('N');
+				break;
+			}
+		writer.append('\'');
+		writer.appendEscaped(value, false);
+		writer.append('\'');
+	}
+
+	@Override
+	public void appendBytes(final QueryWriter writer, final byte[] bytes) {
+		writer.append("0x")
+				.appendHex(bytes);
+	}
+
+	@Override
+	public int maxParameters() {
+		return 2100;
+	}
+
+	/**
+	 * A table value constructor is limited to 1000 rows
+	 */
+	@Override
+	public int maxInsertRows() {
+		return 1000;
+	}
+
+	@Override
+	public CollectionParameter collectionParameter() {
+		return OpenJsonParameter.INSTANCE;
+	}
+
+	/**
+	 * FETCH requires an OFFSET clause
+	 */
+	@Override
+	public void appendLimit(final QueryWriter writer, final RenderContext context, final int limit) {
+		final QueryOptions options = context.options();
+		writer.append(options.padCased("OFFSET"))
+				.append(" 0 ROWS")
+				.append(context.newLine())
+				.append(options.padCased("FETCH"))
+				.append(" NEXT ")
+				.append(limit)
+				.append(" ROWS ONLY");
+	}
+
+}
@@ -4,7 +4,8 @@ import com.github.eikecochu.sqlbuilder.QueryBuilder;
 import com.github.eikecochu.sqlbuilder.QueryOptions;
 import com.github.eikecochu.sqlbuilder.QueryPartImpl;
 import com.github.eikecochu.sqlbuilder.QueryPartLinked;
-import com.github.eikecochu.sqlbuilder.StringJoiner;
+import com.github.eikecochu.sqlbuilder.QueryWriter;
+import com.github.eikecochu.sqlbuilder.RenderContext;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -49,23 +50,24 @@ public class Offset extends QueryPartImpl<Offset> implements QueryBuilder<Offset
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
-
-		if (offset > 0) {
-			strings.add(options.padCased("OFFSET"));
-			strings.add(" " + offset);
-			strings.add(" ");
-			strings.add(offset == 1 ? "ROW" : "ROWS");
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
 		}
 
-		return strings.toString();
+		if (offset > 0)
+			writer.append(options.padCased("OFFSET"))
+					.append(' ')
+					.append(offset)
+					.append(' ')
+					.append(offset == 1 ? "ROW" : "ROWS");
+
+		writer.close(mark);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.github.eikecochu.sqlbuilder.mssql;
+
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.UUID;
+
+import com.github.eikecochu.sqlbuilder.CollectionParameter;
+import com.github.eikecochu.sqlbuilder.QueryOptions;
+import com.github.eikecochu.sqlbuilder.QueryWriter;
+
+import lombok.ToString;
+
+/**
+ * Passes the values of an IN list as a single JSON array string, which is
+ * expanded with OPENJSON. The elements are converted to the SQL Server type of
+ * the IN list, taken from its SQL type, or from the class of the first value
+ * that is not null if no SQL type is set, so that the column is compared
+ * without an implicit conversion. Numbers and booleans are written as JSON
+ * numbers and booleans, dates and times as ISO 8601 strings, and all other
+ * values as JSON strings.
+ */
+@ToString
+public class OpenJsonParameter implements CollectionParameter {
+
+	/**
+	 * The shared instance
+	 */
+	public static final OpenJsonParameter INSTANCE = new OpenJsonParameter();
+
+	private static final DateTimeFormatter TIME = DateTimeFormatter.ISO_LOCAL_TIME;
+	private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+	private static final DateTimeFormatter OFFSET_DATE_TIME = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+	@Override
+	public void render(final QueryWriter writer, final QueryOptions options, final Object[] values,
+			final int sqlType) {
+		writer.append(options.keyword("IN"))
+				.append(" (")
+				.append(options.keyword("SELECT"))
+				.append(" value ")
+				.append(options.keyword("FROM"))
+				.append(" OPENJSON(?) ")
+				.append(options.keyword("WITH"))
+				.append(" (value ")
+				.append(typeName(values, sqlType))
+				.append(" '$'))");
+	}
+
+	@Override
+	public Object value(final Object[] values, final int sqlType) {
+		final StringBuilder sb = new StringBuilder(values.length * 8 + 2);
+		sb.append('[');
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0)
+				sb.append(',');
+			appendValue(sb, values[i]);
+		}
+		return sb.append(']')
+				.toString();
+	}
+
+	/**
+	 * Returns the SQL Server type name of the elements
+	 *
+	 * @param values  The values of the IN list
+	 * @param sqlType The SQL type of the values from java.sql.Types, or 0 if not
+	 *                set
+	 * @return The type name
+	 */
+	protected String typeName(final Object[] values, final int sqlType) {
+		final String typeName = typeName(sqlType);
+		if (typeName != null)
+			return typeName;
+		for (final Object value : values)
+			if (value != null)
+				return typeName(value.getClass());
+		return "nvarchar(max)";
+	}
+
+	private static String typeName(final int sqlType) {
+		switch (sqlType) {
+		case Types.INTEGER:
+			return "int";
+		case Types.BIGINT:
+			return "bigint";
+		case Types.SMALLINT:
+			return "smallint";
+		case Types.TINYINT:
+			return "tinyint";
+		case Types.DOUBLE:
+		case Types.FLOAT:
+			return "float";
+		case Types.REAL:
+			return "real";
+		case Types.NUMERIC:
+		case Types.DECIMAL:
+			return "decimal(38, 10)";
+		case Types.BOOLEAN:
+		case Types.BIT:
+			return "bit";
+		case Types.DATE:
+			return "date";
+		case Types.TIME:
+			return "time";
+		case Types.TIMESTAMP:
+			return "datetime2";
+		case Types.TIMESTAMP_WITH_TIMEZONE:
+			return "datetimeoffset";
+		case Types.CHAR:
+		case Types.VARCHAR:
+		case Types.LONGVARCHAR:
+			return "varchar(max)";
+		case Types.NCHAR:
+		case Types.NVARCHAR:
+		case Types.LONGNVARCHAR:
+			return "nvarchar(max)";
+		default:
+			return null;
+		}
+	}
+
+	private static String typeName(final Class<?> type) {
+		if (type == Integer.class)
+			return "int";
+		if (type == Long.class)
+			return "bigint";
+		if (type == Short.class)
+			return "smallint";
+		if (type == Byte.class)
+			return "tinyint";
+		if (type == Double.class)
+			return "float";
+		if (type == Float.class)
+			return "real";
+		if (type == BigDecimal.class)
+			return "decimal(38, 10)";
+		if (type == Boolean.class)
+			return "bit";
+		if (type == UUID.class)
+			return "uniqueidentifier";
+		if (type == java.sql.Date.class || type == LocalDate.class)
+			return "date";
+		if (type == Time.class || type == LocalTime.class)
+			return "time";
+		if (type == Timestamp.class || type == LocalDateTime.class || type == Date.class)
+			return "datetime2";
+		if (type == OffsetDateTime.class)
+			return "datetimeoffset";
+		return "nvarchar(max)";
+	}
+
+	private static void appendValue(final StringBuilder sb, final Object value) {
+		if (value == null || value instanceof Boolean)
+			sb.append(value);
+		else if (value instanceof Number) {
+			if ((value instanceof Double || value instanceof Float) && !Double.isFinite(((Number) value)
+					.doubleValue()))
+				throw new IllegalArgumentException("JSON does not support the number " + value);
+			sb.append(value);
+		} else if (value instanceof java.sql.Date)
+			appendString(sb, ((java.sql.Date) value).toLocalDate()
+					.toString());
+		else if (value instanceof Time)
+			appendString(sb, TIME.format(((Time) value).toLocalTime()));
+		else if (value instanceof Timestamp)
+			appendString(sb, DATE_TIME.format(((Timestamp) value).toLocalDateTime()));
+		else if (value instanceof Date)
+			appendString(sb, DATE_TIME.format(LocalDateTime.ofInstant(((Date) value).toInstant(),
+					ZoneId.systemDefault())));
+		else if (value instanceof LocalTime)
+			appendString(sb, TIME.format((LocalTime) value));
+		else if (value instanceof LocalDateTime)
+			appendString(sb, DATE_TIME.format((LocalDateTime) value));
+		else if (value instanceof OffsetDateTime)
+			appendString(sb, OFFSET_DATE_TIME.format((OffsetDateTime) value));
+		else
+			appendString(sb, value.toString());
+	}
+
+	private static void appendString(final StringBuilder sb, final String value) {
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (c == '"' || c == '\\')
+				sb.append('\\')
+						.append(c);
+			else if (c < 0x20)
+				sb.append(String.format("\\u%04x", (int) c));
+			else
+				sb.append(c);
+		}
+		sb.append('"');
+	}
+
+}
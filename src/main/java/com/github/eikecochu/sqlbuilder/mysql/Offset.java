@@ -4,7 +4,8 @@ import com.github.eikecochu.sqlbuilder.QueryBuilder;
 import com.github.eikecochu.sqlbuilder.QueryOptions;
 import com.github.eikecochu.sqlbuilder.QueryPartImpl;
 import com.github.eikecochu.sqlbuilder.QueryPartLinked;
-import com.github.eikecochu.sqlbuilder.StringJoiner;
+import com.github.eikecochu.sqlbuilder.QueryWriter;
+import com.github.eikecochu.sqlbuilder.RenderContext;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -39,21 +40,22 @@ public class Offset extends QueryPartImpl<Offset> implements QueryBuilder<Offset
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
-
-		if (offset > 0) {
-			strings.add(options.padCased("OFFSET"));
-			strings.add(" " + offset);
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
 		}
 
-		return strings.toString();
+		if (offset > 0)
+			writer.append(options.padCased("OFFSET"))
+					.append(' ')
+					.append(offset);
+
+		writer.close(mark);
 	}
 
 }
@@ -4,7 +4,8 @@ import com.github.eikecochu.sqlbuilder.Conditionable;
 import com.github.eikecochu.sqlbuilder.QueryBuilder;
 import com.github.eikecochu.sqlbuilder.QueryOptions;
 import com.github.eikecochu.sqlbuilder.QueryPartLinked;
-import com.github.eikecochu.sqlbuilder.StringJoiner;
+import com.github.eikecochu.sqlbuilder.QueryWriter;
+import com.github.eikecochu.sqlbuilder.RenderContext;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -68,32 +69,32 @@ public class ConnectBy extends Conditionable<ConnectBy> implements QueryBuilder<
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
+			writer.append(options.padded(sql()));
 		else {
-			final String condition = super.string(options);
-
-			if (condition != null && !condition.trim()
-					.isEmpty()) {
-				strings.add(options.padCased("CONNECT BY"));
-				if (nocycle)
-					strings.add(" NOCYCLE");
-				strings.add(" PRIOR");
-				strings.add(" ");
-				strings.add(condition);
-			}
+			final int keyword = writer.mark();
+			writer.append(options.padCased("CONNECT BY"));
+			if (nocycle)
+				writer.append(" NOCYCLE");
+			writer.append(" PRIOR ");
+
+			final int condition = writer.mark();
+			super.render(writer, context);
+			if (writer.isEmpty(condition))
+				writer.reset(keyword);
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
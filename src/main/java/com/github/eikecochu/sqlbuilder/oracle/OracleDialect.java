@@ -0,0 +1,72 @@
+package com.github.eikecochu.sqlbuilder.oracle;
+
+import com.github.eikecochu.sqlbuilder.CollectionParameter;
+import com.github.eikecochu.sqlbuilder.Dialect;
+import com.github.eikecochu.sqlbuilder.KeywordIndex;
+import com.github.eikecochu.sqlbuilder.QueryWriter;
+
+import lombok.ToString;
+
+/**
+ * Dialect for Oracle databases
+ */
+@ToString
+public class OracleDialect implements Dialect {
+
+	/**
+	 * The reserved words of Oracle SQL
+	 */
+	public static final KeywordIndex KEYWORDS = KeywordIndex.of("ACCESS", "ADD", "ALL", "ALTER", "AND", "ANY", "AS",
+			"ASC", "AUDIT", "BETWEEN", "BY", "CHAR", "CHECK", "CLUSTER", "COLUMN", "COLUMN_VALUE", "COMMENT",
+			"COMPRESS", "CONNECT", "CREATE", "CURRENT", "DATE", "DECIMAL", "DEFAULT", "DELETE", "DESC", "DISTINCT",
+			"DROP", "ELSE", "EXCLUSIVE", "EXISTS", "FILE", "FLOAT", "FOR", "FROM", "GRANT", "GROUP", "HAVING",
+			"IDENTIFIED", "IMMEDIATE", "IN", "INCREMENT", "INDEX", "INITIAL", "INSERT", "INTEGER", "INTERSECT", "INTO",
+			"IS", "LEVEL", "LIKE", "LOCK", "LONG", "MAXEXTENTS", "MINUS", "MLSLABEL", "MODE", "MODIFY",
+			"NESTED_TABLE_ID", "NOAUDIT", "NOCOMPRESS", "NOT", "NOWAIT", "NULL", "NUMBER", "OF", "OFFLINE", "ON",
+			"ONLINE", "OPTION", "OR", "ORDER", "PCTFREE", "PRIOR", "PUBLIC", "RAW", "RENAME", "RESOURCE", "REVOKE",
+			"ROW", "ROWID", "ROWNUM", "ROWS", "SELECT", "SESSION", "SET", "SHARE", "SIZE", "SMALLINT", "START",
+			"SUCCESSFUL", "SYNONYM", "SYSDATE", "TABLE", "THEN", "TO", "TRIGGER", "UID", "UNION", "UNIQUE", "UPDATE",
+			"USER", "VALIDATE", "VALUES", "VARCHAR", "VARCHAR2", "VIEW", "WHENEVER", "WHERE", "WITH");
+
+	@Override
+	public KeywordIndex keywords() {
+		return KEYWORDS;
+	}
+
+	/**
+	 * Oracle converts strings to dates by the NLS settings of the session, so
+	 * typed literals like DATE '2020-01-31' are used instead
+	 */
+	@Override
+	public void appendTemporal(final QueryWriter writer, final String type, final String value) {
+		writer.append(type)
+				.append(' ');
+		appendString(writer, value);
+	}
+
+	@Override
+	public void appendBytes(final QueryWriter writer, final byte[] bytes) {
+		writer.append("HEXTORAW('")
+				.appendHex(bytes)
+				.append("')");
+	}
+
+	@Override
+	public int maxParameters() {
+		return 65535;
+	}
+
+	/**
+	 * Oracle rejects IN lists with more than 1000 expressions (ORA-01795)
+	 */
+	@Override
+	public int maxInListSize() {
+		return 1000;
+	}
+
+	@Override
+	public CollectionParameter collectionParameter() {
+		return TableParameter.INSTANCE;
+	}
+
+}
@@ -3,7 +3,8 @@ package com.github.eikecochu.sqlbuilder.oracle;
 import com.github.eikecochu.sqlbuilder.Conditionable;
 import com.github.eikecochu.sqlbuilder.QueryBuilder;
 import com.github.eikecochu.sqlbuilder.QueryOptions;
-import com.github.eikecochu.sqlbuilder.StringJoiner;
+import com.github.eikecochu.sqlbuilder.QueryWriter;
+import com.github.eikecochu.sqlbuilder.RenderContext;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -36,28 +37,30 @@ public class StartWith extends Conditionable<StartWith> implements QueryBuilder<
 	}
 
 	@Override
-	public String string(final QueryOptions options) {
-		final StringJoiner strings = new StringJoiner();
+	public void render(final QueryWriter writer, final RenderContext context) {
+		final QueryOptions options = context.options();
 
-		if (parent() != null)
-			strings.add(parent().string(options));
+		final int mark = writer.mark();
 
-		if (strings.notEmpty())
-			strings.add(options.newLine());
+		if (parent() != null) {
+			parent().render(writer, context);
+			writer.append(context.newLine());
+		}
 
 		if (sql() != null)
-			strings.add(options.padded(sql()));
+			writer.append(options.padded(sql()));
 		else {
-			final String condition = super.string(options);
+			final int keyword = writer.mark();
+			writer.append(options.padCased("START WITH"))
+					.append(' ');
 
-			if (condition != null && !condition.isEmpty()) {
-				strings.add(options.padCased("START WITH"));
-				strings.add(" ");
-				strings.add(condition);
-			}
+			final int condition = writer.mark();
+			super.render(writer, context);
+			if (writer.isEmpty(condition))
+				writer.reset(keyword);
 		}
 
-		return strings.toString();
+		writer.close(mark);
 	}
 
 }
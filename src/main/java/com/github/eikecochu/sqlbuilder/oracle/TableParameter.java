@@ -0,0 +1,133 @@
+package com.github.eikecochu.sqlbuilder.oracle;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Date;
+
+import com.github.eikecochu.sqlbuilder.BindValue;
+import com.github.eikecochu.sqlbuilder.CollectionParameter;
+import com.github.eikecochu.sqlbuilder.QueryOptions;
+import com.github.eikecochu.sqlbuilder.QueryWriter;
+
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * Passes the values of an IN list as a single collection parameter, expanded
+ * with TABLE(). The built-in collection types SYS.ODCINUMBERLIST,
+ * SYS.ODCIDATELIST and SYS.ODCIVARCHAR2LIST are used, depending on the SQL type
+ * of the IN list, or on the class of the first value that is not null if no
+ * SQL type is set. The Oracle JDBC driver is accessed by
+ * reflection, so it is not required at compile time.
+ */
+@ToString
+public class TableParameter implements CollectionParameter {
+
+	/**
+	 * The shared instance
+	 */
+	public static final TableParameter INSTANCE = new TableParameter();
+
+	/**
+	 * A collection bound with OracleConnection.createOracleArray()
+	 */
+	@ToString
+	@Getter
+	@Accessors(fluent = true)
+	public static final class OracleArray implements BindValue {
+
+		/**
+		 * The name of the collection type
+		 */
+		private final String typeName;
+
+		@ToString.Exclude
+		private final Object[] elements;
+
+		OracleArray(final String typeName, final Object[] elements) {
+			this.typeName = typeName;
+			this.elements = elements;
+		}
+
+		@Override
+		public void bind(final PreparedStatement stmt, final int index) throws SQLException {
+			final Array array;
+			try {
+				final Class<?> type = Class.forName("oracle.jdbc.OracleConnection");
+				final Connection connection = (Connection) stmt.getConnection()
+						.unwrap(type);
+				array = (Array) type.getMethod("createOracleArray", String.class, Object.class)
+						.invoke(connection, typeName, elements);
+			} catch (final ReflectiveOperationException e) {
+				throw new SQLException("failed to create collection of type " + typeName, e);
+			}
+			stmt.setArray(index, array);
+		}
+
+	}
+
+	@Override
+	public void render(final QueryWriter writer, final QueryOptions options, final Object[] values,
+			final int sqlType) {
+		writer.append(options.keyword("IN"))
+				.append(" (")
+				.append(options.keyword("SELECT"))
+				.append(" COLUMN_VALUE ")
+				.append(options.keyword("FROM"))
+				.append(' ')
+				.append(options.keyword("TABLE"))
+				.append("(?))");
+	}
+
+	@Override
+	public Object value(final Object[] values, final int sqlType) {
+		final String typeName = typeName(values, sqlType);
+		if (!typeName.equals("SYS.ODCIVARCHAR2LIST"))
+			return new OracleArray(typeName, values.clone());
+
+		final Object[] strings = new Object[values.length];
+		for (int i = 0; i < values.length; i++)
+			strings[i] = values[i] == null ? null : values[i].toString();
+		return new OracleArray(typeName, strings);
+	}
+
+	private static String typeName(final Object[] values, final int sqlType) {
+		switch (sqlType) {
+		case Types.INTEGER:
+		case Types.BIGINT:
+		case Types.SMALLINT:
+		case Types.TINYINT:
+		case Types.DOUBLE:
+		case Types.FLOAT:
+		case Types.REAL:
+		case Types.NUMERIC:
+		case Types.DECIMAL:
+			return "SYS.ODCINUMBERLIST";
+		case Types.DATE:
+		case Types.TIMESTAMP:
+			return "SYS.ODCIDATELIST";
+		case Types.CHAR:
+		case Types.VARCHAR:
+		case Types.LONGVARCHAR:
+		case Types.NCHAR:
+		case Types.NVARCHAR:
+		case Types.LONGNVARCHAR:
+			return "SYS.ODCIVARCHAR2LIST";
+		default:
+			break;
+		}
+		for (final Object value : values)
+			if (value instanceof Number)
+				return "SYS.ODCINUMBERLIST";
+			else if (value instanceof Date)
+				return "SYS.ODCIDATELIST";
+			else if (value != null)
+				break;
+		return "SYS.ODCIVARCHAR2LIST";
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.github.eikecochu.sqlbuilder.postgres;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.github.eikecochu.sqlbuilder.ArrayValue;
+import com.github.eikecochu.sqlbuilder.CollectionParameter;
+import com.github.eikecochu.sqlbuilder.QueryOptions;
+import com.github.eikecochu.sqlbuilder.QueryWriter;
+
+import lombok.ToString;
+
+/**
+ * Passes the values of an IN list as a single array parameter, compared with
+ * "= ANY(?)". The element type of the array is taken from the SQL type of the
+ * IN list, or from the class of the first value that is not null if no SQL type
+ * is set.
+ */
+@ToString
+public class ArrayParameter implements CollectionParameter {
+
+	/**
+	 * The shared instance
+	 */
+	public static final ArrayParameter INSTANCE = new ArrayParameter();
+
+	@Override
+	public void render(final QueryWriter writer, final QueryOptions options, final Object[] values,
+			final int sqlType) {
+		writer.append("= ")
+				.append(options.keyword("ANY"))
+				.append("(?)");
+	}
+
+	@Override
+	public Object value(final Object[] values, final int sqlType) {
+		return new ArrayValue(typeName(values, sqlType), values);
+	}
+
+	/**
+	 * Returns the PostgreSQL type name of the array elements
+	 *
+	 * @param values  The values of the array
+	 * @param sqlType The SQL type of the values from java.sql.Types, or 0 if not
+	 *                set
+	 * @return The type name
+	 */
+	protected String typeName(final Object[] values, final int sqlType) {
+		final String typeName = typeName(sqlType);
+		if (typeName != null)
+			return typeName;
+		for (final Object value : values)
+			if (value != null)
+				return typeName(value.getClass());
+		return "varchar";
+	}
+
+	private static String typeName(final int sqlType) {
+		switch (sqlType) {
+		case Types.INTEGER:
+			return "int4";
+		case Types.BIGINT:
+			return "int8";
+		case Types.SMALLINT:
+		case Types.TINYINT:
+			return "int2";
+		case Types.DOUBLE:
+		case Types.FLOAT:
+			return "float8";
+		case Types.REAL:
+			return "float4";
+		case Types.NUMERIC:
+		case Types.DECIMAL:
+			return "numeric";
+		case Types.BOOLEAN:
+		case Types.BIT:
+			return "bool";
+		case Types.DATE:
+			return "date";
+		case Types.TIME:
+			return "time";
+		case Types.TIMESTAMP:
+			return "timestamp";
+		case Types.TIMESTAMP_WITH_TIMEZONE:
+			return "timestamptz";
+		case Types.CHAR:
+		case Types.VARCHAR:
+		case Types.LONGVARCHAR:
+		case Types.NCHAR:
+		case Types.NVARCHAR:
+		case Types.LONGNVARCHAR:
+			return "varchar";
+		default:
+			return null;
+		}
+	}
+
+	private static String typeName(final Class<?> type) {
+		if (type == Integer.class)
+			return "int4";
+		if (type == Long.class)
+			return "int8";
+		if (type == Short.class)
+			return "int2";
+		if (type == Double.class)
+			return "float8";
+		if (type == Float.class)
+			return "float4";
+		if (type == BigDecimal.class)
+			return "numeric";
+		if (type == Boolean.class)
+			return "bool";
+		if (type == UUID.class)
+			return "uuid";
+		if (type == Date.class || type == LocalDate.class)
+			return "date";
+		if (type == Timestamp.class || type == LocalDateTime.class)
+			return "timestamp";
+		if (type == OffsetDateTime.class)
+			return "timestamptz";
+		return "varchar";
+	}
+
+}
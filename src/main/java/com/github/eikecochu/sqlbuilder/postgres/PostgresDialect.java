@@ -0,0 +1,82 @@
+package com.github.eikecochu.sqlbuilder.postgres;
+
+import com.github.eikecochu.sqlbuilder.CollectionParameter;
+import com.github.eikecochu.sqlbuilder.Dialect;
+import com.github.eikecochu.sqlbuilder.KeywordIndex;
+import com.github.eikecochu.sqlbuilder.QueryWriter;
+import com.github.eikecochu.sqlbuilder.RenderContext;
+
+import lombok.ToString;
+
+/**
+ * Dialect for PostgreSQL databases
+ */
+@ToString
+public class PostgresDialect implements Dialect {
+
+	/**
+	 * The reserved keywords of PostgreSQL
+	 */
+	public static final KeywordIndex KEYWORDS = KeywordIndex.of("ALL", "ANALYSE", "ANALYZE", "AND", "ANY", "ARRAY",
+			"AS", "ASC", "ASYMMETRIC", "AUTHORIZATION", "BINARY", "BOTH", "CASE", "CAST", "CHECK", "COLLATE",
+			"COLLATION", "COLUMN", "CONCURRENTLY", "CONSTRAINT", "CREATE", "CROSS", "CURRENT_CATALOG", "CURRENT_DATE",
+			"CURRENT_ROLE", "CURRENT_SCHEMA", "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "DEFAULT",
+			"DEFERRABLE", "DESC", "DISTINCT", "DO", "ELSE", "END", "EXCEPT", "FALSE", "FETCH", "FOR", "FOREIGN",
+			"FREEZE", "FROM", "FULL", "GRANT", "GROUP", "HAVING", "ILIKE", "IN", "INITIALLY", "INNER", "INTERSECT",
+			"INTO", "IS", "ISNULL", "JOIN", "LATERAL", "LEADING", "LEFT", "LIKE", "LIMIT", "LOCALTIME",
+			"LOCALTIMESTAMP", "NATURAL", "NOT", "NOTNULL", "NULL", "OFFSET", "ON", "ONLY", "OR", "ORDER", "OUTER",
+			"OVERLAPS", "PLACING", "PRIMARY", "REFERENCES", "RETURNING", "RIGHT", "SELECT", "SESSION_USER", "SIMILAR",
+			"SOME", "SYMMETRIC", "TABLE", "TABLESAMPLE", "THEN", "TO", "TRAILING", "TRUE", "UNION", "UNIQUE", "USER",
+			"USING", "VARIADIC", "VERBOSE", "WHEN", "WHERE", "WINDOW", "WITH");
+
+	@Override
+	public KeywordIndex keywords() {
+		return KEYWORDS;
+	}
+
+	/**
+	 * Binary data is written in the hex format of the bytea type
+	 */
+	@Override
+	public void appendBytes(final QueryWriter writer, final byte[] bytes) {
+		writer.append("'\\x")
+				.appendHex(bytes)
+				.append("'::bytea");
+	}
+
+	/**
+	 * The wire protocol counts parameters in a 16 bit integer
+	 */
+	@Override
+	public int maxParameters() {
+		return 65535;
+	}
+
+	@Override
+	public CollectionParameter collectionParameter() {
+		return ArrayParameter.INSTANCE;
+	}
+
+	@Override
+	public boolean rowValueComparison() {
+		return true;
+	}
+
+	/**
+	 * The driver only fetches rows with a cursor if auto-commit is disabled,
+	 * otherwise the fetch size is ignored and the whole result is read
+	 */
+	@Override
+	public boolean streamingRequiresTransaction() {
+		return true;
+	}
+
+	@Override
+	public void appendLimit(final QueryWriter writer, final RenderContext context, final int limit) {
+		writer.append(context.options()
+				.padCased("LIMIT"))
+				.append(' ')
+				.append(limit);
+	}
+
+}
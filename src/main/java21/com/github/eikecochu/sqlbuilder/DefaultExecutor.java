@@ -0,0 +1,26 @@
+package com.github.eikecochu.sqlbuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the executor of the default AsyncExecutor. On Java 21 and later every
+ * task runs on its own virtual thread, so blocking JDBC calls do not tie up
+ * platform threads.
+ */
+final class DefaultExecutor {
+
+	private DefaultExecutor() {
+	}
+
+	static ExecutorService create() {
+		return Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+				.name("sqlbuilder-async-", 1)
+				.factory());
+	}
+
+	static boolean virtualThreads() {
+		return true;
+	}
+
+}
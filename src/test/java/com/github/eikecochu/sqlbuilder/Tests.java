@@ -1,10 +1,59 @@
 package com.github.eikecochu.sqlbuilder;
 
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import com.github.eikecochu.sqlbuilder.mssql.MSSQLDialect;
+import com.github.eikecochu.sqlbuilder.mssql.OpenJsonParameter;
+import com.github.eikecochu.sqlbuilder.mysql.MySQLDialect;
 import com.github.eikecochu.sqlbuilder.oracle.ConnectBy;
+import com.github.eikecochu.sqlbuilder.oracle.OracleDialect;
 import com.github.eikecochu.sqlbuilder.oracle.StartWith;
+import com.github.eikecochu.sqlbuilder.oracle.TableParameter;
+import com.github.eikecochu.sqlbuilder.postgres.PostgresDialect;
 
 @SuppressWarnings("javadoc")
 public class Tests {
@@ -19,6 +68,124 @@ public class Tests {
 				});
 	}
 
+	/**
+	 * Creates a connection that records the names and arguments of all calls made
+	 * to it and to the statements prepared from it
+	 */
+	public Connection stubConnection(final List<String> calls) {
+		return stubConnection(calls, new String[0], new Object[0][]);
+	}
+
+	/**
+	 * Creates a recording connection whose statements return the passed rows when
+	 * executed as a query
+	 */
+	public Connection stubConnection(final List<String> calls, final String[] labels, final Object[][] rows) {
+		return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+				(proxy, method, args) -> {
+					if (method.getDeclaringClass() == Object.class)
+						return stubObject(proxy, method, args);
+					calls.add(method.getName() + (args == null ? "" : Arrays.toString(args)));
+					return method.getReturnType() == PreparedStatement.class ? stubStatement(calls, labels, rows)
+							: stubValue(method);
+				});
+	}
+
+	private ResultSet stubResultSet(final List<String> calls, final String[] labels, final Object[][] rows) {
+		final int[] row = { -1 };
+		final Object[] last = new Object[1];
+		final ResultSetMetaData meta = (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { ResultSetMetaData.class }, (proxy, method, args) -> {
+					if (method.getDeclaringClass() == Object.class)
+						return stubObject(proxy, method, args);
+					if (method.getName()
+							.equals("getColumnCount"))
+						return labels.length;
+					if (method.getName()
+							.startsWith("getColumn") && method.getReturnType() == String.class)
+						return labels[(Integer) args[0] - 1];
+					return stubValue(method);
+				});
+		return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class },
+				(proxy, method, args) -> {
+					if (method.getDeclaringClass() == Object.class)
+						return stubObject(proxy, method, args);
+					final String name = method.getName();
+					if (name.equals("getMetaData"))
+						return meta;
+					if (name.equals("wasNull"))
+						return last[0] == null;
+					if (name.startsWith("get") && args != null && args[0] instanceof Integer) {
+						final Object value = last[0] = rows[row[0]][(Integer) args[0] - 1];
+						final Class<?> type = method.getReturnType();
+						if (value == null)
+							return stubValue(method);
+						if (type == int.class)
+							return ((Number) value).intValue();
+						if (type == long.class)
+							return ((Number) value).longValue();
+						if (type == double.class)
+							return ((Number) value).doubleValue();
+						if (type == boolean.class)
+							return value;
+						if (type == String.class)
+							return value.toString();
+						return value;
+					}
+					calls.add(name + (args == null ? "" : Arrays.toString(args)));
+					if (name.equals("next"))
+						return ++row[0] < rows.length;
+					return stubValue(method);
+				});
+	}
+
+	private PreparedStatement stubStatement(final List<String> calls, final String[] labels, final Object[][] rows) {
+		final int[] batched = new int[1];
+		return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+					if (method.getDeclaringClass() == Object.class)
+						return stubObject(proxy, method, args);
+					calls.add(method.getName() + (args == null ? "" : Arrays.toString(args)));
+					if (method.getName()
+							.equals("addBatch"))
+						batched[0]++;
+					if (method.getName()
+							.equals("executeBatch")) {
+						final int[] counts = new int[batched[0]];
+						Arrays.fill(counts, 1);
+						batched[0] = 0;
+						return counts;
+					}
+					if (method.getName()
+							.equals("executeQuery"))
+						return stubResultSet(calls, labels, rows);
+					return stubValue(method);
+				});
+	}
+
+	private static Object stubObject(final Object proxy, final Method method, final Object[] args) {
+		switch (method.getName()) {
+		case "equals":
+			return proxy == args[0];
+		case "hashCode":
+			return System.identityHashCode(proxy);
+		default:
+			return "stub@" + Integer.toHexString(System.identityHashCode(proxy));
+		}
+	}
+
+	private static Object stubValue(final Method method) {
+		if (method.getReturnType() == int.class)
+			return 0;
+		if (method.getReturnType() == long.class)
+			return 0L;
+		if (method.getReturnType() == double.class)
+			return 0d;
+		if (method.getReturnType() == boolean.class)
+			return false;
+		return null;
+	}
+
 	@Test
 	public void testWith() {
 		final Query query = SQLBuilder.With("A")
@@ -305,6 +472,28 @@ public class Tests {
 		Assertions.assertEquals(pretty, query.string(testOptions().pretty(true)));
 	}
 
+	@Test
+	public void testInsertRows() {
+		final Query query = SQLBuilder.Insert("TEST")
+				.column("COL1")
+				.values(1, 2, 3)
+				.column("COL2")
+				.values("A", "B", "C")
+				.query();
+
+		final String ugly = "INSERT INTO TEST (COL1, COL2) VALUES (1, 'A'), (2, 'B'), (3, 'C')";
+
+		// @formatter:off
+		final String pretty = "INSERT INTO TEST (COL1, COL2)" + NL +
+						"VALUES (1, 'A')," + NL +
+						"       (2, 'B')," + NL +
+						"       (3, 'C')";
+		// @formatter:on
+
+		Assertions.assertEquals(ugly, query.string(testOptions()));
+		Assertions.assertEquals(pretty, query.string(testOptions().pretty(true)));
+	}
+
 	@Test
 	public void testUpdate() {
 		final Query query = SQLBuilder.Update("TEST")
@@ -776,7 +965,7 @@ public class Tests {
 	@Test
 	public void testExpressionPrepareString() {
 		final Expression e = new Expression("PACKAGE.PROCEDURE", 1, 2, 3, null);
-		final String actual = e.string(testOptions().prepare(true));
+		final String actual = e.string(testOptions(), true);
 
 		final String expected = "PACKAGE.PROCEDURE(?, ?, ?)";
 
@@ -787,7 +976,7 @@ public class Tests {
 	public void testExpressionPrepareStandalone() {
 		final Expression expr = new Expression("TEST", 1, 2, 3).returnType(12);
 		final String actual = expr.query()
-				.string(testOptions().prepare(true));
+				.string(new RenderContext(testOptions(), true), null);
 
 		final String expected = "{ ? = call TEST(?, ?, ?) }";
 
@@ -808,7 +997,7 @@ public class Tests {
 		final String prepared = "SELECT * FROM TEST1 WHERE COL1 = PACKAGE.PROCEDURE(?, ?, ?)";
 
 		Assertions.assertEquals(value, query.string(testOptions()));
-		Assertions.assertEquals(prepared, query.string(testOptions().prepare(true)));
+		Assertions.assertEquals(prepared, query.string(new RenderContext(testOptions(), true), null));
 	}
 
 	@Test
@@ -865,4 +1054,1501 @@ public class Tests {
 				.isExpression());
 	}
 
+	@Test
+	public void testConditionOnNewline() {
+		final Query query = SQLBuilder.Select("COL1")
+				.from("TEST")
+				.where()
+				.col("COL1", 1)
+				.and()
+				.col("COL2")
+				.eq(null)
+				.or()
+				.col("COL3", 2)
+				.query();
+
+		final String ugly = "SELECT COL1 FROM TEST WHERE COL1 = 1 OR COL3 = 2";
+
+		// @formatter:off
+		final String pretty =
+			"SELECT COL1" + NL +
+			"  FROM TEST" + NL +
+			" WHERE COL1 = 1" + NL +
+			"    OR COL3 = 2";
+		// @formatter:on
+
+		Assertions.assertEquals(ugly, query.string(testOptions().conditionOnNewline(true)));
+		Assertions.assertEquals(pretty, query.string(testOptions().conditionOnNewline(true)
+				.pretty(true)));
+	}
+
+	@Test
+	public void testWriter() {
+		final QueryWriter writer = new QueryWriter();
+		writer.append("EXPLAIN ");
+
+		SQLBuilder.Select("COL1")
+				.from("TEST")
+				.where()
+				.col("COL1", 1)
+				.render(writer, new RenderContext(testOptions()));
+
+		Assertions.assertEquals("EXPLAIN SELECT COL1 FROM TEST WHERE COL1 = 1", writer.toString());
+	}
+
+	@Test
+	public void testCompile() throws Exception {
+		final Query query = SQLBuilder.Select("COL1")
+				.from("TEST")
+				.where()
+				.col("COL1", 1)
+				.col("COL2")
+				.in("A", "B")
+				.query();
+
+		final CompiledQuery compiled = query.compile(testOptions());
+
+		Assertions.assertEquals("SELECT COL1 FROM TEST WHERE COL1 = ? AND COL2 IN (?, ?)", compiled.sql());
+		Assertions.assertEquals(3, compiled.parameterCount());
+		Assertions.assertEquals(Integer.class, compiled.slots()
+				.get(0)
+				.type());
+		Assertions.assertArrayEquals(new Object[] { 1, "A", "B" }, compiled.values());
+
+		final List<String> calls = new ArrayList<>();
+		compiled.prepare(stubConnection(calls), 2, "C", "D");
+
+		Assertions.assertEquals("prepareStatement[" + compiled.sql() + "]", calls.get(0));
+		Assertions.assertEquals(Arrays.asList("setInt[1, 2]", "setString[2, C]", "setString[3, D]"),
+				calls.subList(calls.size() - 3, calls.size()));
+
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> compiled.prepare(stubConnection(calls), 1, "A"));
+	}
+
+	@Test
+	public void testNameCache() {
+		final QueryOptions options = testOptions();
+		final Query query = SQLBuilder.Select("t.COL1", "COUNT(t.COL2) AS CNT")
+				.from("SCHEMA.TEST t")
+				.query();
+
+		final String ugly = "SELECT T.COL1, COUNT(T.COL2) CNT FROM SCHEMA.TEST t";
+
+		NameCache.clear();
+		NameCache.resetStatistics();
+		Assertions.assertEquals(ugly, query.string(options));
+		Assertions.assertEquals(3, NameCache.getMisses());
+		Assertions.assertEquals(3, NameCache.getSize());
+		Assertions.assertEquals(ugly, query.string(options));
+		Assertions.assertEquals(3, NameCache.getHits());
+
+		final Name name = QueryUtils.splitName(options, "t.COL1");
+		Assertions.assertSame(name, QueryUtils.splitName(options, "t.COL1"));
+		Assertions.assertNotSame(name, QueryUtils.splitName(options.splitNames(false), "t.COL1"));
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> name.alias("A"));
+
+		try {
+			NameCache.setMaxSize(2);
+			for (int i = 0; i < 10; i++)
+				QueryUtils.splitName(options, "COL" + i);
+			Assertions.assertTrue(NameCache.getSize() <= 2);
+			Assertions.assertTrue(NameCache.getEvictions() >= 8);
+		} finally {
+			NameCache.setMaxSize(NameCache.DEFAULT_MAX_SIZE);
+		}
+	}
+
+	@Test
+	public void testNameScanner() {
+		// the name pattern that was used before the NameScanner
+		final Pattern pattern = Pattern.compile(
+				"^\\s*((?<fn>\\w+)\\()?([\"'`]?(?<a1>\\w+)[\"'`]?\\.)?([\"'`]?(?<a2>\\w+)[\"'`]?\\.)?([\"'`]?(?<name>\\w+|\\*)[\"'`]?)\\)?(\\s+[Aa][Ss])?(\\s+[\"'`]?(?<alias>\\w+))?[\"'`]?\\s*$");
+
+		final List<String> corpus = new ArrayList<>(Arrays.asList("", " ", "COL", " COL ", "*", "t.*", "T.COL",
+				"S.T.COL", "S.T.U.COL", "COUNT(*)", "COUNT(t.COL) AS CNT", "MAX(S.T.COL) m", "COL AS", "COL as A",
+				"COL ASA", "COL AS AS", "COL AS'", "\"S\".\"T\".\"COL\"", "`T`.`COL` `A`", "'COL' 'A'", "COL)",
+				"COL\"\"", "COL.", ".COL", "T.*.COL", "COL + 1", "UPPER(COL", "COL A B", "(COL)", "T .COL",
+				"COL\tAS\nA\r\n", "F(S.T.C) AS \"A\""));
+
+		final Random random = new Random(42);
+		final char[] chars = " \tAaSs_1.*()\"'`+X".toCharArray();
+		for (int i = 0; i < 50000; i++) {
+			final char[] name = new char[random.nextInt(12)];
+			for (int j = 0; j < name.length; j++)
+				name[j] = chars[random.nextInt(chars.length)];
+			corpus.add(new String(name));
+		}
+
+		final int[] offsets = new int[NameScanner.OFFSETS];
+		for (final String name : corpus) {
+			final Matcher m = pattern.matcher(name);
+			final boolean matches = m.matches();
+			Assertions.assertEquals(matches, NameScanner.scan(name, offsets), name);
+			if (!matches)
+				continue;
+
+			String schema = m.group("a1");
+			String table = m.group("a2");
+			if (table == null) {
+				table = schema;
+				schema = null;
+			}
+
+			final Name actual = QueryUtils.splitName(testOptions(), name);
+			Assertions.assertEquals(m.group("fn"), actual.function(), name);
+			Assertions.assertEquals(schema, actual.schema(), name);
+			Assertions.assertEquals(table, actual.table(), name);
+			Assertions.assertEquals(m.group("name"), actual.name(), name);
+			Assertions.assertEquals(m.group("alias"), actual.alias(), name);
+		}
+	}
+
+	@Test
+	public void testKeywords() {
+		Assertions.assertTrue(Name.isKeyword("SELECT"));
+		Assertions.assertTrue(Name.isKeyword("select"));
+		Assertions.assertTrue(Name.isKeyword("End-Exec"));
+		Assertions.assertFalse(Name.isKeyword("SELECTS"));
+		Assertions.assertFalse(Name.isKeyword(""));
+		Assertions.assertFalse(Name.isKeyword(null));
+		for (final String keyword : Name.KEYWORDS)
+			Assertions.assertTrue(Name.isKeyword(keyword.toLowerCase()), keyword);
+
+		// changes that keep the size rebuild the index
+		Name.KEYWORDS.remove("ZONE");
+		Name.KEYWORDS.add("ZONES");
+		Assertions.assertFalse(Name.isKeyword("ZONE"));
+		Assertions.assertTrue(Name.isKeyword("zones"));
+		Name.KEYWORDS.removeIf(keyword -> keyword.equals("ZONES"));
+		Name.KEYWORDS.add("ZONE");
+		Assertions.assertTrue(Name.isKeyword("ZONE"));
+		Assertions.assertFalse(Name.isKeyword("ZONES"));
+		final Set<String> keywords = Name.KEYWORDS;
+		Name.keywords(Arrays.asList("ONLY"));
+		Assertions.assertTrue(Name.isKeyword("only"));
+		Assertions.assertFalse(Name.isKeyword("SELECT"));
+		Name.keywords(keywords);
+		Assertions.assertTrue(Name.isKeyword("SELECT"));
+
+		final KeywordIndex index = KeywordIndex.of("a", "B", "A");
+		Assertions.assertEquals(2, index.size());
+		Assertions.assertTrue(index.contains("b"));
+		Assertions.assertFalse(index.contains("C"));
+
+		final Query query = SQLBuilder.Select("NAME", "LINEAR")
+				.from("TEST")
+				.query();
+
+		Assertions.assertEquals("SELECT \"NAME\", LINEAR FROM TEST", query.string(testOptions().escapeKeywords(true)));
+		Assertions.assertEquals("SELECT NAME, \"LINEAR\" FROM TEST", query.string(testOptions().escapeKeywords(true)
+				.dialect(new MySQLDialect())));
+	}
+
+	@Test
+	public void testKeywordTable() {
+		final QueryOptions options = testOptions().pretty(true);
+		Assertions.assertEquals("  FROM", options.padCased("FROM"));
+		Assertions.assertSame(options.padCased("FROM"), options.padCased("FROM"));
+		Assertions.assertEquals(" ORDER BY", options.padCased("ORDER BY"));
+		Assertions.assertEquals(" order by", options.uppercase(false)
+				.padCased("ORDER BY"));
+		Assertions.assertEquals("   order by", options.padLength(8)
+				.padCased("ORDER BY"));
+		Assertions.assertEquals("order by", options.pretty(false)
+				.padCased("ORDER BY"));
+		Assertions.assertEquals("asc", options.keyword("ASC"));
+		Assertions.assertEquals("ASC", options.uppercase(true)
+				.keyword("ASC"));
+	}
+
+	@Test
+	public void testIndentTable() {
+		final QueryOptions options = testOptions().pretty(true);
+		final RenderContext context = new RenderContext(options);
+		Assertions.assertEquals("\n", context.newLine());
+		context.indent()
+				.indent();
+		Assertions.assertEquals("\n             ", context.newLine());
+		Assertions.assertSame(context.newLine(), context.newLine(true));
+		Assertions.assertEquals("             ", context.indentString());
+
+		// levels beyond the prepared ones are created on use
+		for (int i = 0; i < 48; i++)
+			context.indent();
+		Assertions.assertEquals(50 * 6 + 1, context.indentString()
+				.length());
+
+		options.lineDelimiter("\r\n")
+				.padLength(4);
+		Assertions.assertEquals("\r\n" + StringUtils.repeat(' ', 50 * 4 + 1), context.newLine());
+		options.indent(false);
+		Assertions.assertEquals("\r\n", context.newLine());
+		options.pretty(false);
+		Assertions.assertEquals(" ", context.newLine());
+		Assertions.assertEquals("", context.newLine(true));
+	}
+
+	@Test
+	public void testRenderContext() throws Exception {
+		final QueryOptions options = testOptions();
+		final Query query = SQLBuilder.Select("COL1")
+				.from("TEST")
+				.where()
+				.col("COL1", 1)
+				.col("COL2", "A")
+				.query();
+
+		final RenderContext context = new RenderContext(options, true);
+		Assertions.assertEquals("SELECT COL1 FROM TEST WHERE COL1 = ? AND COL2 = ?", query.string(context, null));
+		Assertions.assertEquals(Arrays.asList(1, "A"), context.preparedValues());
+		Assertions.assertEquals("1: 1, 2: A", context.preparedValuesString());
+
+		// preparing must not change the passed options
+		query.prepare(stubConnection(new ArrayList<>()), options.freeze());
+		Assertions.assertEquals("SELECT COL1 FROM TEST WHERE COL1 = 1 AND COL2 = 'A'", query.string(options));
+	}
+
+	@Test
+	public void testConcurrentRendering() throws Exception {
+		final Query query = SQLBuilder.With("W")
+				.as(SQLBuilder.Select("COL1")
+						.from("TEST")
+						.where()
+						.exists(SQLBuilder.Select("1")
+								.from("OTHER")
+								.where()
+								.col("OTHER.ID")
+								.eqCol("TEST.ID")))
+				.select()
+				.from("W")
+				.where()
+				.col("COL1")
+				.in(1, 2, 3)
+				.col("COL2")
+				.eq(null)
+				.col("COL3")
+				.ge()
+				.any(SQLBuilder.Select("COL3")
+						.from("ARCHIVE"))
+				.col("COL4")
+				.eqExpr(new Expression("FN", 1, "A"))
+				.query();
+
+		// frozen options are shared by all threads
+		final QueryOptions[] options = { testOptions(), testOptions().pretty(true), testOptions().ignoreNull(false),
+				testOptions() };
+		for (final QueryOptions option : options)
+			option.freeze();
+		final boolean[] prepared = { false, false, false, true };
+		final String[] expected = new String[options.length];
+		for (int i = 0; i < options.length; i++)
+			expected[i] = query.string(new RenderContext(options[i], prepared[i]), null);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 2000; i++) {
+				final int index = i % options.length;
+				results.add(executor.submit((Callable<String>) () -> {
+					final String sql = query.string(new RenderContext(options[index], prepared[index]), null);
+					return expected[index].equals(sql) ? null : sql;
+				}));
+			}
+			for (final Future<String> result : results)
+				Assertions.assertNull(result.get());
+		} finally {
+			executor.shutdown();
+		}
+
+		// the IS NULL replacement of the ignoreNull option must not stick to the query
+		Assertions.assertEquals(expected[0], query.string(options[0]));
+		Assertions.assertTrue(expected[2].contains("COL2 IS NULL"));
+		Assertions.assertFalse(expected[0].contains("COL2"));
+	}
+
+	@Test
+	public void testFrozenOptions() {
+		final QueryOptions options = testOptions().sqlType(String.class, Types.VARCHAR)
+				.freeze();
+		Assertions.assertTrue(options.frozen());
+		Assertions.assertThrows(IllegalStateException.class, () -> options.pretty(true));
+		Assertions.assertThrows(IllegalStateException.class, () -> options.dialect(new MySQLDialect()));
+		Assertions.assertThrows(IllegalStateException.class, () -> options.sqlType(Integer.class, Types.BIGINT));
+		Assertions.assertEquals(Types.VARCHAR, options.sqlType("A"));
+
+		// copies can be changed without affecting the frozen options
+		final QueryOptions copy = options.copy()
+				.sqlType(String.class, 0)
+				.pretty(true);
+		Assertions.assertFalse(copy.frozen());
+		Assertions.assertEquals(Types.VARCHAR, options.sqlType("A"));
+		Assertions.assertNotEquals(Types.VARCHAR, copy.sqlType("A"));
+		Assertions.assertFalse(options.pretty());
+
+		// the shared defaults are frozen, getDefaultOptions returns a copy
+		Assertions.assertTrue(QueryOptions.defaults()
+				.frozen());
+		Assertions.assertFalse(QueryOptions.getDefaultOptions()
+				.frozen());
+	}
+
+	@Test
+	public void testStreamingRender() {
+		final List<Integer> chunks = new ArrayList<>();
+		final StringBuilder streamed = new StringBuilder();
+		final Appendable out = new Appendable() {
+
+			@Override
+			public Appendable append(final CharSequence csq) {
+				return append(csq, 0, csq.length());
+			}
+
+			@Override
+			public Appendable append(final CharSequence csq, final int start, final int end) {
+				chunks.add(end - start);
+				streamed.append(csq, start, end);
+				return this;
+			}
+
+			@Override
+			public Appendable append(final char c) {
+				return append(String.valueOf(c));
+			}
+		};
+
+		final Insert insert = SQLBuilder.Insert("TEST");
+		final InsertValue col1 = insert.column("COL1");
+		final InsertValue col2 = insert.column("COL2");
+		for (int i = 0; i < 20000; i++) {
+			col1.value(i);
+			col2.value("value " + i);
+		}
+
+		for (final QueryOptions options : new QueryOptions[] { testOptions(), testOptions().pretty(true) }) {
+			chunks.clear();
+			streamed.setLength(0);
+			insert.render(out, new RenderContext(options));
+
+			Assertions.assertEquals(insert.string(options), streamed.toString());
+			Assertions.assertTrue(chunks.size() > 10);
+			for (final int chunk : chunks)
+				Assertions.assertTrue(chunk < 2 * QueryWriter.COMMIT_THRESHOLD);
+		}
+
+		Union union = SQLBuilder.Select("COL1")
+				.from("TEST")
+				.where()
+				.col("COL1", 0)
+				.union();
+		for (int i = 1; i < 500; i++)
+			union = union.select("COL1")
+					.from("TEST")
+					.where()
+					.exists(SQLBuilder.Select("1")
+							.from("OTHER"))
+					.col("COL1", i)
+					.unionAll();
+		final Query query = union.select("COL1")
+				.from("LAST")
+				.query();
+
+		// the SQL postprocessor requires the complete string, so it is not set here
+		final QueryOptions options = new QueryOptions();
+		final StringWriter writer = new StringWriter();
+		chunks.clear();
+		streamed.setLength(0);
+		query.render(writer, new RenderContext(options));
+		query.render(out, new RenderContext(options));
+		Assertions.assertEquals(query.string(options), writer.toString());
+		Assertions.assertEquals(writer.toString(), streamed.toString());
+		Assertions.assertTrue(chunks.size() > 1);
+
+		// a StringBuilder is appended to directly
+		final StringBuilder sb = new StringBuilder("-- ");
+		SQLBuilder.Select("COL1")
+				.from("TEST")
+				.render(sb, new RenderContext(testOptions()));
+		Assertions.assertEquals("-- SELECT COL1 FROM TEST", sb.toString());
+	}
+
+	@Test
+	public void testStringLiterals() {
+		// input, generic, MySQL, MSSQL
+		final String[][] corpus = { { "", "''", "''", "''" }, { "abc", "'abc'", "'abc'", "'abc'" },
+				{ "it's", "'it''s'", "'it''s'", "'it''s'" }, { "'", "''''", "''''", "''''" },
+				{ "''", "''''''", "''''''", "''''''" }, { "a''b'", "'a''''b'''", "'a''''b'''", "'a''''b'''" },
+				{ "C:\\temp", "'C:\\temp'", "'C:\\\\temp'", "'C:\\temp'" },
+				{ "\\'", "'\\'''", "'\\\\'''", "'\\'''" }, { "Grüße", "'Grüße'", "'Grüße'", "N'Grüße'" },
+				{ "l'été", "'l''été'", "'l''été'", "N'l''été'" }, { "\n\t", "'\n\t'", "'\n\t'", "'\n\t'" } };
+
+		final Dialect[] dialects = { GenericDialect.INSTANCE, new MySQLDialect(), new MSSQLDialect() };
+		for (final String[] entry : corpus)
+			for (int d = 0; d < dialects.length; d++) {
+				final QueryOptions options = new QueryOptions().pretty(false)
+						.dialect(dialects[d]);
+				Assertions.assertEquals(entry[d + 1], QueryUtils.valueToString(options, entry[0]));
+				Assertions.assertEquals("SELECT * FROM TEST WHERE COL1 = " + entry[d + 1], SQLBuilder.Select()
+						.from("TEST")
+						.where()
+						.col("COL1", entry[0])
+						.string(options));
+			}
+
+		// differential test against a plain replacement
+		final Random random = new Random(42);
+		final char[] alphabet = { 'a', 'b', '\'', '\\', ' ', 'ä', '"' };
+		for (int i = 0; i < 10000; i++) {
+			final char[] chars = new char[random.nextInt(12)];
+			for (int j = 0; j < chars.length; j++)
+				chars[j] = alphabet[random.nextInt(alphabet.length)];
+			final String string = new String(chars);
+			Assertions.assertEquals(string.replace("'", "''"), QueryUtils.sqlStringEscape(string));
+			Assertions.assertEquals(string.replace("\\", "\\\\")
+					.replace("'", "''"), new QueryWriter().appendEscaped(string, true)
+							.toString());
+		}
+
+		// strings without quotes are not copied
+		final String plain = "no quotes here";
+		Assertions.assertSame(plain, QueryUtils.sqlStringEscape(plain));
+	}
+
+	@Test
+	public void testLiteralRegistry() {
+		final QueryOptions options = testOptions();
+		final LocalDateTime dateTime = LocalDateTime.of(2020, 1, 31, 13, 45, 30, 123000000);
+
+		Assertions.assertEquals("42", QueryUtils.valueToString(options, 42));
+		Assertions.assertEquals("42", QueryUtils.valueToString(options, 42L));
+		Assertions.assertEquals("7", QueryUtils.valueToString(options, (short) 7));
+		Assertions.assertEquals("1.5", QueryUtils.valueToString(options, 1.5));
+		Assertions.assertEquals("false", QueryUtils.valueToString(options, false));
+		Assertions.assertEquals("1000000000000.0001",
+				QueryUtils.valueToString(options, new BigDecimal("1000000000000.0001")));
+		Assertions.assertEquals("'00000000-0000-0001-0000-000000000002'",
+				QueryUtils.valueToString(options, new UUID(1, 2)));
+		Assertions.assertEquals("X'00FF1A'", QueryUtils.valueToString(options, new byte[] { 0, -1, 26 }));
+		Assertions.assertEquals("'2020-01-31'", QueryUtils.valueToString(options, dateTime.toLocalDate()));
+		Assertions.assertEquals("'2020-01-31 13:45:30.123'", QueryUtils.valueToString(options, dateTime));
+		Assertions.assertEquals("'2020-01-31 13:45:30.123'",
+				QueryUtils.valueToString(options, Timestamp.valueOf(dateTime)));
+		Assertions.assertEquals("'2020-01-31 13:45:30.123'",
+				QueryUtils.valueToString(options, dateTime.toInstant(ZoneOffset.UTC)));
+		Assertions.assertEquals("", QueryUtils.valueToString(options, new Object()));
+
+		// java.util.Date and its subclasses use the date format of the options
+		final java.sql.Date date = new java.sql.Date(Timestamp.valueOf(dateTime)
+				.getTime());
+		Assertions.assertEquals("'2020-01-31 13:45'",
+				QueryUtils.valueToString(options.dateFormat("yyyy-MM-dd HH:mm"), date));
+		Assertions.assertSame(LiteralRegistry.dateFormat("yyyy-MM-dd HH:mm"),
+				LiteralRegistry.dateFormat("yyyy-MM-dd HH:mm"));
+		// the pattern keeps the SimpleDateFormat meaning of u and S
+		Assertions.assertEquals("'2020-01-31 5 123'", QueryUtils.valueToString(options.copy()
+				.dateFormat("yyyy-MM-dd u SS"), new java.util.Date(Timestamp.valueOf(dateTime)
+						.getTime())));
+
+		// dialect specific literals
+		Assertions.assertEquals("TIMESTAMP '2020-01-31 13:45:30.123'",
+				QueryUtils.valueToString(testOptions().dialect(new OracleDialect()), dateTime));
+		Assertions.assertEquals("date '2020-01-31'", QueryUtils.valueToString(testOptions().dialect(new OracleDialect())
+				.uppercase(false), dateTime.toLocalDate()));
+		Assertions.assertEquals("HEXTORAW('0A')",
+				QueryUtils.valueToString(testOptions().dialect(new OracleDialect()), new byte[] { 10 }));
+		Assertions.assertEquals("0x0A",
+				QueryUtils.valueToString(testOptions().dialect(new MSSQLDialect()), new byte[] { 10 }));
+
+		// custom renderers, also used for subclasses
+		final LiteralRegistry literals = new LiteralRegistry().register(Number.class,
+				(writer, opts, value) -> writer.append("NUM(")
+						.append(value.toString())
+						.append(')'))
+				.register(Integer.class, null);
+		Assertions.assertEquals("SELECT * FROM TEST WHERE COL1 = NUM(1) AND COL2 = 2", SQLBuilder.Select()
+				.from("TEST")
+				.where()
+				.col("COL1", 1)
+				.col("COL2", 2L)
+				.string(testOptions().literals(literals)));
+		Assertions.assertSame(LiteralRegistry.DEFAULT, testOptions().literals(null)
+				.literals());
+	}
+
+	@Test
+	public void testBindBuffer() throws Exception {
+		final BindBuffer buffer = new BindBuffer(2);
+		buffer.add(1)
+				.add(2L)
+				.add("A")
+				.add(1.5)
+				.add(true)
+				.add(null)
+				.add(new BigDecimal("1.10"))
+				.add(new Object[0]);
+		Assertions.assertEquals(8, buffer.size());
+		Assertions.assertEquals(BindBuffer.Type.INT, buffer.type(1));
+		Assertions.assertEquals(BindBuffer.Type.BOOLEAN, buffer.type(5));
+		Assertions.assertEquals(BindBuffer.Type.NULL, buffer.type(6));
+		Assertions.assertEquals(BindBuffer.Type.OBJECT, buffer.type(8));
+		Assertions.assertEquals(Arrays.asList(1, 2L, "A", 1.5, true, null, new BigDecimal("1.10")), buffer.values()
+				.subList(0, 7));
+
+		final List<String> calls = new ArrayList<>();
+		final PreparedStatement stmt = stubConnection(calls).prepareStatement("");
+		calls.clear();
+		buffer.bind(stmt);
+		Assertions.assertEquals(
+				Arrays.asList("setInt[1, 1]", "setLong[2, 2]", "setString[3, A]", "setDouble[4, 1.5]",
+						"setBoolean[5, true]", "setObject[6, null]", "setBigDecimal[7, 1.10]"),
+				calls.subList(0, 7));
+
+		// the buffer is reused with typed setters
+		calls.clear();
+		buffer.clear()
+				.setInt(1, 7)
+				.setTimestamp(2, new Timestamp(0))
+				.setString(3, null);
+		Assertions.assertEquals(8, buffer.size());
+		Assertions.assertEquals(BindBuffer.Type.TIMESTAMP, buffer.type(2));
+		Assertions.assertEquals(BindBuffer.Type.NULL, buffer.type(3));
+		buffer.bind(stmt, 2);
+		Assertions.assertEquals("setInt[2, 7]", calls.get(0));
+		Assertions.assertTrue(calls.get(1)
+				.startsWith("setTimestamp[3, "));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> buffer.setInt(9, 1));
+
+		// compiled queries hand out reusable buffers
+		final CompiledQuery compiled = SQLBuilder.Select("COL1")
+				.from("TEST")
+				.where()
+				.col("COL1", 1)
+				.col("COL2", "A")
+				.query()
+				.compile(testOptions());
+		final BindBuffer bindings = compiled.bindings();
+		Assertions.assertEquals(Arrays.asList(1, "A"), bindings.values());
+		calls.clear();
+		compiled.bind(stmt, bindings.setInt(1, 5)
+				.setString(2, "B"));
+		Assertions.assertEquals(Arrays.asList("setInt[1, 5]", "setString[2, B]"), calls);
+		Assertions.assertArrayEquals(new Object[] { 1, "A" }, compiled.values());
+		Assertions.assertThrows(IllegalArgumentException.class, () -> compiled.bind(stmt, new BindBuffer().add(1)));
+	}
+
+	@Test
+	public void testSqlTypes() throws Exception {
+		final List<String> calls = new ArrayList<>();
+		final Connection connection = stubConnection(calls);
+
+		SQLBuilder.Select()
+				.from("TEST")
+				.where()
+				.col("COL1")
+				.eq("A", Types.VARCHAR)
+				.col("COL2")
+				.in(new Object[] { 1, 2 }, Types.SMALLINT)
+				.col("COL3")
+				.between(1L, 9L, Types.BIGINT)
+				.col("COL4", "B")
+				.query()
+				.prepare(connection, testOptions());
+		Assertions.assertEquals(Arrays.asList("setObject[1, A, 12]", "setObject[2, 1, 5]", "setObject[3, 2, 5]",
+				"setObject[4, 1, -5]", "setObject[5, 9, -5]", "setString[6, B]"),
+				calls.subList(calls.size() - 6, calls.size()));
+
+		// default types by value class, from the options or the dialect
+		final QueryOptions options = testOptions().sqlType(String.class, Types.VARCHAR)
+				.dialect(new Dialect() {
+
+					@Override
+					public int sqlType(final Class<?> type) {
+						return type == Integer.class ? Types.INTEGER : 0;
+					}
+
+				});
+		calls.clear();
+		SQLBuilder.Update("TEST")
+				.set("COL1")
+				.value(null, Types.DATE)
+				.set("COL2", "A")
+				.set("COL3", 1)
+				.set("COL4", 1L)
+				.query()
+				.prepare(connection, options);
+		Assertions.assertEquals(
+				Arrays.asList("setNull[1, 91]", "setObject[2, A, 12]", "setObject[3, 1, 4]", "setLong[4, 1]"),
+				calls.subList(calls.size() - 4, calls.size()));
+		Assertions.assertEquals(0, options.copy()
+				.sqlType(String.class, 0)
+				.sqlType("A"));
+		Assertions.assertEquals(Types.VARCHAR, options.sqlType("A"));
+
+		// compiled queries keep the types of their slots
+		final CompiledQuery compiled = SQLBuilder.Insert("TEST")
+				.column("COL1")
+				.value("A", Types.CHAR)
+				.query()
+				.compile(testOptions());
+		Assertions.assertEquals(Types.CHAR, compiled.slots()
+				.get(0)
+				.sqlType());
+		calls.clear();
+		compiled.bind(connection.prepareStatement(""), "B");
+		compiled.bind(connection.prepareStatement(""), compiled.bindings()
+				.set(1, null));
+		Assertions.assertEquals(Arrays.asList("prepareStatement[]", "setObject[1, B, 1]", "prepareStatement[]",
+				"setNull[1, 1]"), calls);
+	}
+
+	@Test
+	public void testStatementCache() throws Exception {
+		final List<String> calls = new ArrayList<>();
+		final Connection connection = stubConnection(calls);
+		final StatementCache cache = new StatementCache(2);
+		final QueryOptions options = testOptions().statementCache(cache)
+				.fetchSize(10);
+		final Query query = SQLBuilder.Select()
+				.from("TEST")
+				.where()
+				.col("COL1", 1)
+				.query();
+
+		final PreparedStatement first = query.prepare(connection, options);
+		// statements in use are not shared
+		final PreparedStatement second = query.prepare(connection, options);
+		Assertions.assertNotSame(first, second);
+		Assertions.assertEquals(2, cache.misses());
+		cache.release(first);
+		cache.release(second);
+		Assertions.assertEquals(1, cache.size());
+		Assertions.assertEquals(1, cache.evictions());
+		Assertions.assertTrue(calls.contains("close"));
+
+		// reuse clears the parameters and applies the options again
+		calls.clear();
+		Assertions.assertSame(second, query.prepare(connection, options));
+		Assertions.assertEquals(Arrays.asList("isClosed", "clearParameters", "setFetchSize[10]", "setMaxRows[0]",
+				"setFetchDirection[1000]", "setInt[1, 1]"), calls);
+		Assertions.assertEquals(1, cache.hits());
+		Assertions.assertEquals(1 / 3d, cache.hitRatio(), 0.001);
+		cache.release(second);
+
+		// keyed by SQL and returnGeneratedKeys, bounded per connection
+		query.prepare(connection, options.copy()
+				.returnGeneratedKeys(true));
+		cache.release(query.prepare(connection, options.copy()
+				.returnGeneratedKeys(true)));
+		Assertions.assertEquals(2, cache.size());
+		cache.release(SQLBuilder.Delete("TEST")
+				.query()
+				.prepare(connection, options));
+		Assertions.assertEquals(2, cache.size());
+		Assertions.assertEquals(2, cache.evictions());
+		cache.release(SQLBuilder.Delete("TEST")
+				.query()
+				.compile(options)
+				.prepare(connection));
+		Assertions.assertEquals(2, cache.hits());
+
+		// other connections have their own statements
+		cache.release(query.prepare(stubConnection(calls), options));
+		Assertions.assertEquals(3, cache.size());
+
+		// foreign statements are closed
+		calls.clear();
+		cache.release(connection.prepareStatement(""));
+		Assertions.assertEquals("close", calls.get(calls.size() - 1));
+
+		cache.clear(connection);
+		Assertions.assertEquals(1, cache.size());
+		cache.clear();
+		Assertions.assertEquals(0, cache.size());
+		cache.resetStatistics();
+		Assertions.assertEquals(0, cache.hitRatio());
+	}
+
+	@Test
+	public void testStatementCacheLifecycle() throws Exception {
+		final List<String> calls = new ArrayList<>();
+		final StatementCache cache = new StatementCache();
+		final QueryOptions options = testOptions().statementCache(cache);
+		final Query query = SQLBuilder.Select()
+				.from("TEST")
+				.where()
+				.col("COL1", 1)
+				.query();
+
+		// closed connections are removed by removeClosed
+		final boolean[] closed = new boolean[1];
+		final Connection stub = stubConnection(calls);
+		final Connection dropped = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { Connection.class }, (proxy, method, args) -> method.getName()
+						.equals("isClosed") ? closed[0] : method.invoke(stub, args));
+		cache.release(query.prepare(dropped, options));
+		final Connection connection = stubConnection(new ArrayList<>());
+		cache.release(query.prepare(connection, options));
+		Assertions.assertEquals(2, cache.size());
+		Assertions.assertEquals(0, cache.removeClosed());
+		closed[0] = true;
+		calls.clear();
+		Assertions.assertEquals(1, cache.removeClosed());
+		Assertions.assertEquals(1, cache.size());
+		Assertions.assertEquals(Arrays.asList("close"), calls);
+
+		// the least recently used connection is removed if too many are cached
+		final List<String> evicted = new ArrayList<>();
+		final StatementCache bounded = new StatementCache(1, 2);
+		final QueryOptions boundedOptions = testOptions().statementCache(bounded);
+		final Connection first = stubConnection(evicted);
+		bounded.release(query.prepare(first, boundedOptions));
+		bounded.release(query.prepare(stubConnection(new ArrayList<>()), boundedOptions));
+		bounded.release(query.prepare(first, boundedOptions));
+		Assertions.assertEquals(1, bounded.hits());
+		Assertions.assertFalse(evicted.contains("close"));
+		bounded.release(query.prepare(stubConnection(new ArrayList<>()), boundedOptions));
+		Assertions.assertEquals(2, bounded.size());
+		Assertions.assertFalse(evicted.contains("close"));
+		bounded.release(query.prepare(stubConnection(new ArrayList<>()), boundedOptions));
+		Assertions.assertEquals(2, bounded.size());
+		Assertions.assertEquals("close", evicted.get(evicted.size() - 1));
+
+		// statements of a cleared connection are closed when released
+		calls.clear();
+		final PreparedStatement leased = query.prepare(dropped, options);
+		cache.clear(dropped);
+		cache.release(leased);
+		Assertions.assertEquals(1, cache.size());
+		Assertions.assertEquals("close", calls.get(calls.size() - 1));
+
+		// releasing a postprocessed statement returns the cached statement
+		final QueryOptions wrapping = options.copy()
+				.stmtPostprocessor((stmt, o, c) -> (PreparedStatement) Proxy.newProxyInstance(
+						getClass().getClassLoader(), new Class<?>[] { PreparedStatement.class },
+						(proxy, method, args) -> method.invoke(stmt, args)));
+		cache.clear();
+		cache.resetStatistics();
+		closed[0] = false;
+		calls.clear();
+		final PreparedStatement wrapped = query.prepare(dropped, wrapping);
+		cache.release(wrapped);
+		Assertions.assertFalse(calls.contains("close"));
+		Assertions.assertEquals(1, cache.size());
+		final PreparedStatement reused = query.prepare(dropped, wrapping);
+		Assertions.assertNotSame(wrapped, reused);
+		Assertions.assertEquals(1, cache.hits());
+		cache.release(reused);
+		Assertions.assertFalse(calls.contains("close"));
+		Assertions.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testBatch() throws Exception {
+		final List<String> calls = new ArrayList<>();
+		final Connection connection = stubConnection(calls);
+		final Query query = SQLBuilder.Insert("TEST")
+				.column("COL1", 0)
+				.column("COL2", "A")
+				.query();
+
+		final Map<String, Object> row = new LinkedHashMap<>();
+		row.put("COL1", 2);
+		row.put("COL2", "C");
+		final ValueHolder holder = new ValueHolder() {
+
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+				return row.entrySet()
+						.iterator();
+			}
+
+		};
+		final Batch.Result result = query.batch(connection, testOptions())
+				.batchSize(2)
+				.add(1, "B")
+				.add(holder)
+				.add(new BindBuffer().add(3)
+						.add("D"))
+				.execute();
+
+		Assertions.assertEquals(1, calls.stream()
+				.filter(call -> call.startsWith("prepareStatement"))
+				.count());
+		Assertions.assertEquals(2, calls.stream()
+				.filter(call -> call.equals("executeBatch"))
+				.count());
+		Assertions.assertEquals(Arrays.asList("setInt[1, 1]", "setString[2, B]", "addBatch", "setInt[1, 2]",
+				"setString[2, C]", "addBatch", "executeBatch"), calls.subList(4, 11));
+		Assertions.assertEquals("close", calls.get(calls.size() - 1));
+		Assertions.assertArrayEquals(new int[] { 1, 1, 1 }, result.updateCounts());
+		Assertions.assertEquals(3, result.updateCount());
+		Assertions.assertEquals(3, result.rows());
+		Assertions.assertTrue(result.generatedKeys()
+				.isEmpty());
+
+		// rows must match the compiled shape, closed batches can not be reused
+		final Batch batch = query.batch(connection, testOptions());
+		Assertions.assertThrows(IllegalArgumentException.class, () -> batch.add(1));
+		batch.close();
+		Assertions.assertThrows(IllegalStateException.class, () -> batch.add(1, "B"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> batch.batchSize(0));
+
+		// with a statement cache, the statement is released instead of closed
+		final StatementCache cache = new StatementCache();
+		query.batch(connection, testOptions().statementCache(cache))
+				.add(1, "B")
+				.execute();
+		Assertions.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testChunkedInsert() throws Exception {
+		final Insert insert = SQLBuilder.Insert("TEST");
+		final Object[] ids = new Object[1500];
+		final Object[] names = new Object[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = i;
+			names[i] = "N" + i;
+		}
+		insert.column("COL1")
+				.values(ids)
+				.column("COL2")
+				.values(names)
+				.column("COL3")
+				.values(names);
+
+		// 2100 parameters on MSSQL allow 700 rows of 3 columns
+		final QueryOptions options = testOptions().dialect(new MSSQLDialect());
+		final ChunkedInsert chunked = insert.chunked();
+		Assertions.assertArrayEquals(new int[] { 700, 700, 64, 8, 8, 8, 8, 1, 1, 1, 1 }, chunked.chunkRows(options));
+		Assertions.assertEquals(30, chunked.chunkRows(testOptions().dialect(new PostgresDialect())).length);
+		Assertions.assertArrayEquals(new int[] { 5, 1 }, ChunkedInsert.chunkSizes(5));
+		Assertions.assertArrayEquals(new int[] { 64, 8, 1 }, ChunkedInsert.chunkSizes(64));
+
+		final List<Insert> chunks = chunked.chunks(options);
+		Assertions.assertEquals("INSERT INTO TEST (COL1, COL2, COL3) VALUES (1499, 'N1499', 'N1499')",
+				chunks.get(10)
+						.string(options));
+		Assertions.assertEquals("INSERT INTO TEST (COL1, COL2, COL3) VALUES (?, ?, ?), (?, ?, ?), (?, ?, ?), "
+				+ "(?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?)", chunks.get(3)
+						.query()
+						.compile(options)
+						.sql());
+		Assertions.assertEquals(4, chunks.stream()
+				.map(chunk -> chunk.query()
+						.compile(options)
+						.sql())
+				.distinct()
+				.count());
+
+		// sequential execution prepares every chunk with its own values
+		final List<String> calls = new ArrayList<>();
+		final Batch.Result sequential = chunked.execute(stubConnection(calls), options);
+		Assertions.assertEquals(11, sequential.rows());
+		Assertions.assertEquals(11, calls.stream()
+				.filter(call -> call.equals("executeUpdate"))
+				.count());
+		Assertions.assertTrue(calls.contains("setInt[1, 1496]"));
+		Assertions.assertTrue(calls.contains("setString[3, N1499]"));
+		Assertions.assertEquals(ids.length * 3, calls.stream()
+				.filter(call -> call.startsWith("set") && !call.startsWith("setFetch") && !call.startsWith("setMax"))
+				.count());
+
+		// batch execution executes one batch per chunk size
+		calls.clear();
+		final Batch.Result batched = chunked.batch(true)
+				.execute(stubConnection(calls), options);
+		Assertions.assertEquals(11, batched.rows());
+		Assertions.assertEquals(11, batched.updateCount());
+		Assertions.assertEquals(4, calls.stream()
+				.filter(call -> call.equals("executeBatch"))
+				.count());
+		Assertions.assertEquals(4, calls.stream()
+				.filter(call -> call.startsWith("prepareStatement"))
+				.count());
+	}
+
+	@Test
+	public void testInListPadding() {
+		final QueryOptions options = testOptions().padInLists(true);
+		InListPadding.resetStatistics();
+		InListPadding.setStatisticsEnabled(true);
+
+		for (int count = 1; count <= 1000; count++) {
+			final Object[] values = new Object[count];
+			Arrays.fill(values, 1);
+			SQLBuilder.Select()
+					.from("TEST")
+					.where()
+					.col("COL1")
+					.in(values)
+					.query()
+					.string(new RenderContext(options.copy()
+							.dialect(new PostgresDialect()), true), null);
+		}
+		Assertions.assertEquals(1000, InListPadding.getLists());
+		Assertions.assertEquals(11, InListPadding.getPaddedShapes());
+		Assertions.assertEquals(989, InListPadding.getShapesAvoided());
+		Assertions.assertEquals(4, InListPadding.paddedSize(3, 1000));
+		Assertions.assertEquals(1000, InListPadding.paddedSize(600, 1000));
+		Assertions.assertEquals(1200, InListPadding.paddedSize(1200, 1000));
+
+		// the last value is repeated
+		final RenderContext context = new RenderContext(options, true);
+		Assertions.assertEquals("SELECT * FROM TEST WHERE COL1 IN (?, ?, ?, ?)", SQLBuilder.Select()
+				.from("TEST")
+				.where()
+				.col("COL1")
+				.in(1, 2, 3)
+				.query()
+				.string(context, null));
+		Assertions.assertEquals(Arrays.asList(1, 2, 3, 3), context.preparedValues());
+
+		// padding is skipped if it would exceed the parameter limit with the other
+		// parameters of the statement
+		final Function<Integer, Query> padded = count -> {
+			final Object[] list = new Object[count];
+			Arrays.fill(list, 1);
+			return SQLBuilder.Select()
+					.from("TEST")
+					.where()
+					.col("COL2", 1)
+					.col("COL1")
+					.in(list)
+					.query();
+		};
+		final RenderContext fits = new RenderContext(options, true);
+		padded.apply(300)
+				.string(fits, null);
+		Assertions.assertEquals(1 + 512, fits.preparedValues()
+				.size());
+		final RenderContext exceeds = new RenderContext(options, true);
+		padded.apply(600)
+				.string(exceeds, null);
+		Assertions.assertEquals(1 + 600, exceeds.preparedValues()
+				.size());
+
+		// lists exceeding the limit of the dialect are split into groups
+		final Object[] values = new Object[2500];
+		for (int i = 0; i < values.length; i++)
+			values[i] = i;
+		final Query query = SQLBuilder.Select()
+				.from("TEST")
+				.where()
+				.col("COL1")
+				.not()
+				.in(values)
+				.col("COL2", 1)
+				.query();
+		final RenderContext oracle = new RenderContext(options.copy()
+				.dialect(new OracleDialect()), true);
+		final String sql = query.string(oracle, null);
+		Assertions.assertTrue(sql.startsWith("SELECT * FROM TEST WHERE NOT (COL1 IN (?, "));
+		Assertions.assertTrue(sql.endsWith("?)) AND COL2 = ?"));
+		Assertions.assertEquals(2, sql.split(" OR COL1 IN \\(").length - 1);
+		Assertions.assertEquals(1000 + 1000 + 512 + 1, oracle.preparedValues()
+				.size());
+		Assertions.assertEquals(1, InListPadding.getSplits());
+
+		final String literal = query.string(testOptions().dialect(new OracleDialect()));
+		Assertions.assertTrue(literal.contains(", 999) OR COL1 IN (1000, "));
+		Assertions.assertTrue(literal.endsWith(", 2499)) AND COL2 = 1"));
+
+		// rendering does not count anything while the statistics are disabled
+		final long lists = InListPadding.getLists();
+		final long splits = InListPadding.getSplits();
+		InListPadding.setStatisticsEnabled(false);
+		query.string(new RenderContext(options.copy()
+				.dialect(new OracleDialect()), true), null);
+		Assertions.assertEquals(lists, InListPadding.getLists());
+		Assertions.assertEquals(splits, InListPadding.getSplits());
+	}
+
+	@Test
+	public void testInCollection() throws Exception {
+		final Function<Integer, Query> query = count -> {
+			final Object[] values = new Object[count];
+			for (int i = 0; i < count; i++)
+				values[i] = i;
+			return SQLBuilder.Select()
+					.from("TEST")
+					.where()
+					.col("COL1")
+					.in(values)
+					.query();
+		};
+		final QueryOptions options = testOptions().inCollectionThreshold(100);
+
+		// the SQL is the same for any number of values above the threshold
+		final QueryOptions postgres = options.copy()
+				.dialect(new PostgresDialect());
+		final RenderContext context = new RenderContext(postgres, true);
+		Assertions.assertEquals("SELECT * FROM TEST WHERE COL1 = ANY(?)", query.apply(5000)
+				.string(context, null));
+		Assertions.assertEquals("SELECT * FROM TEST WHERE COL1 = ANY(?)", query.apply(101)
+				.string(new RenderContext(postgres, true), null));
+		Assertions.assertEquals("SELECT * FROM TEST WHERE COL1 IN (?, ?)", query.apply(2)
+				.string(new RenderContext(postgres, true), null));
+		final ArrayValue array = (ArrayValue) context.preparedValues()
+				.get(0);
+		Assertions.assertEquals("int4", array.typeName());
+		Assertions.assertEquals(5000, array.elements().length);
+
+		final RenderContext mssql = new RenderContext(options.copy()
+				.dialect(new MSSQLDialect()), true);
+		Assertions.assertEquals("SELECT * FROM TEST WHERE COL1 IN (SELECT value FROM OPENJSON(?) WITH (value int '$'))",
+				SQLBuilder.Select()
+						.from("TEST")
+						.where()
+						.col("COL1")
+						.inCollection(1, "a\"b", null, true)
+						.query()
+						.string(mssql, null));
+		Assertions.assertEquals(Arrays.asList("[1,\"a\\\"b\",true]"), mssql.preparedValues());
+
+		// the element type is taken from the SQL type of the IN list, then from the
+		// class of the values
+		final Object[] mixed = new Object[101];
+		for (int i = 0; i < mixed.length; i++)
+			mixed[i] = i % 2 == 0 ? (Object) i : (Object) (long) i;
+		final Function<Integer, Query> typed = sqlType -> SQLBuilder.Select()
+				.from("TEST")
+				.where()
+				.col("COL1")
+				.in(mixed, sqlType)
+				.query();
+		final RenderContext typedPostgres = new RenderContext(postgres, true);
+		typed.apply(Types.BIGINT)
+				.string(typedPostgres, null);
+		Assertions.assertEquals("int8", ((ArrayValue) typedPostgres.preparedValues()
+				.get(0)).typeName());
+		final RenderContext typedOracle = new RenderContext(options.copy()
+				.dialect(new OracleDialect()), true);
+		typed.apply(Types.VARCHAR)
+				.string(typedOracle, null);
+		Assertions.assertEquals("SYS.ODCIVARCHAR2LIST", ((TableParameter.OracleArray) typedOracle.preparedValues()
+				.get(0)).typeName());
+		Assertions.assertEquals("SELECT * FROM TEST WHERE COL1 IN (SELECT value FROM OPENJSON(?) WITH (value varchar(max) '$'))",
+				typed.apply(Types.VARCHAR)
+						.string(new RenderContext(mssql.options(), true), null));
+		Assertions.assertEquals("SELECT * FROM TEST WHERE COL1 IN (SELECT value FROM OPENJSON(?) WITH (value varchar(max) '$'))",
+				SQLBuilder.Select()
+						.from("TEST")
+						.where()
+						.col("COL1")
+						.inCollection("A", "B")
+						.query()
+						.string(new RenderContext(mssql.options()
+								.copy()
+								.sqlType(String.class, Types.VARCHAR), true), null));
+
+		// temporal values are written as ISO 8601 strings, non-finite numbers are
+		// rejected
+		Assertions.assertEquals(
+				"[\"2020-01-02\",\"2020-01-02T03:04:05\",\"2020-01-02T03:04:05.5\",\"03:04:00\",\"2020-01-02T03:04:05+01:00\"]",
+				OpenJsonParameter.INSTANCE.value(new Object[] { java.sql.Date.valueOf("2020-01-02"),
+						LocalDateTime.of(2020, 1, 2, 3, 4, 5), Timestamp.valueOf("2020-01-02 03:04:05.5"),
+						LocalTime.of(3, 4), OffsetDateTime.of(2020, 1, 2, 3, 4, 5, 0, ZoneOffset.ofHours(1)) }, 0));
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> OpenJsonParameter.INSTANCE.value(new Object[] { 1.5, Double.NaN }, 0));
+
+		final RenderContext oracle = new RenderContext(options.copy()
+				.dialect(new OracleDialect()), true);
+		Assertions.assertEquals("SELECT * FROM TEST WHERE COL1 IN (SELECT COLUMN_VALUE FROM TABLE(?))", query.apply(500)
+				.string(oracle, null));
+		Assertions.assertEquals("SYS.ODCINUMBERLIST", ((TableParameter.OracleArray) oracle.preparedValues()
+				.get(0)).typeName());
+
+		// dialects without a strategy and literals keep the regular IN list
+		Assertions.assertEquals(500 * 3 - 2 + "SELECT * FROM TEST WHERE COL1 IN ()".length(), query.apply(500)
+				.string(new RenderContext(options, true), null)
+				.length());
+		Assertions.assertTrue(query.apply(500)
+				.string(postgres)
+				.endsWith(", 499)"));
+
+		// values bind themselves
+		final List<String> calls = new ArrayList<>();
+		final PreparedStatement stmt = stubConnection(calls).prepareStatement("");
+		new BindBuffer().add((BindValue) (target, index) -> target.setString(index, "bound"), Types.ARRAY)
+				.bind(stmt);
+		Assertions.assertEquals("setString[1, bound]", calls.get(calls.size() - 1));
+	}
+
+	@Test
+	public void testStream() throws Exception {
+		final List<String> calls = new ArrayList<>();
+		final Object[][] rows = new Object[1000][];
+		for (int i = 0; i < rows.length; i++)
+			rows[i] = new Object[] { i, "N" + i };
+		final Connection connection = stubConnection(calls, new String[] { "ID", "NAME" }, rows);
+		final Query query = SQLBuilder.Select("ID", "NAME")
+				.from("TEST")
+				.query();
+
+		// rows are read only as far as the stream is consumed
+		try (Stream<String> stream = query.stream(connection, testOptions().fetchSize(100),
+				(rs, rowNum) -> rowNum + ":" + rs.getString(2))) {
+			Assertions.assertEquals(Arrays.asList("0:N0", "1:N1", "2:N2"), stream.limit(3)
+					.collect(Collectors.toList()));
+			Assertions.assertTrue(calls.contains("setFetchSize[100]"));
+			Assertions.assertEquals(3, calls.stream()
+					.filter(call -> call.equals("next"))
+					.count());
+			Assertions.assertFalse(calls.contains("close"));
+		}
+		Assertions.assertEquals(2, calls.stream()
+				.filter(call -> call.equals("close"))
+				.count());
+
+		calls.clear();
+		try (Stream<Integer> stream = query.stream(connection, testOptions(), (rs, rowNum) -> rs.getInt(1))) {
+			Assertions.assertEquals(499500, stream.mapToInt(Integer::intValue)
+					.sum());
+		}
+		Assertions.assertEquals(1001, calls.stream()
+				.filter(call -> call.equals("next"))
+				.count());
+
+		// mappers may return null, for example for NULL columns
+		try (Stream<String> stream = query.stream(connection, testOptions(),
+				(rs, rowNum) -> rowNum % 2 == 0 ? null : rs.getString(2))) {
+			Assertions.assertFalse(stream.spliterator()
+					.hasCharacteristics(Spliterator.NONNULL));
+		}
+		try (Stream<String> stream = query.stream(connection, testOptions(),
+				(rs, rowNum) -> rowNum % 2 == 0 ? null : rs.getString(2))) {
+			Assertions.assertEquals(Arrays.asList(null, "N1", null), stream.limit(3)
+					.collect(Collectors.toList()));
+		}
+
+		// with a statement cache, the statement is released when the stream closes
+		final StatementCache cache = new StatementCache();
+		query.stream(connection, testOptions().statementCache(cache), (rs, rowNum) -> rowNum)
+				.close();
+		Assertions.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testExecuteAsync() throws Exception {
+		final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+		final Object[][] rows = { { 1, "A" }, { 2, "B" } };
+		final DataSource dataSource = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+					if (method.getDeclaringClass() == Object.class)
+						return stubObject(proxy, method, args);
+					return stubConnection(calls, new String[] { "ID", "NAME" }, rows);
+				});
+		final ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			final AsyncExecutor executor = new AsyncExecutor(pool, 4).maxConcurrency(dataSource, 2);
+			final Query query = SQLBuilder.Select("ID", "NAME")
+					.from("TEST")
+					.query();
+			Assertions.assertEquals(Arrays.asList("A", "B"), query
+					.executeAsync(dataSource, testOptions(), (rs, rowNum) -> rs.getString(2), executor)
+					.get(10, TimeUnit.SECONDS));
+			Assertions.assertTrue(calls.contains("close"));
+
+			// tasks above the limit of the DataSource wait without blocking a thread
+			final CountDownLatch latch = new CountDownLatch(1);
+			final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				final int result = i;
+				futures.add(executor.submit(dataSource, connection -> {
+					try {
+						latch.await();
+					} catch (final InterruptedException e) {
+						Thread.currentThread()
+								.interrupt();
+					}
+					return result;
+				}));
+			}
+			Assertions.assertEquals(2, executor.running(dataSource));
+			Assertions.assertEquals(3, executor.queued(dataSource));
+			latch.countDown();
+			for (int i = 0; i < 5; i++)
+				Assertions.assertEquals(i, futures.get(i)
+						.get(10, TimeUnit.SECONDS));
+			Assertions.assertEquals(0, executor.queued(dataSource));
+
+			// failures complete the future exceptionally
+			final CompletableFuture<Object> failed = executor.submit(dataSource, connection -> {
+				throw new SQLException("failed");
+			});
+			final ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+					() -> failed.get(10, TimeUnit.SECONDS));
+			Assertions.assertTrue(e.getCause() instanceof SQLException);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	public static class OrderRow {
+
+		private long id;
+		private String name;
+		private Double amount;
+		private int quantity = -1;
+		private boolean active;
+
+		public void setId(final long id) {
+			this.id = id;
+		}
+
+		public OrderRow setName(final String name) {
+			this.name = name;
+			return this;
+		}
+
+		public void setAmount(final Double amount) {
+			this.amount = amount;
+		}
+
+		public void setQuantity(final int quantity) {
+			this.quantity = quantity;
+		}
+
+		public void setActive(final boolean active) {
+			this.active = active;
+		}
+
+	}
+
+	static class HiddenRow {
+
+		private String name;
+		private long customerId;
+
+		public void setName(final String name) {
+			this.name = name;
+		}
+
+		public void setCustomerId(final long customerId) {
+			this.customerId = customerId;
+		}
+
+	}
+
+	@Test
+	public void testRowMappers() throws Exception {
+		RowMappers.clear();
+		RowMappers.resetStatistics();
+
+		final List<String> calls = new ArrayList<>();
+		final String[] labels = { "ID", "NAME", "AMOUNT", "QUANTITY", "ACTIVE", "OTHER" };
+		final Object[][] rows = { { 1L, "A", 1.5, 3, true, "X" }, { 2L, null, null, null, false, "Y" } };
+		final Query query = SQLBuilder.Select("*")
+				.from("ORDERS")
+				.query();
+
+		final RowMapper<OrderRow> mapper = RowMappers.of(OrderRow.class);
+		try (Stream<OrderRow> stream = query.stream(stubConnection(calls, labels, rows), testOptions(), mapper)) {
+			final List<OrderRow> orders = stream.collect(Collectors.toList());
+			Assertions.assertEquals(2, orders.size());
+			Assertions.assertEquals(1L, orders.get(0).id);
+			Assertions.assertEquals("A", orders.get(0).name);
+			Assertions.assertEquals(1.5, orders.get(0).amount);
+			Assertions.assertEquals(3, orders.get(0).quantity);
+			Assertions.assertTrue(orders.get(0).active);
+
+			// null values are passed to object setters, primitive properties keep their default
+			Assertions.assertNull(orders.get(1).name);
+			Assertions.assertNull(orders.get(1).amount);
+			Assertions.assertEquals(-1, orders.get(1).quantity);
+			Assertions.assertFalse(orders.get(1).active);
+		}
+		Assertions.assertEquals(1, RowMappers.getMisses());
+		Assertions.assertEquals(0, RowMappers.getHits());
+
+		// the accessor is resolved once per result shape and class
+		try (Stream<OrderRow> stream = query.stream(stubConnection(calls, labels, rows), testOptions(),
+				RowMappers.of(OrderRow.class))) {
+			Assertions.assertEquals(2, stream.count());
+		}
+		Assertions.assertEquals(1, RowMappers.getMisses());
+		Assertions.assertEquals(1, RowMappers.getHits());
+		Assertions.assertEquals(1, RowMappers.getSize());
+
+		// non-public classes and setters are called through method handles
+		final String[] hiddenLabels = { "NAME", "CUSTOMER_ID" };
+		final Object[][] hiddenRows = { { "B", 7L } };
+		try (Stream<HiddenRow> stream = query.stream(stubConnection(calls, hiddenLabels, hiddenRows), testOptions(),
+				RowMappers.of(HiddenRow.class))) {
+			final HiddenRow row = stream.findFirst()
+					.get();
+			Assertions.assertEquals("B", row.name);
+			Assertions.assertEquals(7L, row.customerId);
+		}
+
+		try (Stream<Values> stream = query.stream(stubConnection(calls, labels, rows), testOptions(),
+				RowMappers.values())) {
+			final Values values = stream.findFirst()
+					.get();
+			Assertions.assertEquals(6, values.size());
+			Assertions.assertEquals("A", values.get("NAME"));
+			Assertions.assertEquals("X", values.get("OTHER"));
+		}
+		Assertions.assertEquals(3, RowMappers.getMisses());
+
+		// a full cache evicts accessors, mappers keep the accessor of their last shape
+		try {
+			RowMappers.setMaxSize(2);
+			Assertions.assertEquals(0, RowMappers.getSize());
+			final RowMapper<Values> values = RowMappers.values();
+			for (int i = 0; i < 4; i++)
+				try (Stream<Values> stream = query.stream(stubConnection(calls, new String[] { "COL" + i }, rows),
+						testOptions(), values)) {
+					Assertions.assertEquals(2, stream.count());
+				}
+			Assertions.assertEquals(2, RowMappers.getSize());
+			Assertions.assertEquals(2, RowMappers.getEvictions());
+
+			RowMappers.setMaxSize(0);
+			RowMappers.resetStatistics();
+			for (int i = 0; i < 2; i++)
+				try (Stream<Values> stream = query.stream(stubConnection(calls, labels, rows), testOptions(), values)) {
+					Assertions.assertEquals(2, stream.count());
+				}
+			Assertions.assertEquals(0, RowMappers.getSize());
+			Assertions.assertEquals(1, RowMappers.getMisses());
+			Assertions.assertEquals(1, RowMappers.getHits());
+		} finally {
+			RowMappers.setMaxSize(RowMappers.DEFAULT_MAX_SIZE);
+		}
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> RowMappers.of(Connection.class));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> RowMappers.of(Integer.class));
+	}
+
+	@Test
+	public void testKeyset() {
+		final QueryOptions options = testOptions();
+		final Keyset keyset = SQLBuilder.Select("*")
+				.from("ORDERS")
+				.where()
+				.col("STATUS", "OPEN")
+				.or()
+				.col("STATUS", "NEW")
+				.orderBy()
+				.desc("CREATED")
+				.asc("ID")
+				.keyset(20);
+
+		Assertions.assertEquals(
+				"SELECT * FROM ORDERS WHERE STATUS = 'OPEN' OR STATUS = 'NEW' ORDER BY CREATED DESC, ID ASC FETCH FIRST 20 ROWS ONLY",
+				keyset.string(options));
+
+		// mixed directions are expanded, the existing conditions are grouped
+		Assertions.assertEquals(
+				"SELECT * FROM ORDERS WHERE (STATUS = 'OPEN' OR STATUS = 'NEW') AND CREATED <= '2020-01-01' AND "
+						+ "(CREATED < '2020-01-01' OR CREATED = '2020-01-01' AND ID > 5) ORDER BY CREATED DESC, ID ASC "
+						+ "FETCH FIRST 20 ROWS ONLY",
+				keyset.after("2020-01-01", 5)
+						.string(options));
+		Assertions.assertEquals(
+				"SELECT * FROM ORDERS WHERE (STATUS = 'OPEN' OR STATUS = 'NEW') AND CREATED <= '2020-01-01' AND "
+						+ "(CREATED < '2020-01-01' OR CREATED = '2020-01-01' AND ID > 5) ORDER BY CREATED DESC, ID ASC "
+						+ "OFFSET 0 ROWS FETCH NEXT 20 ROWS ONLY",
+				keyset.string(options.copy()
+						.dialect(new MSSQLDialect())));
+
+		// row values are compared if all columns have the same direction
+		final QueryOptions postgres = options.copy()
+				.dialect(new PostgresDialect());
+		final Keyset ascending = SQLBuilder.Select("*")
+				.from("ORDERS")
+				.orderBy()
+				.asc("CREATED")
+				.asc("ID")
+				.keyset(50);
+		final String sql = "SELECT * FROM ORDERS WHERE (CREATED, ID) > (?, ?) ORDER BY CREATED ASC, ID ASC LIMIT 50";
+
+		// every page after the first renders the same SQL
+		RenderContext context = new RenderContext(postgres, true);
+		Assertions.assertEquals(sql, ascending.after("A", 1)
+				.query()
+				.string(context, null));
+		Assertions.assertEquals(Arrays.asList("A", 1), context.preparedValues());
+		context = new RenderContext(postgres, true);
+		Assertions.assertEquals(sql, ascending.after("B", 2)
+				.query()
+				.string(context, null));
+		Assertions.assertEquals(Arrays.asList("B", 2), context.preparedValues());
+
+		Assertions.assertEquals("SELECT * FROM ORDERS ORDER BY CREATED ASC, ID ASC LIMIT 50", ascending.first()
+				.string(postgres));
+		Assertions.assertEquals("SELECT * FROM ORDERS WHERE ID < 7 ORDER BY ID DESC FETCH FIRST 10 ROWS ONLY",
+				SQLBuilder.Select("*")
+						.from("ORDERS")
+						.orderBy()
+						.desc("ID")
+						.keyset(10)
+						.after(7)
+						.string(options));
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> ascending.after(1));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> ascending.after(1, null));
+		Assertions.assertThrows(IllegalStateException.class, () -> SQLBuilder.Select("STATUS")
+				.from("ORDERS")
+				.groupBy("STATUS")
+				.orderBy("STATUS")
+				.keyset(10)
+				.string(options));
+	}
+
+	@Test
+	public void testStreamingOptions() throws Exception {
+		final List<String> calls = new ArrayList<>();
+		final Object[][] rows = { { 1 }, { 2 } };
+		final Connection stub = stubConnection(calls, new String[] { "ID" }, rows);
+		final Connection connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { Connection.class }, (proxy, method, args) -> method.getName()
+						.equals("getAutoCommit") ? true : method.invoke(stub, args));
+		final Query query = SQLBuilder.Select("ID")
+				.from("TEST")
+				.query();
+
+		// the fetch size does not limit the number of rows
+		query.prepare(connection, testOptions().fetchSize(100));
+		Assertions.assertTrue(calls.contains("setFetchSize[100]"));
+		Assertions.assertTrue(calls.contains("setMaxRows[0]"));
+		calls.clear();
+		query.prepare(connection, testOptions().fetchFirst());
+		Assertions.assertTrue(calls.contains("setFetchSize[0]"));
+		Assertions.assertTrue(calls.contains("setMaxRows[1]"));
+
+		final QueryOptions streaming = testOptions().streaming(true);
+		Assertions.assertTrue(streaming.copy()
+				.streaming());
+		calls.clear();
+		query.prepare(connection, streaming);
+		Assertions.assertTrue(calls.contains("prepareStatement[SELECT ID FROM TEST, " + ResultSet.TYPE_FORWARD_ONLY
+				+ ", " + ResultSet.CONCUR_READ_ONLY + "]"));
+		Assertions.assertTrue(calls.contains("setFetchSize[" + QueryOptions.DEFAULT_STREAMING_FETCH_SIZE + "]"));
+
+		calls.clear();
+		query.prepare(connection, streaming.copy()
+				.dialect(new MySQLDialect()));
+		Assertions.assertTrue(calls.contains("setFetchSize[" + Integer.MIN_VALUE + "]"));
+
+		// PostgreSQL only uses a cursor without auto-commit
+		calls.clear();
+		try (Stream<Object> stream = query.stream(connection, streaming.copy()
+				.dialect(new PostgresDialect())
+				.fetchSize(50), (rs, rowNum) -> rs.getObject(1))) {
+			Assertions.assertEquals(2, stream.count());
+			Assertions.assertTrue(calls.contains("setFetchSize[50]"));
+			Assertions.assertEquals("setAutoCommit[false]", calls.get(0));
+			Assertions.assertFalse(calls.contains("setAutoCommit[true]"));
+		}
+		Assertions.assertEquals("setAutoCommit[true]", calls.get(calls.size() - 1));
+
+		calls.clear();
+		query.stream(connection, streaming, (rs, rowNum) -> rowNum)
+				.close();
+		Assertions.assertFalse(calls.contains("setAutoCommit[false]"));
+	}
+
 }